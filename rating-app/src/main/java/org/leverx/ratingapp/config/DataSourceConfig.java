@@ -0,0 +1,99 @@
+package org.leverx.ratingapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuration class for routing the read-only transactions to a read replica, enabled with the
+ * {@code datasource.replica.enabled} property. Otherwise the single data source of {@code spring.datasource}
+ * is auto-configured as usual.
+ * The primary database is configured by the {@code spring.datasource} properties and stays the target of the
+ * schema migrations and of every read-write transaction, the replica by the {@code datasource.replica} properties.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    /**
+     * Configures the connection pool of the primary database, migrated by Flyway.
+     *
+     * @param dataSourceProperties The {@code spring.datasource} connection properties.
+     * @return The pooled primary {@link HikariDataSource}.
+     */
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Configures the connection pool of the read replica, the pool settings are bound from the
+     * {@code datasource.replica.hikari} properties.
+     *
+     * @param url The JDBC URL of the replica.
+     * @param username The username of the replica.
+     * @param password The password of the replica.
+     * @return The pooled read-only replica {@link HikariDataSource}.
+     */
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username}") String username,
+                                              @Value("${datasource.replica.password}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Configures the {@link ReplicaRoutingDataSource} choosing between the primary and the replica.
+     *
+     * @param primary The primary data source.
+     * @param replica The replica data source.
+     * @param maxLag The replication lag above which read-only transactions fall back to the primary.
+     * @return The routing data source.
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                             @Qualifier("replicaDataSource") DataSource replica,
+                                                             @Value("${datasource.replica.max-lag}") Duration maxLag) {
+        return new ReplicaRoutingDataSource(primary, replica, maxLag);
+    }
+
+    /**
+     * Provides the data source used by JPA and JDBC. Connections are only fetched from the routing data source
+     * on the first statement, once the read-only flag of the transaction is known.
+     *
+     * @param routingDataSource The routing data source.
+     * @return A {@link LazyConnectionDataSourceProxy} of the routing data source.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,50 @@
+package org.leverx.ratingapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Configuration class for the worker pool delivering the emails of the outbox.
+ * The pool and its queue are bounded, so a slow SMTP server cannot exhaust the application threads.
+ */
+@Configuration
+public class EmailOutboxConfig {
+
+    /**
+     * Defines the executor on which the outbox worker sends batches of emails, one SMTP session per task.
+     * In the virtual-thread execution mode every session runs on its own virtual thread,
+     * and the concurrency limit keeps the number of open SMTP sessions bounded by the same worker count.
+     *
+     * @param workers        The number of concurrent SMTP sessions.
+     * @param virtualThreads Whether the application runs in the virtual-thread execution mode.
+     * @return The configured {@link AsyncTaskExecutor}.
+     */
+    @Bean
+    public AsyncTaskExecutor emailOutboxExecutor(@Value("${email.outbox.workers}") int workers,
+                                                 @Value("${spring.threads.virtual.enabled}") boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("email-outbox-");
+            executor.setVirtualThreads(true);
+            // Once the limit is reached, the polling thread waits for a free slot instead of dropping the batch
+            executor.setConcurrencyLimit(workers);
+            executor.setTaskTerminationTimeout(30_000);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers * 4);
+        // When the queue is full, the polling thread sends the batch itself instead of dropping it
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("email-outbox-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,68 @@
+package org.leverx.ratingapp.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.util.Pool;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@link JedisConnectionFactory} exporting the state of its connection pool as metrics.
+ * The number of active and idle connections and of threads waiting for a connection are exported as gauges,
+ * and the time spent borrowing each connection from the pool is recorded in a histogram,
+ * so that a saturated pool is visible before the borrow timeouts start failing requests.
+ */
+public class InstrumentedJedisConnectionFactory extends JedisConnectionFactory implements MeterBinder {
+    private volatile Pool<Jedis> pool;
+    private volatile Timer borrowTimer;
+
+    public InstrumentedJedisConnectionFactory(RedisStandaloneConfiguration standaloneConfig,
+                                              JedisClientConfiguration clientConfig) {
+        super(standaloneConfig, clientConfig);
+    }
+
+    @Override
+    protected Pool<Jedis> createRedisPool() {
+        pool = super.createRedisPool();
+        return pool;
+    }
+
+    @Override
+    protected Jedis fetchJedisConnector() {
+        Timer timer = borrowTimer;
+        if (timer == null) {
+            return super.fetchJedisConnector();
+        }
+        long start = System.nanoTime();
+        try {
+            return super.fetchJedisConnector();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registerGauge(registry, "redis.pool.active", "Connections currently borrowed from the pool", Pool::getNumActive);
+        registerGauge(registry, "redis.pool.idle", "Connections currently idle in the pool", Pool::getNumIdle);
+        registerGauge(registry, "redis.pool.waiters", "Threads waiting to borrow a connection", Pool::getNumWaiters);
+        borrowTimer = Timer.builder("redis.pool.borrow")
+                .description("Time spent borrowing a connection from the pool")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private void registerGauge(MeterRegistry registry, String name, String description,
+                               ToDoubleFunction<Pool<Jedis>> value) {
+        Gauge.builder(name, this, factory -> factory.pool != null ? value.applyAsDouble(factory.pool) : Double.NaN)
+                .description(description)
+                .register(registry);
+    }
+}
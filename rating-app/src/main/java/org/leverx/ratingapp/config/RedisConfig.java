@@ -1,12 +1,16 @@
 package org.leverx.ratingapp.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.clients.jedis.JedisPoolConfig;
 
 /**
  * Configuration class for setting up Redis as a caching and data storage solution.
@@ -15,22 +19,49 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 @Configuration
 public class RedisConfig {
     /**
-     * Configures a {@link JedisConnectionFactory} for connecting to a standalone Redis server.
-     * The Redis host and port are retrieved from environment variables.
+     * Configures a pooled {@link JedisConnectionFactory} for connecting to a standalone Redis server.
+     * The host, port, timeouts and pool sizes are bound from the {@code spring.data.redis} properties,
+     * the validation policy of pooled connections from the {@code redis.pool} properties.
+     * The factory exports the state of its pool as metrics.
      *
-     * @return A configured {@link JedisConnectionFactory} instance.
+     * @param redisProperties The Redis connection properties.
+     * @param testOnBorrow Whether a connection is validated each time it is borrowed from the pool.
+     * @param testWhileIdle Whether idle connections are validated by the evictor.
+     * @return A configured {@link InstrumentedJedisConnectionFactory} instance.
      */
     @Bean
-    public JedisConnectionFactory jedisConnectionFactory() {
+    public InstrumentedJedisConnectionFactory jedisConnectionFactory(RedisProperties redisProperties,
+                                                                     @Value("${redis.pool.test-on-borrow}") boolean testOnBorrow,
+                                                                     @Value("${redis.pool.test-while-idle}") boolean testWhileIdle) {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
-        config.setHostName(System.getenv("REDIS_HOST"));
-        config.setPort(Integer.parseInt(System.getenv("REDIS_PORT")));
-        return new JedisConnectionFactory(config);
+        config.setHostName(redisProperties.getHost());
+        config.setPort(redisProperties.getPort());
+
+        RedisProperties.Pool pool = redisProperties.getJedis().getPool();
+        JedisPoolConfig poolConfig = new JedisPoolConfig();
+        poolConfig.setMaxTotal(pool.getMaxActive());
+        poolConfig.setMaxIdle(pool.getMaxIdle());
+        poolConfig.setMinIdle(pool.getMinIdle());
+        poolConfig.setMaxWait(pool.getMaxWait());
+        poolConfig.setTestOnBorrow(testOnBorrow);
+        poolConfig.setTestWhileIdle(testWhileIdle);
+        if (pool.getTimeBetweenEvictionRuns() != null) {
+            poolConfig.setTimeBetweenEvictionRuns(pool.getTimeBetweenEvictionRuns());
+        }
+
+        JedisClientConfiguration clientConfig = JedisClientConfiguration.builder()
+                .connectTimeout(redisProperties.getConnectTimeout())
+                .readTimeout(redisProperties.getTimeout())
+                .usePooling()
+                .poolConfig(poolConfig)
+                .build();
+        return new InstrumentedJedisConnectionFactory(config, clientConfig);
     }
 
     /**
      * Configures a {@link RedisTemplate} for interacting with Redis.
-     * This template is set up to handle string keys and values using {@link StringRedisSerializer}.
+     * This template is set up to handle string keys and values, including hash fields and values,
+     * using {@link StringRedisSerializer}.
      *
      * @param connectionFactory The Redis connection factory.
      * @return A configured {@link RedisTemplate} instance.
@@ -41,6 +72,8 @@ public class RedisConfig {
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(new StringRedisSerializer());
         return template;
     }
 }
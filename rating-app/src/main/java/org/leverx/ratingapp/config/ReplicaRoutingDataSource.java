@@ -0,0 +1,136 @@
+package org.leverx.ratingapp.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link DataSource} routing the read-only transactions to a read replica and all other work to the primary database.
+ * The target is chosen when a connection is requested, so the data source must be wrapped in a
+ * {@link LazyConnectionDataSourceProxy} for the read-only flag of the transaction to be set at that point.
+ * The replication lag of the replica is checked periodically. While it exceeds the maximum lag, or while the replica
+ * cannot be reached, the read-only transactions fall back to the primary.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements MeterBinder {
+    // Seconds since the last replayed transaction, or 0 when everything received was replayed or the database
+    // is not a standby, e.g. a second local instance used for testing
+    static final String LAG_QUERY = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Duration maxLag;
+    private final LongAdder fallbacks = new LongAdder();
+    // The replica is only used once a check has found it within the maximum lag
+    private volatile boolean replicaAvailable;
+    private volatile double replicaLag = Double.NaN;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * Checks the replication lag of the replica and enables or disables the routing to it.
+     * The interval is configured with the {@code datasource.replica.lag-check-interval} property.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval}")
+    public void checkReplicaLag() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            double lag = resultSet.getDouble(1);
+            // No replayed transaction yet, the lag is unknown
+            boolean unknown = resultSet.wasNull();
+            replicaLag = unknown ? Double.NaN : lag;
+            updateAvailability(!unknown && lag <= maxLag.toMillis() / 1000.0,
+                    unknown ? "unknown replication lag" : String.format("replication lag of %.1fs", lag));
+        } catch (SQLException e) {
+            replicaLag = Double.NaN;
+            updateAvailability(false, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns whether read-only transactions are currently routed to the replica.
+     *
+     * @return True if the last check found the replica within the maximum lag.
+     */
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("datasource.replica.lag", this, dataSource -> dataSource.replicaLag)
+                .description("Replication lag of the read replica in seconds")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("datasource.replica.available", this, dataSource -> dataSource.replicaAvailable ? 1 : 0)
+                .description("Whether read-only transactions are routed to the read replica")
+                .register(registry);
+        FunctionCounter.builder("datasource.replica.fallbacks", fallbacks, LongAdder::sum)
+                .description("Read-only connections served by the primary because the replica was unavailable")
+                .register(registry);
+    }
+
+    private Connection route(ConnectionSource connectionSource) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return connectionSource.getConnection(primary);
+        }
+        if (!replicaAvailable) {
+            fallbacks.increment();
+            return connectionSource.getConnection(primary);
+        }
+        try {
+            return connectionSource.getConnection(replica);
+        } catch (SQLException e) {
+            // Stays on the primary until the next check reaches the replica again
+            updateAvailability(false, e.getMessage());
+            fallbacks.increment();
+            return connectionSource.getConnection(primary);
+        }
+    }
+
+    private synchronized void updateAvailability(boolean available, String reason) {
+        if (available && !replicaAvailable) {
+            log.info("[DATASOURCE] Routing read-only transactions to the replica, {}", reason);
+        } else if (!available && replicaAvailable) {
+            log.warn("[DATASOURCE] Routing read-only transactions to the primary, replica unavailable: {}", reason);
+        }
+        replicaAvailable = available;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection getConnection(DataSource dataSource) throws SQLException;
+    }
+}
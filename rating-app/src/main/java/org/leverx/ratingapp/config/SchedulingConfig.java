@@ -0,0 +1,13 @@
+package org.leverx.ratingapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class enabling scheduled background jobs, such as the seller rating reconciliation.
+ * When {@code spring.threads.virtual.enabled} is set, the jobs are run by a scheduler using virtual threads.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
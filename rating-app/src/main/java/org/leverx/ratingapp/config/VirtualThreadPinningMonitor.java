@@ -0,0 +1,96 @@
+package org.leverx.ratingapp.config;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Diagnostic listener reporting virtual threads which stayed pinned to their carrier thread,
+ * typically while blocking inside a {@code synchronized} section or a native call.
+ * The JFR {@code jdk.VirtualThreadPinned} events are streamed in process, and each one is logged
+ * with the first frame belonging to the JDBC, connection pool, Redis or mail client, so that the
+ * library holding the monitor can be identified without analysing a recording offline.
+ * Enabled with the {@code threads.virtual.pinning-diagnostics.enabled} property.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "threads.virtual.pinning-diagnostics.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> BLOCKING_CLIENT_PACKAGES = List.of(
+            "org.postgresql.",
+            "com.zaxxer.hikari.",
+            "org.hibernate.",
+            "redis.clients.jedis.",
+            "org.apache.commons.pool2.",
+            "org.springframework.data.redis.",
+            "org.eclipse.angus.mail.",
+            "jakarta.mail.");
+
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${threads.virtual.pinning-diagnostics.threshold}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Starts streaming the pinning events once the application is ready to serve requests.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::report);
+        recordingStream.startAsync();
+        log.info("[THREADS] Reporting virtual threads pinned for longer than {} ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    /**
+     * Logs a pinning event with the blocking client frame responsible for it, if any,
+     * and the top of the stack trace.
+     *
+     * @param event The recorded {@code jdk.VirtualThreadPinned} event.
+     */
+    void report(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String culprit = frames.stream()
+                .map(VirtualThreadPinningMonitor::describe)
+                .filter(frame -> BLOCKING_CLIENT_PACKAGES.stream().anyMatch(frame::startsWith))
+                .findFirst()
+                .orElse("application code");
+        String top = frames.stream()
+                .limit(5)
+                .map(VirtualThreadPinningMonitor::describe)
+                .reduce((first, second) -> first + " <- " + second)
+                .orElse("no stack trace");
+        log.warn("[THREADS] Virtual thread #{} pinned for {} ms in {}: {}",
+                event.getThread() != null ? event.getThread().getJavaThreadId() : -1,
+                event.getDuration().toMillis(), culprit, top);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -1,22 +1,52 @@
 package org.leverx.ratingapp.config.aop;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Base abstract aspect that provides common logging functionality for all aspects.
- * Contains shared methods for logging method entries, successful executions, exceptions,
- * and execution time measurements.
+ * Base abstract aspect that provides common instrumentation for all aspects.
+ * Every intercepted method is timed with a single around advice, and its duration is recorded
+ * in the {@code method.execution} timer tagged with the class, the method and the thrown exception.
+ * Parameters and results are only logged at DEBUG level, truncated to {@code aop.logging.max-length} characters,
+ * so that the hot path does not render whole payloads; exceptions are always logged.
  */
 @Aspect
 @Slf4j
 @Component
 public abstract class BaseLoggingAspect {
+    private static final String METRIC_NAME = "method.execution";
+    private static final String NO_EXCEPTION = "none";
+
+    // Timers of the successful executions, cached per method so that the hot path does not look them up
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+    private MeterRegistry meterRegistry;
+    private int maxLoggedLength;
+
+    @Autowired
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Value("${aop.logging.max-length}")
+    public void setMaxLoggedLength(int maxLoggedLength) {
+        this.maxLoggedLength = maxLoggedLength;
+    }
+
     /**
      * Returns the prefix used in log messages to identify the specific aspect.
      * @return String identifier for the log messages
@@ -35,53 +65,56 @@ public abstract class BaseLoggingAspect {
     }
 
     /**
-     * Logs information when a method is entered.
+     * Executes the method, records its duration and logs its parameters, result or exception.
      * @param joinPoint The join point representing the method execution
+     * @return The result of the method execution
+     * @throws Throwable if the method execution fails
      */
-    protected void logMethodEntry(JoinPoint joinPoint) {
-        String methodInfo = getMethodInfo(joinPoint);
-        Object[] args = joinPoint.getArgs();
-        log.info("[{}] {} is being executed with parameters:\n {}",
-                getLogPrefix(), methodInfo, Arrays.toString(args));
-    }
+    protected Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean debug = log.isDebugEnabled();
+        if (debug) {
+            log.debug("[{}] {} is being executed with parameters: {}",
+                    getLogPrefix(), getMethodInfo(joinPoint), abbreviate(Arrays.toString(joinPoint.getArgs())));
+        }
 
-    /**
-     * Logs information when a method completes successfully.
-     * @param joinPoint The join point representing the method execution
-     * @param result The result returned by the method
-     */
-    protected void logMethodSuccess(JoinPoint joinPoint, Object result) {
-        String methodInfo = getMethodInfo(joinPoint);
-        log.info("[{}] {} executed successfully with result:\n {}",
-                getLogPrefix(), methodInfo, result);
+        long startTime = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            long executionTime = System.nanoTime() - startTime;
+            successTimer(joinPoint).record(executionTime, TimeUnit.NANOSECONDS);
+            if (debug) {
+                log.debug("[{}] {} executed successfully in {} ms with result: {}",
+                        getLogPrefix(), getMethodInfo(joinPoint),
+                        TimeUnit.NANOSECONDS.toMillis(executionTime), abbreviate(String.valueOf(result)));
+            }
+            return result;
+        } catch (Throwable throwable) {
+            timer(joinPoint, throwable.getClass().getSimpleName())
+                    .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            log.error("[{}] {} failed with exception: {} \n- Message: {}",
+                    getLogPrefix(), getMethodInfo(joinPoint), throwable.getClass().getSimpleName(),
+                    throwable.getMessage());
+            throw throwable;
+        }
     }
 
-    /**
-     * Logs information when a method throws an exception.
-     * @param joinPoint The join point representing the method execution
-     * @param exception The exception thrown by the method
-     */
-    protected void logMethodException(JoinPoint joinPoint, Exception exception) {
-        String methodInfo = getMethodInfo(joinPoint);
-        log.error("[{}] {} failed with exception: {} \n- Message: {}",
-                getLogPrefix(), methodInfo, exception.getClass().getSimpleName(), exception.getMessage());
+    private Timer successTimer(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return successTimers.computeIfAbsent(method, key -> timer(joinPoint, NO_EXCEPTION));
     }
 
-    /**
-     * Measures and logs the execution time of a method.
-     * @param joinPoint The join point representing the method execution
-     * @return The result of the method execution
-     * @throws Throwable if the method execution fails
-     */
-    protected Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
-        String methodInfo = getMethodInfo(joinPoint);
-        long startTime = System.currentTimeMillis();
-        Object result = joinPoint.proceed();
-        long executionTime = System.currentTimeMillis() - startTime;
-
-        log.info("[{}] {} execution time: {} ms",
-                getLogPrefix(), methodInfo, executionTime);
+    private Timer timer(ProceedingJoinPoint joinPoint, String exception) {
+        return Timer.builder(METRIC_NAME)
+                .description("Execution time of the controller and service methods")
+                .tag("class", joinPoint.getTarget().getClass().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
 
-        return result;
+    private String abbreviate(String value) {
+        return value.length() <= maxLoggedLength
+                ? value
+                : value.substring(0, maxLoggedLength) + "... (" + value.length() + " characters)";
     }
 }
@@ -6,10 +6,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
 import org.leverx.ratingapp.services.auth.jwt.JwtServiceImplementation;
+import org.leverx.ratingapp.services.auth.jwt.VerifiedToken;
+import org.leverx.ratingapp.services.auth.principal.PrincipalCacheService;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -25,7 +26,7 @@ import java.io.IOException;
 @AllArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtServiceImplementation jwtService;
-    private final UserDetailsService userDetailsService;
+    private final PrincipalCacheService principalCacheService;
 
     /**
      * Filters incoming HTTP requests to authenticate users based on JWT tokens.
@@ -46,7 +47,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         // Retrieve the Authorization header from the request
         final String authorizationHeader = request.getHeader("Authorization");
-        final String jwt;
+        final VerifiedToken jwt;
         final String userEmail;
         // Check if the header is present and follows the "Bearer " format
         if(authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
@@ -54,17 +55,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Extract the JWT token by removing the "Bearer " prefix
-        jwt = authorizationHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        // Extract the JWT token by removing the "Bearer " prefix, then verify and parse it once
+        jwt = jwtService.parseToken(authorizationHeader.substring(7));
+        userEmail = jwt.username();
 
         // If the user is not yet authenticated and a username is extracted, proceed with validation
         if(userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null)
         {
-            UserDetails user = this.userDetailsService.loadUserByUsername(userEmail);
+            // Load the principal from the cache, the database is only hit on a miss
+            UserDetails user = this.principalCacheService.loadPrincipal(userEmail);
 
             // Validate the JWT token and set authentication if valid
-            if(jwtService.isTokenValid(jwt, user)) {
+            if(jwt.isValidFor(user)) {
                 UsernamePasswordAuthenticationToken authenticationToken =
                         new UsernamePasswordAuthenticationToken(
                         user, null, user.getAuthorities()
@@ -1,5 +1,6 @@
 package org.leverx.ratingapp.config.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.AllArgsConstructor;
 import org.leverx.ratingapp.models.enums.Role;
 import org.springframework.context.annotation.Bean;
@@ -45,11 +46,15 @@ public class WebSecurityConfig {
                         .authenticationEntryPoint(new CustomAuthenticationEntryPoint()))
                 // Define access control rules
                 .authorizeHttpRequests(authorize -> authorize
+                        // Streamed responses finish in an async dispatch, the request itself was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers(HttpMethod.GET,"/users/*/comments").permitAll()
                         .requestMatchers(HttpMethod.POST,"/users/*/comments").permitAll()
                         .requestMatchers(HttpMethod.POST,"/users/*/comments/optional-seller").permitAll()
                         .requestMatchers("/admin/**").hasAuthority(Role.ADMIN.getValueOfRole())
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority(Role.ADMIN.getValueOfRole())
                         .anyRequest().authenticated()
                 )
                 // Set the authentication provider
@@ -2,12 +2,19 @@ package org.leverx.ratingapp.controllers;
 
 import lombok.AllArgsConstructor;
 import org.leverx.ratingapp.dtos.comments.CommentResponseDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageRequestDTO;
 import org.leverx.ratingapp.dtos.user.UserDTO;
 import org.leverx.ratingapp.services.auth.AuthenticationAndRegistrationService;
 import org.leverx.ratingapp.services.comment.CommentService;
+import org.leverx.ratingapp.services.export.ExportService;
+import org.leverx.ratingapp.services.leaderboard.LeaderboardService;
+import org.leverx.ratingapp.services.rating.RatingUpdateService;
 import org.leverx.ratingapp.services.user.UserService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -22,6 +29,9 @@ public class AdminController {
     private final UserService userService; // Service for managing users
     private final CommentService commentService; // Service for managing comments
     private final AuthenticationAndRegistrationService authAndRegService; // Service for handling user authentication and registration
+    private final LeaderboardService leaderboardService; // Service for managing the seller leaderboard
+    private final ExportService exportService; // Service for exporting tables as NDJSON
+    private final RatingUpdateService ratingUpdateService; // Service for applying seller rating updates
 
     /**
      * Endpoint to confirm a user (either activate or deactivate based on the 'confirm' parameter).
@@ -49,13 +59,17 @@ public class AdminController {
     }
 
     /**
-     * Endpoint to retrieve all users in the system.
+     * Endpoint to retrieve a page of users in the system.
      *
-     * @return a ResponseEntity containing a list of all users as UserDTO objects
+     * @param limit optional maximum number of users on the page
+     * @param after optional cursor returned with the previous page
+     * @return a ResponseEntity containing a page of users as UserDTO objects
      */
     @GetMapping(path= "users")
-    public ResponseEntity<List<UserDTO>> getAllUsers(){
-        return ResponseEntity.ok(userService.getAllUsers(false,true));
+    public ResponseEntity<CursorPageDTO<UserDTO>> getAllUsers(
+            @RequestParam(required = false) Long limit,
+            @RequestParam(required = false) String after){
+        return ResponseEntity.ok(userService.getAllUsers(false, true, CursorPageRequestDTO.of(limit, after)));
     }
 
     /**
@@ -74,22 +88,30 @@ public class AdminController {
      * Endpoint to retrieve all comments associated with a seller based on their seller ID.
      *
      * @param user_id the seller's ID whose comments are to be retrieved
-     * @return a ResponseEntity containing a list of comments for the seller as CommentResponseDTO objects
+     * @param limit optional maximum number of comments on the page
+     * @param after optional cursor returned with the previous page
+     * @return a ResponseEntity containing a page of comments for the seller as CommentResponseDTO objects
      */
     @GetMapping(path ="users/{user_id}/comments")
-    public ResponseEntity<List<CommentResponseDTO>> getAllCommentsBySellerId(
-            @PathVariable Long user_id){
-        return ResponseEntity.ok(commentService.getAllBySellerId(user_id,true));
+    public ResponseEntity<CursorPageDTO<CommentResponseDTO>> getAllCommentsBySellerId(
+            @PathVariable Long user_id,
+            @RequestParam(required = false) Long limit,
+            @RequestParam(required = false) String after){
+        return ResponseEntity.ok(commentService.getAllBySellerId(user_id, true, CursorPageRequestDTO.of(limit, after)));
     }
 
     /**
-     * Endpoint to retrieve all comments across all users in the system.
+     * Endpoint to retrieve a page of comments across all users in the system.
      *
-     * @return a ResponseEntity containing a list of all comments as CommentResponseDTO objects
+     * @param limit optional maximum number of comments on the page
+     * @param after optional cursor returned with the previous page
+     * @return a ResponseEntity containing a page of comments as CommentResponseDTO objects
      */
     @GetMapping(path = "users/comments")
-    public ResponseEntity<List<CommentResponseDTO>> getAllComments(){
-        return ResponseEntity.ok(commentService.getAll());
+    public ResponseEntity<CursorPageDTO<CommentResponseDTO>> getAllComments(
+            @RequestParam(required = false) Long limit,
+            @RequestParam(required = false) String after){
+        return ResponseEntity.ok(commentService.getAll(CursorPageRequestDTO.of(limit, after)));
     }
     
     /**
@@ -112,14 +134,22 @@ public class AdminController {
      * @param user_id the seller's ID associated with the comment
      * @param comment_id the ID of the comment to approve or disapprove
      * @param confirm boolean flag indicating whether to approve or disapprove the comment
+     * @param awaitRating boolean flag indicating whether to recalculate the seller's rating before responding,
+     *                    instead of leaving it to the write-behind batch
      * @return a ResponseEntity containing the updated comment as a CommentResponseDTO object
      */
     @PostMapping(path ="users/{user_id}/comments/{comment_id}")
     public ResponseEntity<CommentResponseDTO> approveComment(
             @PathVariable Long user_id,
             @PathVariable Long comment_id,
-            @RequestParam("confirm") Boolean confirm){
-        return ResponseEntity.status(202).body(commentService.approveComment(user_id,comment_id,confirm));
+            @RequestParam("confirm") Boolean confirm,
+            @RequestParam(name = "awaitRating", defaultValue = "false") Boolean awaitRating){
+        CommentResponseDTO comment = commentService.approveComment(user_id, comment_id, confirm);
+        if (awaitRating) {
+            // The approval is committed at this point, so the recalculated rating includes it
+            ratingUpdateService.refreshSellerRating(user_id);
+        }
+        return ResponseEntity.status(202).body(comment);
     }
     /**
      * Endpoint to retrieve all inactive users whi have not confirmed email in the system.
@@ -130,4 +160,39 @@ public class AdminController {
     public ResponseEntity<List<UserDTO>> getInactiveUsers(){
         return ResponseEntity.ok(userService.getInactiveUsers());
     }
+
+    /**
+     * Endpoint to rebuild the cached seller leaderboard from the database.
+     *
+     * @return a ResponseEntity with status 202 and the number of sellers on the rebuilt leaderboard
+     */
+    @PostMapping(path = "leaderboard/rebuild")
+    public ResponseEntity<String> rebuildLeaderboard() {
+        return ResponseEntity.status(202).body(
+                "Leaderboard rebuilt with %d seller(s)".formatted(leaderboardService.rebuildLeaderboard()));
+    }
+
+    /**
+     * Endpoint to export all comments as newline-delimited JSON, streamed while they are read.
+     *
+     * @return a ResponseEntity streaming one comment per line
+     */
+    @GetMapping(path = "export/comments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportComments() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(exportService::exportComments);
+    }
+
+    /**
+     * Endpoint to export all users with their seller ratings as newline-delimited JSON, streamed while they are read.
+     *
+     * @return a ResponseEntity streaming one user per line
+     */
+    @GetMapping(path = "export/users", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(exportService::exportUsers);
+    }
 }
@@ -5,6 +5,8 @@ import org.leverx.ratingapp.dtos.auth.registration.RegistrationRequestDTO;
 import org.leverx.ratingapp.dtos.comments.CommentRequestDTO;
 import org.leverx.ratingapp.dtos.comments.CommentResponseDTO;
 import org.leverx.ratingapp.dtos.comments.CommentWithRegistrationRequestDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageRequestDTO;
 import org.leverx.ratingapp.repositories.UserRepository;
 import org.leverx.ratingapp.services.auth.AuthenticationAndRegistrationService;
 import org.leverx.ratingapp.services.comment.CommentService;
@@ -12,7 +14,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 
 /**
  * CommentController is a REST controller that manages comment-related actions
@@ -95,12 +96,16 @@ public class CommentController {
      * Endpoint to retrieve all accepted comments for a specific seller.
      *
      * @param seller_id the seller's ID
-     * @return a ResponseEntity containing a list of all accepted comments for the seller as CommentResponseDTO objects
+     * @param limit optional maximum number of comments on the page
+     * @param after optional cursor returned with the previous page
+     * @return a ResponseEntity containing a page of accepted comments for the seller as CommentResponseDTO objects
      */
     @GetMapping
-    public ResponseEntity<List<CommentResponseDTO>> getAllAcceptedComments(
-            @PathVariable Long seller_id){
-        return ResponseEntity.ok(commentService.getAllBySellerId(seller_id,false));
+    public ResponseEntity<CursorPageDTO<CommentResponseDTO>> getAllAcceptedComments(
+            @PathVariable Long seller_id,
+            @RequestParam(required = false) Long limit,
+            @RequestParam(required = false) String after){
+        return ResponseEntity.ok(commentService.getAllBySellerId(seller_id, false, CursorPageRequestDTO.of(limit, after)));
     }
 
     /**
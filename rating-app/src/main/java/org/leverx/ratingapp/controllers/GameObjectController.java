@@ -3,12 +3,13 @@ package org.leverx.ratingapp.controllers;
 import lombok.AllArgsConstructor;
 import org.leverx.ratingapp.dtos.gameobject.GameObjectRequestDTO;
 import org.leverx.ratingapp.dtos.gameobject.GameObjectResponseDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageRequestDTO;
 import org.leverx.ratingapp.services.gameobject.GameObjectService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 
 /**
  * GameObjectController is a REST controller that manages game objects in the application.
@@ -36,13 +37,17 @@ public class GameObjectController {
     }
 
     /**
-     * Endpoint to retrieve all game objects.
+     * Endpoint to retrieve a page of game objects.
      *
-     * @return a {@link ResponseEntity} containing a list of all game objects as {@link GameObjectResponseDTO} objects
+     * @param limit optional maximum number of game objects on the page
+     * @param after optional cursor returned with the previous page
+     * @return a {@link ResponseEntity} containing a {@link CursorPageDTO} of game objects as {@link GameObjectResponseDTO} objects
      */
     @GetMapping
-    public ResponseEntity<List<GameObjectResponseDTO>> getAll() {
-        return ResponseEntity.ok(service.getAll());
+    public ResponseEntity<CursorPageDTO<GameObjectResponseDTO>> getAll(
+            @RequestParam(required = false) Long limit,
+            @RequestParam(required = false) String after) {
+        return ResponseEntity.ok(service.getAll(CursorPageRequestDTO.of(limit, after)));
     }
 
     /**
@@ -1,12 +1,14 @@
 package org.leverx.ratingapp.controllers;
 
 import lombok.AllArgsConstructor;
+import org.leverx.ratingapp.dtos.pagination.CursorPageDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageRequestDTO;
 import org.leverx.ratingapp.dtos.user.UserRankingDTO;
 import org.leverx.ratingapp.dtos.user.UserDTO;
+import org.leverx.ratingapp.services.leaderboard.LeaderboardService;
 import org.leverx.ratingapp.services.user.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 
 /**
  * UserController handles REST-ful API endpoints related to user information,
@@ -17,16 +19,22 @@ import java.util.List;
 @RequestMapping(path ="users")
 public class UserController {
     private final UserService userService; // Service to handle user-related operations
+    private final LeaderboardService leaderboardService; // Service to build the seller leaderboard
 
     /**
      * Endpoint to get all activated users.
      *
-     * @return a {@link ResponseEntity} containing a list of {@link UserDTO} objects for all activated users
+     * @param limit optional query parameter for limiting the number of users on the page
+     * @param after optional cursor returned with the previous page
+     * @return a {@link ResponseEntity} containing a {@link CursorPageDTO} of {@link UserDTO} objects for activated users
      */
     @GetMapping
-    public ResponseEntity<List<UserDTO>> getAllActivatedUsers() {
-        // Fetch and return a list of activated users (excluding inactive or unapproved users)
-        return ResponseEntity.ok(userService.getAllUsers(true,false));
+    public ResponseEntity<CursorPageDTO<UserDTO>> getAllActivatedUsers(
+            @RequestParam(required = false) Long limit, // Optional query parameter to limit the number of users returned
+            @RequestParam(required = false) String after // Optional query parameter to continue after the previous page
+    ) {
+        // Fetch and return a page of activated users (excluding inactive or unapproved users)
+        return ResponseEntity.ok(userService.getAllUsers(true, false, CursorPageRequestDTO.of(limit, after)));
     }
 
     /**
@@ -42,18 +50,34 @@ public class UserController {
     }
 
     /**
-     * Endpoint to get a list of users ranked based on their ratings.
+     * Endpoint to get a page of users ranked based on their ratings.
      *
      * @param gameName optional query parameter for filtering users by a specific game
-     * @param ratingLimit optional query parameter for limiting the number of users in the ranking
-     * @return a {@link ResponseEntity} containing a list of {@link UserRankingDTO} objects, showing user rankings
+     * @param limit optional query parameter for limiting the number of users on the page
+     * @param page optional zero-based page number, ignored when a cursor is provided
+     * @param after optional cursor returned with the previous page
+     * @return a {@link ResponseEntity} containing a {@link CursorPageDTO} of {@link UserRankingDTO} objects, showing user rankings
      */
     @GetMapping(path = "rating")
-    public ResponseEntity<List<UserRankingDTO>> getUsersRating(
+    public ResponseEntity<CursorPageDTO<UserRankingDTO>> getUsersRating(
             @RequestParam(required = false) String gameName, // Optional query parameter to filter by game name
-            @RequestParam(required = false) Long ratingLimit // Optional query parameter to limit the number of rankings returned
+            @RequestParam(required = false) Long limit, // Optional query parameter to limit the number of rankings returned
+            @RequestParam(required = false) Integer page, // Optional query parameter to select a page by number
+            @RequestParam(required = false) String after // Optional query parameter to continue after the previous page
     ) {
-        // Fetch and return user rankings, filtered by game name and limited by ratingLimit if provided
-        return ResponseEntity.ok(userService.getUserRating(gameName,ratingLimit));
+        // Fetch and return a page of user rankings, filtered by game name and limited by limit if provided
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(gameName, page, CursorPageRequestDTO.of(limit, after)));
+    }
+
+    /**
+     * Endpoint to get the rank of a specific seller.
+     *
+     * @param seller_id the ID of the seller to rank
+     * @return a {@link ResponseEntity} containing the {@link UserRankingDTO} of the seller
+     */
+    @GetMapping(path = "rating/{seller_id}")
+    public ResponseEntity<UserRankingDTO> getSellerRank(@PathVariable Long seller_id) {
+        // Fetch and return the competition and dense rank of the seller
+        return ResponseEntity.ok(leaderboardService.getSellerRank(seller_id));
     }
 }
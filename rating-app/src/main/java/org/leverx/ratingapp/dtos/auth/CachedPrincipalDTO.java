@@ -0,0 +1,52 @@
+package org.leverx.ratingapp.dtos.auth;
+
+import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO representing the cached principal of an authenticated {@link User}.
+ * It holds everything a request needs from the principal except the password hash,
+ * which is only required at login and is never cached.
+ */
+public record CachedPrincipalDTO(
+        Long id,                  // Unique identifier for the user.
+        String firstName,         // The user's first name.
+        String lastName,          // The user's last name.
+        String email,             // The user's email address.
+        Role role,                // The role of the user.
+        Boolean isActivated,      // Whether the account is activated by admin.
+        Boolean isEmailConfirmed, // Whether the email is confirmed by the user.
+        LocalDateTime createdAt   // The timestamp of when the user was created.
+) {
+
+    /**
+     * Captures the principal of a {@link User} loaded from the database.
+     *
+     * @param user The {@link User} entity.
+     * @return The {@link CachedPrincipalDTO} of the user.
+     */
+    public static CachedPrincipalDTO mapToCachedPrincipalDTO(User user) {
+        return new CachedPrincipalDTO(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(),
+                user.getRole(), user.getIsActivated(), user.getIsEmailConfirmed(), user.getCreatedAt());
+    }
+
+    /**
+     * Creates a detached {@link User} for a single request, so requests never share a mutable principal.
+     *
+     * @return A new {@link User} without a password.
+     */
+    public User toUser() {
+        return User.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .role(role)
+                .isActivated(isActivated)
+                .isEmailConfirmed(isEmailConfirmed)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -15,6 +15,26 @@ import java.util.stream.Collectors;
 @Builder
 public record CommentResponseDTO(Long id, String message, String author, String seller, String status, Integer grade) {
 
+    // Author shown for comments posted without an account
+    public static final String ANONYMOUS_AUTHOR = "Anonymous";
+
+    /**
+     * Creates a CommentResponseDTO from the columns of a comment, deriving the status from the approval flag.
+     * Used as the constructor expression of the projection queries, which select only these columns.
+     *
+     * @param id The ID of the comment.
+     * @param message The message of the comment.
+     * @param author The email of the author, or null for an anonymous comment.
+     * @param seller The email of the seller.
+     * @param isApproved Whether the comment is approved.
+     * @param grade The grade of the comment.
+     */
+    public CommentResponseDTO(Long id, String message, String author, String seller,
+                              Boolean isApproved, Integer grade) {
+        this(id, message, author != null ? author : ANONYMOUS_AUTHOR, seller,
+                isApproved ? Status.APPROVED.getValueOfStatus() : Status.PENDING.getValueOfStatus(), grade);
+    }
+
     /**
      * Converts a list of {@link Comment} entities into a list of CommentResponseDTOs.
      *
@@ -23,16 +43,13 @@ public record CommentResponseDTO(Long id, String message, String author, String
      */
     public static List<CommentResponseDTO> mapToCommentResponseDTO(List<Comment> comments) {
         return comments.stream()
-                .map(comment -> CommentResponseDTO.builder()
-                        .id(comment.getId())
-                        .message(comment.getMessage())
-                        .author(comment.getAuthor() != null ? comment.getAuthor().getEmail() : "Anonymous")
-                        .seller(comment.getSeller().getEmail())
-                        .grade(comment.getGrade())
-                        .status(comment.getIsApproved()
-                                ? Status.APPROVED.getValueOfStatus()
-                                : Status.PENDING.getValueOfStatus())
-                        .build())
+                .map(comment -> new CommentResponseDTO(
+                        comment.getId(),
+                        comment.getMessage(),
+                        comment.getAuthor() != null ? comment.getAuthor().getEmail() : null,
+                        comment.getSeller().getEmail(),
+                        comment.getIsApproved(),
+                        comment.getGrade()))
                 .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,17 @@
+package org.leverx.ratingapp.dtos.export;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO representing a single comment line of the admin export, projected directly
+ * from the join of comments with their authors and sellers.
+ */
+public record CommentExportDTO(
+        Long id,                 // Unique identifier for the comment.
+        String message,          // The content of the comment.
+        String author,           // The email of the author, or null for anonymous comments.
+        String seller,           // The email of the seller the comment is left for.
+        Integer grade,           // The grade given by the author.
+        Boolean isApproved,      // Whether the comment is approved by admin.
+        LocalDateTime createdAt  // The timestamp of when the comment was created.
+) {}
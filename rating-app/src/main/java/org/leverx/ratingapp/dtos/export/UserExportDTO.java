@@ -0,0 +1,22 @@
+package org.leverx.ratingapp.dtos.export;
+
+import org.leverx.ratingapp.models.enums.Role;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO representing a single user line of the admin export, projected directly
+ * from the join of users and their seller ratings.
+ */
+public record UserExportDTO(
+        Long id,                   // Unique identifier for the user.
+        String firstName,          // The user's first name.
+        String lastName,           // The user's last name.
+        String email,              // The user's email address.
+        Role role,                 // The role of the user.
+        Boolean isActivated,       // Whether the account is activated by admin.
+        Boolean isEmailConfirmed,  // Whether the email is confirmed by the user.
+        LocalDateTime createdAt,   // The timestamp of when the user was created.
+        Double averageRating,      // The average rating of the seller, or null without a rating.
+        Integer totalComments      // The number of approved comments of the seller, or null without a rating.
+) {}
@@ -12,6 +12,20 @@ import java.util.stream.Collectors;
  */
  @Builder
 public record GameObjectResponseDTO(Long id, String title, String text, String userEmail, LocalDateTime updatedAt, String status) {
+
+    /**
+     * Creates a GameObjectResponseDTO of an active game object.
+     * Used as the constructor expression of the projection queries, which select only these columns.
+     *
+     * @param id The ID of the game object.
+     * @param title The title of the game object.
+     * @param text The description of the game object.
+     * @param userEmail The email of the seller owning the game object.
+     * @param updatedAt The time of the last update of the game object.
+     */
+    public GameObjectResponseDTO(Long id, String title, String text, String userEmail, LocalDateTime updatedAt) {
+        this(id, title, text, userEmail, updatedAt, Status.ACTIVE.getValueOfStatus());
+    }
     /**
      * Converts a list of {@link GameObject} entities to a list of GameObjectResponseDTOs.
      *
@@ -20,14 +34,12 @@ public record GameObjectResponseDTO(Long id, String title, String text, String u
      */
     public static List<GameObjectResponseDTO> mapToGameObjectResponseDTO(List<GameObject> gameObjects){
         return gameObjects.stream()
-                .map(gameObject -> GameObjectResponseDTO.builder()
-                        .id(gameObject.getId())
-                        .title(gameObject.getTitle())
-                        .text(gameObject.getText())
-                        .userEmail(gameObject.getUser().getEmail())
-                        .updatedAt(gameObject.getUpdatedAt())
-                        .status(Status.ACTIVE.getValueOfStatus())
-                        .build())
+                .map(gameObject -> new GameObjectResponseDTO(
+                        gameObject.getId(),
+                        gameObject.getTitle(),
+                        gameObject.getText(),
+                        gameObject.getUser().getEmail(),
+                        gameObject.getUpdatedAt()))
                 .collect(Collectors.toList());
     }
 }
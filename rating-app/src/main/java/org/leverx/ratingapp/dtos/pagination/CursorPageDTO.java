@@ -0,0 +1,42 @@
+package org.leverx.ratingapp.dtos.pagination;
+
+import lombok.Builder;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * DTO representing a single page of a keyset-paginated result. The opaque cursor
+ * points past the last item of the page and is passed back to fetch the next page.
+ *
+ * @param <T> the type of the items on the page.
+ */
+@Builder
+public record CursorPageDTO<T>(
+        List<T> items,     // The items of the current page.
+        String nextCursor, // The cursor of the next page, or null if this is the last page.
+        boolean hasNext    // Whether there are more items after this page.
+) {
+
+    /**
+     * Maps a {@link Slice} of entities to a page of DTOs.
+     *
+     * @param slice The slice of entities, ordered by the cursor key.
+     * @param mapper Maps the entities of the slice to DTOs.
+     * @param cursorKey Extracts the cursor key from the last entity of the slice.
+     * @param <E> the type of the entities.
+     * @param <T> the type of the DTOs.
+     * @return The mapped {@link CursorPageDTO}.
+     */
+    public static <E, T> CursorPageDTO<T> from(Slice<E> slice,
+                                               Function<List<E>, List<T>> mapper,
+                                               Function<E, ?> cursorKey) {
+        List<E> content = slice.getContent();
+        return CursorPageDTO.<T>builder()
+                .items(mapper.apply(content))
+                .nextCursor(slice.hasNext() ? String.valueOf(cursorKey.apply(content.getLast())) : null)
+                .hasNext(slice.hasNext())
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package org.leverx.ratingapp.dtos.pagination;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * DTO representing the pagination parameters of a keyset-paginated list endpoint.
+ * The limit is clamped to a sane range and the cursor is the one returned with the previous page.
+ */
+public record CursorPageRequestDTO(
+        int limit,   // The maximum number of items on the page.
+        String after // The cursor of the previous page, or null for the first page.
+) {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    /**
+     * Creates the pagination parameters from the raw request parameters.
+     *
+     * @param limit The requested page size, defaults to {@link #DEFAULT_LIMIT} and is capped at {@link #MAX_LIMIT}.
+     * @param after The cursor of the previous page (optional).
+     * @return The resolved {@link CursorPageRequestDTO}.
+     */
+    public static CursorPageRequestDTO of(Long limit, String after) {
+        int resolvedLimit = limit == null || limit <= 0
+                ? DEFAULT_LIMIT
+                : (int) Math.min(limit, MAX_LIMIT);
+        return new CursorPageRequestDTO(resolvedLimit, after != null && !after.isBlank() ? after : null);
+    }
+
+    /**
+     * Interprets the cursor as the ID of the last item of the previous page.
+     *
+     * @return The ID to continue after, or 0 for the first page.
+     * @throws IllegalArgumentException If the cursor is not an ID.
+     */
+    public Long afterId() {
+        if (after == null) {
+            return 0L;
+        }
+        try {
+            return Long.valueOf(after);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+
+    /**
+     * Creates the {@link Pageable} fetching a single slice of the requested size.
+     *
+     * @return The {@link Pageable} of the first slice after the cursor.
+     */
+    public Pageable pageable() {
+        return PageRequest.of(0, limit);
+    }
+}
@@ -0,0 +1,17 @@
+package org.leverx.ratingapp.dtos.rating;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO representing a single row of the seller leaderboard, projected directly
+ * from the join of users and their seller ratings.
+ */
+public record LeaderboardEntryDTO(
+        Long id,                 // Unique identifier for the seller.
+        String firstName,        // The seller's first name.
+        String lastName,         // The seller's last name.
+        String email,            // The seller's email address.
+        LocalDateTime createdAt, // The timestamp of when the seller was created.
+        Double averageRating,    // The average rating of the seller.
+        Integer totalComments    // The number of approved comments of the seller.
+) {}
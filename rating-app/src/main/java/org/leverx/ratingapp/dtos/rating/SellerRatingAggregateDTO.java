@@ -0,0 +1,16 @@
+package org.leverx.ratingapp.dtos.rating;
+
+/**
+ * DTO representing the rating aggregates of a seller, computed by the database
+ * over the approved comments without materialising the comment entities.
+ */
+public record SellerRatingAggregateDTO(
+        Long totalComments,   // The number of approved comments.
+        Long gradeSum,        // The sum of grades of the approved comments.
+        Double averageRating, // The average grade of the approved comments.
+        Long gradeOneCount,   // The number of approved comments with grade 1.
+        Long gradeTwoCount,   // The number of approved comments with grade 2.
+        Long gradeThreeCount, // The number of approved comments with grade 3.
+        Long gradeFourCount,  // The number of approved comments with grade 4.
+        Long gradeFiveCount   // The number of approved comments with grade 5.
+) {}
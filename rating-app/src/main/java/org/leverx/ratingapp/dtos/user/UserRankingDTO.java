@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
  */
 @Builder
 public record UserRankingDTO(
-        Long place,                  // The user's rank or position in the overall ranking.
+        Long place,                  // The user's competition rank (1, 2, 2, 4) in the overall ranking.
+        Long densePlace,             // The user's dense rank (1, 2, 2, 3) in the overall ranking.
         Long id,                     // Unique identifier for the user.
         String firstName,            // The user's first name.
         String lastName,             // The user's last name.
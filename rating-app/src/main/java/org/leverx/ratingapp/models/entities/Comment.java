@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 /**
  * Entity representing a comment made by a user about a seller. It contains details such as the message,
  * the author of the comment, the seller, the approval status, the grade, and the creation timestamp.
+ * The author and the seller are loaded lazily, each query fetches them only when its use case needs them.
  */
 @Entity
 @Getter
@@ -14,7 +15,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name="comments")
+@Table(name="comments", indexes = {
+        // Serves the keyset pagination of the comments of a seller
+        @Index(name = "idx_comments_seller_id_id", columnList = "seller_id, id"),
+        // Serves the approved comments of a seller, for the visible listings and the rating aggregate
+        @Index(name = "idx_comments_seller_id_is_approved_id", columnList = "seller_id, is_approved, id"),
+        @Index(name = "idx_comments_author_id", columnList = "author_id")
+})
 public class Comment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -24,14 +31,14 @@ public class Comment {
     @Column(name="message", nullable = false)
     private String message; // The content of the comment, describing feedback about the seller.
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(
             name = "author_id",
             referencedColumnName = "id"
     )
     private User author; // The user who authored the comment.
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(
             name = "seller_id",
             referencedColumnName = "id",
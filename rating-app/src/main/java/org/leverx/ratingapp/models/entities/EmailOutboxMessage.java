@@ -0,0 +1,71 @@
+package org.leverx.ratingapp.models.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.leverx.ratingapp.models.enums.EmailDeliveryStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing an email queued in the transactional outbox. The email is stored in the same
+ * transaction as the change that triggered it, and delivered in the background by the outbox worker,
+ * so requests never wait for the SMTP server.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "email_outbox", indexes = {
+        // Serves the polling of due emails by the outbox worker
+        @Index(name = "idx_email_outbox_status_next_attempt_at", columnList = "status, next_attempt_at")
+})
+public class EmailOutboxMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, updatable = false, unique = true)
+    private Long id;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient; // The email address of the recipient.
+
+    @Column(name = "subject", nullable = false)
+    private String subject; // The subject of the email.
+
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content; // The rendered HTML content of the email.
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private EmailDeliveryStatus status = EmailDeliveryStatus.PENDING; // The delivery state of the email.
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0; // The number of delivery attempts made so far.
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // The earliest time of the next delivery attempt.
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError; // The error of the last failed attempt.
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt; // Timestamp of when the email was queued.
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt; // Timestamp of when the email was delivered.
+
+    /**
+     * This method is automatically invoked before persisting the entity in the database.
+     * It sets the creation timestamp and makes the email due immediately.
+     */
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+}
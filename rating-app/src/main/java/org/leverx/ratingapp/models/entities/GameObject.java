@@ -2,12 +2,19 @@ package org.leverx.ratingapp.models.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.text.Normalizer;
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 /**
  * Entity representing a game object. A game object is an entity that contains details about a game
  * such as its title, description (text), the user who created it, and timestamps for creation and updates.
+ * The normalized title identifies the game independently of case and spacing, and together with the seller
+ * forms an indexed game-to-seller mapping used by the per-game leaderboards.
+ * Game objects rarely change and are held in the second-level cache.
  */
 @Entity
 @Getter
@@ -15,7 +22,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name="game_objects")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "game_objects")
+@Table(name="game_objects", indexes = {
+        @Index(name = "idx_game_objects_normalized_title_seller", columnList = "normalized_title, seller_id"),
+        @Index(name = "idx_game_objects_seller_id", columnList = "seller_id")
+})
 public class GameObject {
 
     @Id
@@ -26,10 +38,13 @@ public class GameObject {
     @Column(name="title", nullable = false)
     private String title; // The title of the game object.
 
+    @Column(name="normalized_title", nullable = false)
+    private String normalizedTitle; // The title in lower case with collapsed whitespace, used for lookups.
+
     @Column(name="text", nullable = false)
     private String text; // A textual description or content related to the game object.
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(
             nullable = false,
             referencedColumnName = "id",
@@ -51,7 +66,31 @@ public class GameObject {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = createdAt;
+        normalizedTitle = normalizeTitle(title);
     }
 
+    /**
+     * This method is automatically invoked before updating the entity in the database.
+     * It keeps the 'normalizedTitle' field in sync with the title.
+     */
+    @PreUpdate
+    protected void onUpdate() {
+        normalizedTitle = normalizeTitle(title);
+    }
 
+    /**
+     * Normalizes a game title for lookups: Unicode compatibility form, lower case, trimmed, single spaces.
+     *
+     * @param title The title to normalize.
+     * @return The normalized title, or null if the title is null.
+     */
+    public static String normalizeTitle(String title) {
+        if (title == null) {
+            return null;
+        }
+        return Normalizer.normalize(title, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
 }
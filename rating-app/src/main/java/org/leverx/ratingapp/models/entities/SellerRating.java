@@ -2,11 +2,17 @@ package org.leverx.ratingapp.models.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 /**
  * Entity representing a seller's rating. A SellerRating captures the rating of a seller by users,
  * including the current rating, the average rating, the number of comments, and the timestamp of the rating creation.
+ * The running grade sum and per-grade histogram allow the rating to be maintained incrementally,
+ * without rescanning the seller's comments on every moderation event.
+ * Ratings are held in the second-level cache, which is updated on commit of every moderation event.
+ * The version column makes concurrent updates of the same rating fail instead of losing one of them.
  */
 @Entity
 @Getter
@@ -14,28 +20,68 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "seller_ratings")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "seller_ratings")
+@Table(name = "seller_ratings", indexes = {
+        // Serves the leaderboard ordering and its keyset pagination
+        @Index(name = "idx_seller_ratings_leaderboard",
+                columnList = "average_rating DESC, total_comments DESC, seller_id")
+}, uniqueConstraints = {
+        // A seller has a single rating
+        @UniqueConstraint(name = "uk_seller_ratings_seller_id", columnNames = "seller_id")
+})
 public class SellerRating {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id", nullable = false, updatable = false, unique = true)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "seller_id", nullable = false)
     private User user; // The seller to whom the rating belongs (foreign key to the User entity).
 
     @Column(nullable = false)
-    private Integer rating; // The rating given to the seller (an integer value).
+    @Builder.Default
+    private Integer rating = 0; // The rating given to the seller (an integer value).
 
     @Column(nullable = false)
     private LocalDateTime createdAt; // Timestamp when the rating was created.
 
     @Column(name = "average_rating", nullable = false)
-    private Double averageRating; // The average rating for the seller across all ratings.
+    @Builder.Default
+    private Double averageRating = 0.0; // The average rating for the seller across all ratings.
 
     @Column(name = "total_comments", nullable = false)
-    private Integer totalComments; // The total number of comments left for the seller.
+    @Builder.Default
+    private Integer totalComments = 0; // The total number of comments left for the seller.
+
+    @Column(name = "grade_sum", nullable = false)
+    @Builder.Default
+    private Long gradeSum = 0L; // Running sum of the grades of all approved comments.
+
+    @Column(name = "grade_one_count", nullable = false)
+    @Builder.Default
+    private Integer gradeOneCount = 0; // Number of approved comments with grade 1.
+
+    @Column(name = "grade_two_count", nullable = false)
+    @Builder.Default
+    private Integer gradeTwoCount = 0; // Number of approved comments with grade 2.
+
+    @Column(name = "grade_three_count", nullable = false)
+    @Builder.Default
+    private Integer gradeThreeCount = 0; // Number of approved comments with grade 3.
+
+    @Column(name = "grade_four_count", nullable = false)
+    @Builder.Default
+    private Integer gradeFourCount = 0; // Number of approved comments with grade 4.
+
+    @Column(name = "grade_five_count", nullable = false)
+    @Builder.Default
+    private Integer gradeFiveCount = 0; // Number of approved comments with grade 5.
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version; // Incremented on every update, for optimistic locking.
 
     /**
      * This method is automatically called before the entity is persisted in the database.
@@ -46,5 +92,98 @@ public class SellerRating {
         rating = 0;  // Default rating is zero when the seller rating is created.
         averageRating = 0.0;  // Default average rating is zero when the seller rating is created.
         totalComments = 0;  // Default total comments is zero when the seller rating is created.
+        resetAggregates();
+    }
+
+    /**
+     * Adds the grade of a newly approved comment to the running aggregates.
+     *
+     * @param grade The grade of the approved comment (1-5).
+     */
+    public void addGrade(Integer grade) {
+        adjustGrade(grade, 1);
+    }
+
+    /**
+     * Removes the grade of a previously approved comment from the running aggregates.
+     *
+     * @param grade The grade of the comment being removed (1-5).
+     */
+    public void removeGrade(Integer grade) {
+        adjustGrade(grade, -1);
+    }
+
+    /**
+     * Resets the running sum, count and grade histogram to zero.
+     */
+    public void resetAggregates() {
+        totalComments = 0;
+        gradeSum = 0L;
+        gradeOneCount = 0;
+        gradeTwoCount = 0;
+        gradeThreeCount = 0;
+        gradeFourCount = 0;
+        gradeFiveCount = 0;
+        recalculateAverage();
+    }
+
+    /**
+     * Copies the running sum, count and grade histogram from another rating.
+     *
+     * @param other The rating whose aggregates should be copied.
+     */
+    public void copyAggregatesFrom(SellerRating other) {
+        totalComments = other.getTotalComments();
+        gradeSum = other.getGradeSum();
+        gradeOneCount = other.getGradeOneCount();
+        gradeTwoCount = other.getGradeTwoCount();
+        gradeThreeCount = other.getGradeThreeCount();
+        gradeFourCount = other.getGradeFourCount();
+        gradeFiveCount = other.getGradeFiveCount();
+        recalculateAverage();
+    }
+
+    /**
+     * Checks whether the running sum, count and grade histogram match another rating.
+     *
+     * @param other The rating to compare with.
+     * @return true if all aggregates are equal, false otherwise.
+     */
+    public boolean hasSameAggregatesAs(SellerRating other) {
+        return totalComments.equals(other.getTotalComments())
+                && gradeSum.equals(other.getGradeSum())
+                && gradeOneCount.equals(other.getGradeOneCount())
+                && gradeTwoCount.equals(other.getGradeTwoCount())
+                && gradeThreeCount.equals(other.getGradeThreeCount())
+                && gradeFourCount.equals(other.getGradeFourCount())
+                && gradeFiveCount.equals(other.getGradeFiveCount());
+    }
+
+    /**
+     * Applies a single grade delta to the sum, count and histogram and refreshes the average.
+     *
+     * @param grade The grade being added or removed (1-5).
+     * @param delta +1 when a grade is added, -1 when it is removed.
+     */
+    private void adjustGrade(Integer grade, int delta) {
+        switch (grade) {
+            case 1 -> gradeOneCount += delta;
+            case 2 -> gradeTwoCount += delta;
+            case 3 -> gradeThreeCount += delta;
+            case 4 -> gradeFourCount += delta;
+            case 5 -> gradeFiveCount += delta;
+            default -> throw new IllegalArgumentException("Grade must be between 1 and 5");
+        }
+        totalComments += delta;
+        gradeSum += (long) grade * delta;
+        recalculateAverage();
+    }
+
+    /**
+     * Derives the average and the rounded rating from the running sum and count.
+     */
+    public void recalculateAverage() {
+        averageRating = totalComments > 0 ? (double) gradeSum / totalComments : 0.0;
+        rating = (int) Math.round(averageRating); // Round the average rating to the nearest integer
     }
 }
@@ -3,6 +3,8 @@ package org.leverx.ratingapp.models.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.leverx.ratingapp.models.enums.Role;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -17,6 +19,7 @@ import lombok.Builder;
  * It implements the UserDetails interface from Spring Security to facilitate authentication and authorization.
  * This entity includes user information such as their first name, last name, email, password,
  * role (ADMIN or SELLER), account activation status, email confirmation status, and creation timestamp.
+ * Users are held in the second-level cache, as nearly every request resolves the current user or a seller.
  */
 @Entity
 @Getter
@@ -24,7 +27,12 @@ import lombok.Builder;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name="users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@Table(name="users", indexes = {
+        // Serves the keyset pagination of the active users
+        @Index(name = "idx_users_is_activated_id", columnList = "is_activated, id")
+})
 public class User implements UserDetails {
 
     @Id
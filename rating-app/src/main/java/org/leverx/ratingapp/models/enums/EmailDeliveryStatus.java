@@ -0,0 +1,13 @@
+package org.leverx.ratingapp.models.enums;
+
+/**
+ * Enum to represent the delivery state of an email queued in the outbox.
+ * - PENDING: The email waits for its first or next delivery attempt.
+ * - SENT: The email has been accepted by the SMTP server.
+ * - DEAD: Every delivery attempt failed, the email is kept for inspection and is not retried.
+ */
+public enum EmailDeliveryStatus {
+    PENDING, // Waiting for delivery
+    SENT,    // Delivered to the SMTP server
+    DEAD     // Dead-lettered after the last failed attempt
+}
@@ -1,12 +1,24 @@
 package org.leverx.ratingapp.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.leverx.ratingapp.dtos.comments.CommentResponseDTO;
+import org.leverx.ratingapp.dtos.export.CommentExportDTO;
+import org.leverx.ratingapp.dtos.rating.SellerRatingAggregateDTO;
 import org.leverx.ratingapp.models.entities.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -14,8 +26,58 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.seller.id = ?1")
     List<Comment> findAllBySellerId(Long sellerId);
 
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new org.leverx.ratingapp.dtos.export.CommentExportDTO(" +
+            "c.id, c.message, a.email, s.email, c.grade, c.isApproved, c.createdAt) " +
+            "FROM Comment c LEFT JOIN c.author a JOIN c.seller s ORDER BY c.id")
+    Stream<CommentExportDTO> streamAllForExport();
+
+    // The sellers are already loaded by the caller, only the authors are needed for the DTOs
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT c FROM Comment c WHERE c.seller.id IN ?1")
+    List<Comment> findAllBySellerIdIn(Collection<Long> sellerIds);
+
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT c FROM Comment c WHERE c.seller.id IN ?1 AND c.isApproved = true")
+    List<Comment> findAllApprovedBySellerIdIn(Collection<Long> sellerIds);
+
+    @EntityGraph(attributePaths = {"author", "seller"})
     Optional<Comment> findByIdAndSellerId(Long commentId, Long sellerId);
 
-    @Query("SELECT c FROM Comment c WHERE c.isApproved = true")
-    List<Comment> findAllAcceptedBySellerId(Long sellerId);
+    // The listings select only the columns of the response, joining the author and seller emails
+    @Query("SELECT new org.leverx.ratingapp.dtos.comments.CommentResponseDTO(" +
+            "c.id, c.message, a.email, s.email, c.isApproved, c.grade) " +
+            "FROM Comment c LEFT JOIN c.author a JOIN c.seller s WHERE c.id > ?1 ORDER BY c.id")
+    Slice<CommentResponseDTO> findAllAfter(Long afterId, Pageable pageable);
+
+    @Query("SELECT new org.leverx.ratingapp.dtos.comments.CommentResponseDTO(" +
+            "c.id, c.message, a.email, s.email, c.isApproved, c.grade) " +
+            "FROM Comment c LEFT JOIN c.author a JOIN c.seller s " +
+            "WHERE s.id = ?1 AND c.id > ?2 ORDER BY c.id")
+    Slice<CommentResponseDTO> findAllBySellerIdAfter(Long sellerId, Long afterId, Pageable pageable);
+
+    @Query("SELECT new org.leverx.ratingapp.dtos.comments.CommentResponseDTO(" +
+            "c.id, c.message, a.email, s.email, c.isApproved, c.grade) " +
+            "FROM Comment c LEFT JOIN c.author a JOIN c.seller s " +
+            "WHERE s.id = ?1 AND c.isApproved = true AND c.id > ?2 ORDER BY c.id")
+    Slice<CommentResponseDTO> findApprovedBySellerIdAfter(Long sellerId, Long afterId, Pageable pageable);
+
+    @Query("SELECT new org.leverx.ratingapp.dtos.comments.CommentResponseDTO(" +
+            "c.id, c.message, a.email, s.email, c.isApproved, c.grade) " +
+            "FROM Comment c LEFT JOIN c.author a JOIN c.seller s " +
+            "WHERE s.id = ?1 AND (c.isApproved = true OR c.author.id = ?2) AND c.id > ?3 ORDER BY c.id")
+    Slice<CommentResponseDTO> findVisibleBySellerIdAfter(Long sellerId, Long authorId, Long afterId,
+                                                         Pageable pageable);
+
+    @Query("SELECT new org.leverx.ratingapp.dtos.rating.SellerRatingAggregateDTO(" +
+            "COUNT(c), " +
+            "COALESCE(SUM(c.grade), 0L), " +
+            "COALESCE(AVG(c.grade), 0.0), " +
+            "COALESCE(SUM(CASE WHEN c.grade = 1 THEN 1L ELSE 0L END), 0L), " +
+            "COALESCE(SUM(CASE WHEN c.grade = 2 THEN 1L ELSE 0L END), 0L), " +
+            "COALESCE(SUM(CASE WHEN c.grade = 3 THEN 1L ELSE 0L END), 0L), " +
+            "COALESCE(SUM(CASE WHEN c.grade = 4 THEN 1L ELSE 0L END), 0L), " +
+            "COALESCE(SUM(CASE WHEN c.grade = 5 THEN 1L ELSE 0L END), 0L)) " +
+            "FROM Comment c WHERE c.seller.id = ?1 AND c.isApproved = true")
+    SellerRatingAggregateDTO aggregateApprovedBySellerId(Long sellerId);
 }
@@ -0,0 +1,32 @@
+package org.leverx.ratingapp.repositories;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.leverx.ratingapp.models.entities.EmailOutboxMessage;
+import org.leverx.ratingapp.models.enums.EmailDeliveryStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    // A lock timeout of -2 makes Hibernate skip rows locked by other workers (FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM EmailOutboxMessage m WHERE m.status = ?1 AND m.nextAttemptAt <= ?2 ORDER BY m.nextAttemptAt")
+    List<EmailOutboxMessage> findDueForDelivery(EmailDeliveryStatus status, LocalDateTime now, Pageable pageable);
+
+    long countByStatus(EmailDeliveryStatus status);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.status = ?1 AND m.sentAt < ?2")
+    int deleteSentBefore(EmailDeliveryStatus status, LocalDateTime sentBefore);
+}
@@ -1,14 +1,24 @@
 package org.leverx.ratingapp.repositories;
 
+import org.leverx.ratingapp.dtos.gameobject.GameObjectResponseDTO;
 import org.leverx.ratingapp.models.entities.GameObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface GameObjectRepository extends JpaRepository<GameObject, Long> {
     List<GameObject> findAllByUserId(Long userId);
 
-    List<GameObject> findAllByTitleContainingIgnoreCase(String title);
+    List<GameObject> findAllByUserIdIn(Collection<Long> userIds);
+
+    @Query("SELECT new org.leverx.ratingapp.dtos.gameobject.GameObjectResponseDTO(" +
+            "g.id, g.title, g.text, u.email, g.updatedAt) " +
+            "FROM GameObject g JOIN g.user u WHERE g.id > ?1 ORDER BY g.id")
+    Slice<GameObjectResponseDTO> findAllAfter(Long afterId, Pageable pageable);
 }
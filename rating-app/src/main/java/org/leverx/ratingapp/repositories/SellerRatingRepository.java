@@ -1,12 +1,99 @@
 package org.leverx.ratingapp.repositories;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.leverx.ratingapp.dtos.rating.LeaderboardEntryDTO;
 import org.leverx.ratingapp.models.entities.SellerRating;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
 @Repository
 public interface SellerRatingRepository extends JpaRepository<SellerRating, Long> {
+    String LEADERBOARD_ENTRY = "SELECT new org.leverx.ratingapp.dtos.rating.LeaderboardEntryDTO(" +
+            "u.id, u.firstName, u.lastName, u.email, u.createdAt, sr.averageRating, sr.totalComments) ";
+
+    String LEADERBOARD_FILTER = "FROM SellerRating sr JOIN sr.user u " +
+            "WHERE u.isActivated = true AND u.role != 'ADMIN' " +
+            "AND (?1 IS NULL OR EXISTS (SELECT g.id FROM GameObject g " +
+            "WHERE g.normalizedTitle = ?1 AND g.user = u)) ";
+
+    String LEADERBOARD_ORDER = "ORDER BY sr.averageRating DESC, sr.totalComments DESC, u.id ASC";
+
+    // Rows ranked strictly higher than the given score
+    String RANKED_ABOVE = "AND (sr.averageRating > ?2 " +
+            "OR (sr.averageRating = ?2 AND sr.totalComments > ?3)) ";
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<SellerRating> findByUserId(Long userId);
+
+    List<SellerRating> findAllByUserIdIn(Collection<Long> userIds);
+
+    @Query("SELECT sr.user.id FROM SellerRating sr")
+    List<Long> findAllSellerIds();
+
+    // Locks the rating row (FOR UPDATE), so that concurrent moderations of a seller apply their deltas in turn
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT sr FROM SellerRating sr WHERE sr.user.id = ?1")
+    Optional<SellerRating> findByUserIdForUpdate(Long userId);
+
+    // Creates an empty rating unless the seller already has one, without failing on a concurrent creation.
+    // The query space limits the second-level cache invalidation to the seller ratings
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "seller_ratings"))
+    @Query(value = "INSERT INTO seller_ratings (seller_id, rating, created_at, average_rating, total_comments, " +
+            "grade_sum, grade_one_count, grade_two_count, grade_three_count, grade_four_count, grade_five_count, " +
+            "version) VALUES (?1, 0, ?2, 0, 0, 0, 0, 0, 0, 0, 0, 0) ON CONFLICT (seller_id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(Long userId, LocalDateTime createdAt);
+
+    @Modifying
+    @Query("DELETE FROM SellerRating sr WHERE sr.user.id = ?1")
+    int deleteByUserId(Long userId);
+
+    @Query(LEADERBOARD_ENTRY + "FROM SellerRating sr JOIN sr.user u " +
+            "WHERE u.isActivated = true AND u.role != 'ADMIN' AND u.id = ?1")
+    Optional<LeaderboardEntryDTO> findLeaderboardEntry(Long sellerId);
+
+    @Query(LEADERBOARD_ENTRY + LEADERBOARD_FILTER + LEADERBOARD_ORDER)
+    Slice<LeaderboardEntryDTO> findLeaderboard(String gameName, Pageable pageable);
+
+    @Query(LEADERBOARD_ENTRY + LEADERBOARD_FILTER +
+            "AND (sr.averageRating < ?2 " +
+            "OR (sr.averageRating = ?2 AND sr.totalComments < ?3) " +
+            "OR (sr.averageRating = ?2 AND sr.totalComments = ?3 AND u.id > ?4)) " +
+            LEADERBOARD_ORDER)
+    Slice<LeaderboardEntryDTO> findLeaderboardAfter(String gameName, Double averageRating,
+                                                   Integer totalComments, Long userId, Pageable pageable);
+
+    @Query("SELECT COUNT(sr) " + LEADERBOARD_FILTER + RANKED_ABOVE)
+    long countRankedAbove(String gameName, Double averageRating, Integer totalComments);
+
+    @Query("SELECT COUNT(sr) " + LEADERBOARD_FILTER + "AND (sr.averageRating > ?2 " +
+            "OR (sr.averageRating = ?2 AND sr.totalComments > ?3) " +
+            "OR (sr.averageRating = ?2 AND sr.totalComments = ?3 AND u.id < ?4))")
+    long countOrderedBefore(String gameName, Double averageRating, Integer totalComments, Long userId);
+
+    @Query(value = "SELECT COUNT(*) FROM (SELECT DISTINCT sr.average_rating, sr.total_comments " +
+            "FROM seller_ratings sr JOIN users u ON u.id = sr.seller_id " +
+            "WHERE u.is_activated = true AND u.role <> 'ADMIN' " +
+            "AND (CAST(?1 AS VARCHAR) IS NULL OR EXISTS (SELECT 1 FROM game_objects g " +
+            "WHERE g.normalized_title = CAST(?1 AS VARCHAR) AND g.seller_id = u.id)) " +
+            "AND (sr.average_rating > ?2 " +
+            "OR (sr.average_rating = ?2 AND sr.total_comments > ?3))) AS scores_above",
+            nativeQuery = true)
+    long countDistinctScoresAbove(String gameName, Double averageRating, Integer totalComments);
 }
@@ -1,41 +1,68 @@
 package org.leverx.ratingapp.repositories;
 
+import jakarta.persistence.QueryHint;
 import jakarta.transaction.Transactional;
+import org.leverx.ratingapp.dtos.export.UserExportDTO;
 import org.leverx.ratingapp.models.entities.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
+    // Clears the persistence context, so that the enabled user is not read back from a stale managed entity
     @Transactional
-    @Modifying
+    @Modifying(clearAutomatically = true)
     @Query("UPDATE User a " +
             "SET a.isActivated = TRUE WHERE a.email = ?1")
     void enableUser(String email);
 
-    @Query("SELECT u FROM User u WHERE u.isActivated = true AND u.role != 'ADMIN'")
-    List<User> findAllActiveUsers();
+    @Query("SELECT u FROM User u WHERE u.isActivated = true AND u.role != 'ADMIN' AND u.id > ?1 ORDER BY u.id")
+    Slice<User> findActiveUsersAfter(Long afterId, Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE u.id > ?1 ORDER BY u.id")
+    Slice<User> findAllAfter(Long afterId, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new org.leverx.ratingapp.dtos.export.UserExportDTO(" +
+            "u.id, u.firstName, u.lastName, u.email, u.role, u.isActivated, u.isEmailConfirmed, u.createdAt, " +
+            "r.averageRating, r.totalComments) " +
+            "FROM User u LEFT JOIN SellerRating r ON r.user = u ORDER BY u.id")
+    Stream<UserExportDTO> streamAllForExport();
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT u FROM User u WHERE u.isActivated = true AND u.id = ?1")
     Optional<User> findActiveUserById(Long id);
 
     @Query("SELECT u FROM User u WHERE u.isEmailConfirmed = false AND u.isActivated = false")
     List<User> findAllInactiveUsers();
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.isActivated = true AND u.id = ?1")
     boolean existsActiveUserById(Long user_id);
 
     @Query("SELECT u FROM User u WHERE u.isEmailConfirmed = true AND u.isActivated = false")
     List<User> findPendingUsers();
 
+    @Query("SELECT u FROM User u WHERE u.isActivated = true AND u.role != 'ADMIN' " +
+            "AND NOT EXISTS (SELECT sr.id FROM SellerRating sr WHERE sr.user = u)")
+    List<User> findActiveSellersWithoutRating();
+
     void deleteUserByEmail(String email);
 }
@@ -2,7 +2,10 @@ package org.leverx.ratingapp.repositories.redis;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 
@@ -13,6 +16,14 @@ import java.util.concurrent.TimeUnit;
  */
 @RequiredArgsConstructor
 public abstract class BaseRedisRepository {
+    // Deletes the key only if it still holds the expected value
+    private static final RedisScript<Long> REMOVE_IF_MATCHES_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
     protected final RedisTemplate<String, String> redisTemplate;
 
     /**
@@ -44,13 +55,12 @@ public abstract class BaseRedisRepository {
 
     /**
      * Saves a value in Redis with the specified identifier and configured TTL.
+     * The value and its TTL are set by a single command, so the key never exists without expiration.
      * @param identifier the unique identifier for the key
      * @param value the value to store
      */
     public void save(String identifier, String value) {
-        String key = buildKey(identifier);
-        redisTemplate.opsForValue().set(key, value);
-        redisTemplate.expire(key, getTTL(), getTTLUnit());
+        redisTemplate.opsForValue().set(buildKey(identifier), value, getTTL(), getTTLUnit());
     }
 
     /**
@@ -62,6 +72,26 @@ public abstract class BaseRedisRepository {
         return redisTemplate.opsForValue().get(buildKey(identifier));
     }
 
+    /**
+     * Atomically retrieves and removes a value from Redis, so that it can be consumed only once.
+     * @param identifier the unique identifier for the key
+     * @return the removed value, or null if not found
+     */
+    public String getAndDelete(String identifier) {
+        return redisTemplate.opsForValue().getAndDelete(buildKey(identifier));
+    }
+
+    /**
+     * Atomically removes a value from Redis if it is equal to the expected one.
+     * @param identifier the unique identifier for the key
+     * @param expectedValue the value the key must hold to be removed
+     * @return true if the value matched and was removed
+     */
+    public boolean removeIfMatches(String identifier, String expectedValue) {
+        Long removed = redisTemplate.execute(REMOVE_IF_MATCHES_SCRIPT, List.of(buildKey(identifier)), expectedValue);
+        return removed != null && removed > 0;
+    }
+
     /**
      * Removes a value from Redis by its identifier.
      * @param identifier the unique identifier for the key to remove
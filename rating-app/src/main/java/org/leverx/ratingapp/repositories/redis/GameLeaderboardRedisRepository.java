@@ -0,0 +1,72 @@
+package org.leverx.ratingapp.repositories.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.leverx.ratingapp.dtos.pagination.CursorPageDTO;
+import org.leverx.ratingapp.dtos.user.UserRankingDTO;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Repository
+public class GameLeaderboardRedisRepository extends BaseRedisRepository {
+    private static final String GAME_LEADERBOARD_PREFIX = "game_leaderboard:";  // Prefix for per-game leaderboard pages
+    private static final long PAGE_TTL_SECONDS = 60;  // Short TTL, ratings keep changing between rebuilds
+    private static final TypeReference<CursorPageDTO<UserRankingDTO>> PAGE_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    public GameLeaderboardRedisRepository(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        super(redisTemplate);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected String getPrefix() {
+        return GAME_LEADERBOARD_PREFIX;
+    }
+
+    @Override
+    protected long getTTL() {
+        return PAGE_TTL_SECONDS;
+    }
+
+    @Override
+    protected TimeUnit getTTLUnit() {
+        return TimeUnit.SECONDS;
+    }
+
+    /**
+     * Retrieves a cached page of a per-game leaderboard.
+     * @param identifier the identifier of the page
+     * @return the cached page, if present
+     */
+    public Optional<CursorPageDTO<UserRankingDTO>> findPage(String identifier) {
+        String json = get(identifier);
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, PAGE_TYPE));
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Could not deserialize leaderboard page", e);
+        }
+    }
+
+    /**
+     * Caches a page of a per-game leaderboard.
+     * @param identifier the identifier of the page
+     * @param page the page to cache
+     */
+    public void savePage(String identifier, CursorPageDTO<UserRankingDTO> page) {
+        try {
+            save(identifier, objectMapper.writeValueAsString(page));
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Could not serialize leaderboard page", e);
+        }
+    }
+}
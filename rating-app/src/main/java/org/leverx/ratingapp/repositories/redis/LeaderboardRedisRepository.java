@@ -0,0 +1,373 @@
+package org.leverx.ratingapp.repositories.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.leverx.ratingapp.dtos.rating.LeaderboardEntryDTO;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis repository maintaining the seller leaderboard as a sorted set.
+ * Each seller is scored by a composite of the average rating and the number of comments,
+ * so that top-N pages and ranks are answered in O(log N) without querying the database.
+ * Sellers with equal scores are ordered by ascending ID, like the database leaderboard,
+ * because members hold the inverted seller ID, zero-padded so that Redis compares them numerically.
+ * Keyset cursors are resolved by score and member, so that a page continues from the sort key of the previous one
+ * even if that seller has moved or left since.
+ * A second sorted set of distinct scores, reference-counted in a hash, serves dense ranks.
+ * The leaderboard is trusted only after a full rebuild has set the ready marker.
+ * Rebuilds are serialized by a lock and staged into keys of their own, and sellers changed while
+ * a rebuild is running are recorded, so that their latest state is replayed before it is published.
+ */
+@Repository
+public class LeaderboardRedisRepository {
+    private static final String PREFIX = "leaderboard:";
+    private static final String SELLERS_KEY = PREFIX + "sellers";             // Sorted set of seller members by score
+    private static final String SCORES_KEY = PREFIX + "scores";               // Sorted set of distinct scores
+    private static final String SCORE_COUNTS_KEY = PREFIX + "score_counts";   // Number of sellers per score
+    private static final String ENTRIES_KEY = PREFIX + "entries";             // Seller details by seller member
+    private static final String READY_KEY = PREFIX + "ready";                 // Marker of a completed rebuild
+    private static final String REBUILD_LOCK_KEY = PREFIX + "rebuild:lock";   // ID of the running rebuild
+    private static final String REBUILD_CHANGES_KEY = PREFIX + "rebuild:changes"; // Sellers changed during the rebuild
+    private static final String REBUILD_INFIX = ":rebuild:";
+    private static final List<String> DATA_KEYS = List.of(SELLERS_KEY, SCORES_KEY, SCORE_COUNTS_KEY, ENTRIES_KEY);
+    private static final List<String> WRITE_KEYS = List.of(SELLERS_KEY, SCORES_KEY, SCORE_COUNTS_KEY, ENTRIES_KEY,
+            REBUILD_LOCK_KEY, REBUILD_CHANGES_KEY);
+
+    private static final long AVERAGE_SCALE = 1_000_000L;   // Precision kept from the average rating
+    private static final long TOTAL_SCALE = 10_000_000L;    // Room left for the number of comments
+    private static final int MEMBER_DIGITS = 19;            // Digits of Long.MAX_VALUE
+
+    // Moves a seller to its new score, keeping the distinct score bookkeeping consistent
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            local old = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if old then
+                if redis.call('HINCRBY', KEYS[3], old, -1) <= 0 then
+                    redis.call('HDEL', KEYS[3], old)
+                    redis.call('ZREM', KEYS[2], old)
+                end
+            end
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('HINCRBY', KEYS[3], ARGV[2], 1)
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[2])
+            redis.call('HSET', KEYS[4], ARGV[1], ARGV[3])
+            if redis.call('EXISTS', KEYS[5]) == 1 then
+                redis.call('SADD', KEYS[6], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    // Removes a seller, keeping the distinct score bookkeeping consistent
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            local old = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if old then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+                if redis.call('HINCRBY', KEYS[3], old, -1) <= 0 then
+                    redis.call('HDEL', KEYS[3], old)
+                    redis.call('ZREM', KEYS[2], old)
+                end
+            end
+            redis.call('HDEL', KEYS[4], ARGV[1])
+            if redis.call('EXISTS', KEYS[5]) == 1 then
+                redis.call('SADD', KEYS[6], ARGV[1])
+            end
+            return old and 1 or 0
+            """, Long.class);
+
+    // Finds the position of the first seller ordered after a sort key: past the higher scores, then by binary search
+    // over the equal scores, whose members descend in reverse order, so that long runs of ties cost O(log N) lookups
+    private static final RedisScript<Long> POSITION_AFTER_SCRIPT = new DefaultRedisScript<>("""
+            local low = redis.call('ZCOUNT', KEYS[1], '(' .. ARGV[1], '+inf')
+            local high = low + redis.call('ZCOUNT', KEYS[1], ARGV[1], ARGV[1])
+            while low < high do
+                local middle = math.floor((low + high) / 2)
+                if redis.call('ZREVRANGE', KEYS[1], middle, middle)[1] >= ARGV[2] then
+                    low = middle + 1
+                else
+                    high = middle
+                end
+            end
+            return low
+            """, Long.class);
+
+    // Acquires the rebuild lock and forgets the changes recorded for an earlier rebuild
+    private static final RedisScript<Long> START_REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                redis.call('DEL', KEYS[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // Replays the sellers changed during the rebuild onto the staging keys, then swaps them in,
+    // unless the lock has expired and another rebuild may have taken over
+    private static final RedisScript<Long> PUBLISH_REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[9]) ~= ARGV[1] then
+                return 0
+            end
+            for _, member in ipairs(redis.call('SMEMBERS', KEYS[10])) do
+                local staged = redis.call('ZSCORE', KEYS[5], member)
+                if staged then
+                    redis.call('ZREM', KEYS[5], member)
+                    if redis.call('HINCRBY', KEYS[7], staged, -1) <= 0 then
+                        redis.call('HDEL', KEYS[7], staged)
+                        redis.call('ZREM', KEYS[6], staged)
+                    end
+                    redis.call('HDEL', KEYS[8], member)
+                end
+                local score = redis.call('ZSCORE', KEYS[1], member)
+                if score then
+                    redis.call('ZADD', KEYS[5], score, member)
+                    redis.call('HINCRBY', KEYS[7], score, 1)
+                    redis.call('ZADD', KEYS[6], score, score)
+                    redis.call('HSET', KEYS[8], member, redis.call('HGET', KEYS[4], member))
+                end
+            end
+            for i = 1, 4 do
+                if redis.call('EXISTS', KEYS[i + 4]) == 1 then
+                    redis.call('RENAME', KEYS[i + 4], KEYS[i])
+                    redis.call('PERSIST', KEYS[i])
+                else
+                    redis.call('DEL', KEYS[i])
+                end
+            end
+            redis.call('DEL', KEYS[9], KEYS[10])
+            redis.call('SET', KEYS[11], '1')
+            return 1
+            """, Long.class);
+
+    // Drops the staging keys of a failed rebuild and releases the lock if it is still held by it
+    private static final RedisScript<Long> ABORT_REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1], KEYS[2], KEYS[3], KEYS[4])
+            if redis.call('GET', KEYS[5]) == ARGV[1] then
+                redis.call('DEL', KEYS[5], KEYS[6])
+            end
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public LeaderboardRedisRepository(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Computes the composite score of a seller. Integral scores below 2^53 are exact in Redis
+     * and are rendered identically by Redis and {@link Long#toString()}.
+     * @param averageRating the average rating of the seller
+     * @param totalComments the number of approved comments of the seller
+     * @return the score ordering sellers by average rating, then by number of comments
+     */
+    public static long score(Double averageRating, Integer totalComments) {
+        return Math.round(averageRating * AVERAGE_SCALE) * TOTAL_SCALE
+                + Math.min(totalComments, TOTAL_SCALE - 1);
+    }
+
+    /**
+     * Checks whether the leaderboard has been fully built and can serve reads.
+     * @return true if the ready marker is present
+     */
+    public boolean isReady() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY));
+    }
+
+    /**
+     * Saves or moves a seller on the leaderboard.
+     * @param entry the current leaderboard row of the seller
+     */
+    public void save(LeaderboardEntryDTO entry) {
+        redisTemplate.execute(SAVE_SCRIPT, WRITE_KEYS,
+                member(entry.id()),
+                Long.toString(score(entry.averageRating(), entry.totalComments())),
+                serialize(entry));
+    }
+
+    /**
+     * Removes a seller from the leaderboard.
+     * @param sellerId the ID of the seller
+     * @return true if the seller was on the leaderboard
+     */
+    public boolean remove(Long sellerId) {
+        return Long.valueOf(1).equals(redisTemplate.execute(REMOVE_SCRIPT, WRITE_KEYS, member(sellerId)));
+    }
+
+    /**
+     * Retrieves the sellers between two zero-based positions, best first.
+     * @param start the position of the first seller
+     * @param end the position of the last seller, inclusive
+     * @return the leaderboard rows in order
+     */
+    public List<LeaderboardEntryDTO> findRange(long start, long end) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(SELLERS_KEY, start, end);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        List<Object> values = redisTemplate.opsForHash().multiGet(ENTRIES_KEY, new ArrayList<>(members));
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(value -> deserialize((String) value))
+                .toList();
+    }
+
+    /**
+     * Retrieves a seller from the leaderboard.
+     * @param sellerId the ID of the seller
+     * @return the leaderboard row of the seller, if present
+     */
+    public Optional<LeaderboardEntryDTO> findEntry(Long sellerId) {
+        Object value = redisTemplate.opsForHash().get(ENTRIES_KEY, member(sellerId));
+        return Optional.ofNullable(value).map(json -> deserialize((String) json));
+    }
+
+    /**
+     * Finds the zero-based position of the first seller ordered after a sort key, whether or not
+     * the seller of that key is still on the leaderboard with the same score.
+     * @param averageRating the average rating of the sort key
+     * @param totalComments the number of comments of the sort key
+     * @param sellerId the seller ID of the sort key
+     * @return the position of the first seller ranked lower, or tied with a higher ID
+     */
+    public long findPositionAfter(Double averageRating, Integer totalComments, Long sellerId) {
+        Long position = redisTemplate.execute(POSITION_AFTER_SCRIPT, List.of(SELLERS_KEY),
+                Long.toString(score(averageRating, totalComments)), member(sellerId));
+        return position != null ? position : 0;
+    }
+
+    /**
+     * Counts the sellers with a strictly higher score.
+     * @param entry the leaderboard row to compare with
+     * @return the number of sellers ranked above
+     */
+    public long countRankedAbove(LeaderboardEntryDTO entry) {
+        return countAbove(SELLERS_KEY, entry);
+    }
+
+    /**
+     * Counts the distinct scores strictly higher than the score of a seller.
+     * @param entry the leaderboard row to compare with
+     * @return the number of distinct scores above
+     */
+    public long countDistinctScoresAbove(LeaderboardEntryDTO entry) {
+        return countAbove(SCORES_KEY, entry);
+    }
+
+    /**
+     * Starts a rebuild unless another one is running. From now on, the sellers saved or removed
+     * are recorded, so that the rebuild can replay them before it is published.
+     * @param timeout the time after which the lock and the staging keys of an unfinished rebuild expire
+     * @return the ID of the started rebuild, or empty if another rebuild holds the lock
+     */
+    public Optional<String> startRebuild(Duration timeout) {
+        String rebuildId = UUID.randomUUID().toString();
+        Long started = redisTemplate.execute(START_REBUILD_SCRIPT,
+                List.of(REBUILD_LOCK_KEY, REBUILD_CHANGES_KEY),
+                rebuildId, Long.toString(timeout.toMillis()));
+        return Long.valueOf(1).equals(started) ? Optional.of(rebuildId) : Optional.empty();
+    }
+
+    /**
+     * Writes a batch of sellers to the staging keys of a rebuild.
+     * @param rebuildId the ID returned by {@link #startRebuild(Duration)}
+     * @param entries the leaderboard rows to add
+     * @param timeout the time after which the staging keys expire, unless the rebuild is published
+     */
+    public void addToRebuild(String rebuildId, List<LeaderboardEntryDTO> entries, Duration timeout) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Set<TypedTuple<String>> sellers = new HashSet<>();
+        Set<TypedTuple<String>> scores = new HashSet<>();
+        Map<String, Long> scoreCounts = new HashMap<>();
+        Map<String, String> serialized = new HashMap<>();
+        for (LeaderboardEntryDTO entry : entries) {
+            long score = score(entry.averageRating(), entry.totalComments());
+            String scoreMember = Long.toString(score);
+            sellers.add(TypedTuple.of(member(entry.id()), (double) score));
+            scores.add(TypedTuple.of(scoreMember, (double) score));
+            scoreCounts.merge(scoreMember, 1L, Long::sum);
+            serialized.put(member(entry.id()), serialize(entry));
+        }
+        List<String> staging = stagingKeys(rebuildId);
+        redisTemplate.opsForZSet().add(staging.get(0), sellers);
+        redisTemplate.opsForZSet().add(staging.get(1), scores);
+        scoreCounts.forEach((score, count) ->
+                redisTemplate.opsForHash().increment(staging.get(2), score, count));
+        redisTemplate.opsForHash().putAll(staging.get(3), serialized);
+        staging.forEach(key -> redisTemplate.expire(key, timeout));
+    }
+
+    /**
+     * Replays the sellers changed since the rebuild started, then atomically replaces each live key
+     * with its staging counterpart, marks the leaderboard as ready and releases the lock.
+     * @param rebuildId the ID returned by {@link #startRebuild(Duration)}
+     * @return true if the rebuild was published, false if its lock has expired in the meantime
+     */
+    public boolean publishRebuild(String rebuildId) {
+        List<String> keys = new ArrayList<>(DATA_KEYS);
+        keys.addAll(stagingKeys(rebuildId));
+        keys.addAll(List.of(REBUILD_LOCK_KEY, REBUILD_CHANGES_KEY, READY_KEY));
+        return Long.valueOf(1).equals(redisTemplate.execute(PUBLISH_REBUILD_SCRIPT, keys, rebuildId));
+    }
+
+    /**
+     * Drops the staging keys of a rebuild which will not be published and releases its lock.
+     * @param rebuildId the ID returned by {@link #startRebuild(Duration)}
+     */
+    public void abortRebuild(String rebuildId) {
+        List<String> keys = new ArrayList<>(stagingKeys(rebuildId));
+        keys.addAll(List.of(REBUILD_LOCK_KEY, REBUILD_CHANGES_KEY));
+        redisTemplate.execute(ABORT_REBUILD_SCRIPT, keys, rebuildId);
+    }
+
+    /**
+     * Helping function, which renders the sorted set member of a seller. Equal scores are ordered
+     * lexicographically by member, descending for reverse ranges, so the inverted ID puts lower IDs first.
+     */
+    private static String member(Long sellerId) {
+        return String.format("%0" + MEMBER_DIGITS + "d", Long.MAX_VALUE - sellerId);
+    }
+
+    private List<String> stagingKeys(String rebuildId) {
+        return DATA_KEYS.stream().map(key -> key + REBUILD_INFIX + rebuildId).toList();
+    }
+
+    private long countAbove(String key, LeaderboardEntryDTO entry) {
+        // Scores are integral, so the next integer excludes the seller's own score
+        double min = score(entry.averageRating(), entry.totalComments()) + 1;
+        Long count = redisTemplate.opsForZSet().count(key, min, Double.POSITIVE_INFINITY);
+        return count != null ? count : 0;
+    }
+
+    private String serialize(LeaderboardEntryDTO entry) {
+        try {
+            return objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Could not serialize leaderboard entry", e);
+        }
+    }
+
+    private LeaderboardEntryDTO deserialize(String json) {
+        try {
+            return objectMapper.readValue(json, LeaderboardEntryDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Could not deserialize leaderboard entry", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.leverx.ratingapp.repositories.redis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Repository
+public class PrincipalRedisRepository extends BaseRedisRepository {
+    private static final String PRINCIPAL_PREFIX = "principal:";  // Prefix for cached principal keys
+    private final Duration ttl;  // Cached principal TTL, shared with the local cache
+
+    public PrincipalRedisRepository(RedisTemplate<String, String> redisTemplate,
+                                    @Value("${security.principal-cache.ttl}") Duration ttl) {
+        super(redisTemplate);
+        this.ttl = ttl;
+    }
+
+    @Override
+    protected String getPrefix() {
+        return PRINCIPAL_PREFIX;
+    }
+
+    @Override
+    protected long getTTL() {
+        return ttl.toSeconds();
+    }
+
+    @Override
+    protected TimeUnit getTTLUnit() {
+        return TimeUnit.SECONDS;
+    }
+}
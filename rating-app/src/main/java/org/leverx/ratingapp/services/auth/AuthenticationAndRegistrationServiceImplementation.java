@@ -14,12 +14,15 @@ import org.leverx.ratingapp.exceptions.ResourceNotFoundException;
 import org.leverx.ratingapp.repositories.UserRepository;
 import org.leverx.ratingapp.services.auth.authorization.AuthorizationServiceImplementation;
 import org.leverx.ratingapp.services.auth.jwt.JwtService;
+import org.leverx.ratingapp.services.auth.principal.PrincipalCacheService;
 import org.leverx.ratingapp.services.auth.resetcode.ResetCodeService;
 import org.leverx.ratingapp.services.auth.token.ConfirmationTokenService;
 import org.leverx.ratingapp.services.pendingcomment.PendingCommentService;
+import org.leverx.ratingapp.services.rating.RatingCalculationService;
 import org.leverx.ratingapp.services.user.UserService;
 import org.leverx.ratingapp.services.email.EmailService;
 import org.leverx.ratingapp.services.email.validation.EmailValidatorService;
+import org.leverx.ratingapp.services.leaderboard.LeaderboardService;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -51,6 +54,9 @@ public class AuthenticationAndRegistrationServiceImplementation implements Authe
     private final PendingCommentService pendingCommentService;
     private final AuthorizationServiceImplementation authorizationService;
     private final ResetCodeService resetCodeService;
+    private final PrincipalCacheService principalCacheService;
+    private final LeaderboardService leaderboardService;
+    private final RatingCalculationService ratingCalculationService;
 
     /**
      * Retrieves the current authenticated user.
@@ -194,6 +200,7 @@ public class AuthenticationAndRegistrationServiceImplementation implements Authe
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         user.setIsEmailConfirmed(true);
         userRepository.save(user);
+        principalCacheService.evictPrincipal(userEmail);
         
         return String.format("Email is %s. Waiting for admin approval.",
                 Status.ACTIVE.getValueOfStatus());
@@ -201,6 +208,7 @@ public class AuthenticationAndRegistrationServiceImplementation implements Authe
 
     /**
      * Confirms or denies a user's registration based on their email and confirmation status.
+     * A denied user is deleted together with their seller rating, and removed from the cached leaderboard.
      *
      * @param email the email of the user to be confirmed.
      * @param confirm the confirmation status (true or false).
@@ -221,7 +229,10 @@ public class AuthenticationAndRegistrationServiceImplementation implements Authe
         }
 
         if (!confirm) {
+            ratingCalculationService.deleteSellerRating(user.getId());
             userRepository.deleteUserByEmail(email);
+            principalCacheService.evictPrincipal(email);
+            leaderboardService.removeSeller(user.getId());
             confirmationTokenService.removeConfirmationToken(email);
             return String.format("User registration is %s",
                     Status.DELETED.getValueOfStatus());
@@ -266,8 +277,7 @@ public class AuthenticationAndRegistrationServiceImplementation implements Authe
     @Transactional
     @Override
     public AuthenticationResponseDTO resetPassword(PasswordResetRequestDTO request) {
-        String storedCode = resetCodeService.getResetCode(request.email());
-        if (storedCode == null || !storedCode.equals(request.code())) {
+        if (request.code() == null || !resetCodeService.consumeResetCode(request.email(), request.code())) {
             throw new InvalidOperationException("Invalid or expired reset code");
         }
 
@@ -276,7 +286,7 @@ public class AuthenticationAndRegistrationServiceImplementation implements Authe
 
         user.setPassword(passwordEncoder.encode(request.newPassword()));
         userRepository.save(user);
-        resetCodeService.removeResetCode(request.email());
+        principalCacheService.evictPrincipal(request.email());
 
         return AuthenticationResponseDTO.builder()
                 .user(request.email())
@@ -61,7 +61,8 @@ public class AuthorizationServiceImplementation implements AuthorizationService
         } else if (entity instanceof GameObject gameObject) {
             resourceOwner = gameObject.getUser();
         }
-        // If the resource owner is null or does not match the current user's ID, throw an exception
+        // If the resource owner is null or does not match the current user's ID, throw an exception.
+        // Reading the ID of a lazy owner does not initialize it, so the check costs no query
         if (resourceOwner == null || !resourceOwner.getId().equals(currentUser.getId())) {
             throw new ForbiddenException("You do not have permission to modify this resource");
         }
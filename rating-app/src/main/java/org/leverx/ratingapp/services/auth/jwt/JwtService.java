@@ -11,6 +11,8 @@ import java.util.function.Function;
  * It includes methods to extract information from a JWT, generate new JWTs, and validate tokens.
  */
 public interface JwtService {
+     // Verifies the signature of the given JWT token and parses its claims once
+     VerifiedToken parseToken(String token);
      // Extracts the username (subject) from the given JWT token
      String extractUsername(String token);
      // Extracts a specific claim from the given JWT token.
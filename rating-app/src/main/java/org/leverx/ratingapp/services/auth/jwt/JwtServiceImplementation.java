@@ -2,6 +2,7 @@ package org.leverx.ratingapp.services.auth.jwt;
 
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -24,6 +25,42 @@ public class JwtServiceImplementation implements JwtService {
     // The secret key for signing the JWT token, retrieved from environment variables
     private static final String SECRET_KEY = System.getenv("JWT_SECRET_KEY");
 
+    // The signing key and the parser are thread-safe, so they are built once and reused by every request
+    private final Key signInKey;
+    private final JwtParser jwtParser;
+
+    public JwtServiceImplementation() {
+        this(SECRET_KEY);
+    }
+
+    /**
+     * Creates the service for the given base64-encoded secret key.
+     *
+     * @param secretKey the base64-encoded secret key for signing and verifying tokens.
+     * @throws IllegalStateException if the secret key is not set.
+     */
+    public JwtServiceImplementation(String secretKey) {
+        if (secretKey == null || secretKey.isBlank()) {
+            throw new IllegalStateException("JWT_SECRET_KEY is not set");
+        }
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)); // Create a HMAC signing key
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+    }
+
+    /**
+     * Verifies the signature of the JWT token and parses its claims.
+     * Callers that need several claims of the same token should parse it once and reuse the result.
+     *
+     * @param token the JWT token.
+     * @return the {@link VerifiedToken} with the claims of the token.
+     */
+    @Override
+    public VerifiedToken parseToken(String token) {
+        return new VerifiedToken(extractAllClaims(token));
+    }
+
     /**
      * Extracts the username (subject) from the JWT token.
      *
@@ -32,7 +69,7 @@ public class JwtServiceImplementation implements JwtService {
      */
     @Override
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseToken(token).username();
     }
 
     /**
@@ -45,8 +82,7 @@ public class JwtServiceImplementation implements JwtService {
      */
     @Override
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return parseToken(token).claim(claimsResolver);
     }
 
     /**
@@ -78,12 +114,13 @@ public class JwtServiceImplementation implements JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 24))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact(); // Return the token as a compact string
     }
 
     /**
      * Validates whether the given JWT token is valid based on the user details.
+     * The token is parsed once for both the username and the expiration checks.
      *
      * @param token the JWT token to validate.
      * @param userDetails the user details to compare against the token.
@@ -91,29 +128,7 @@ public class JwtServiceImplementation implements JwtService {
      */
     @Override
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername())
-                && !isTokenExpired(token);
-    }
-
-    /**
-     * Checks whether the JWT token has expired.
-     *
-     * @param token the JWT token to check.
-     * @return true if the token has expired, false otherwise.
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    /**
-     * Extracts the expiration date of the JWT token.
-     *
-     * @param token the JWT token.
-     * @return the expiration date of the token.
-     */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return parseToken(token).isValidFor(userDetails);
     }
 
     /**
@@ -124,21 +139,8 @@ public class JwtServiceImplementation implements JwtService {
      */
     @Override
     public Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
-
-    }
-    /**
-     * Retrieves the signing key used for signing JWT tokens.
-     *
-     * @return the signing key.
-     */
-    private Key getSignInKey(){
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY); // Decode the base64-encoded secret key
-        return Keys.hmacShaKeyFor(keyBytes); // Create a HMAC signing key
     }
 }
@@ -0,0 +1,56 @@
+package org.leverx.ratingapp.services.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * The claims of a JWT token whose signature has been verified.
+ * The token is parsed once, and every check of a request is answered from these claims.
+ *
+ * @param claims the verified claims of the token.
+ */
+public record VerifiedToken(Claims claims) {
+
+    /**
+     * Retrieves the username (subject) of the token.
+     *
+     * @return the username of the token.
+     */
+    public String username() {
+        return claims.getSubject();
+    }
+
+    /**
+     * Retrieves a specific claim of the token.
+     *
+     * @param claimsResolver a function to extract a specific claim.
+     * @param <T> the type of the claim.
+     * @return the value of the claim.
+     */
+    public <T> T claim(Function<Claims, T> claimsResolver) {
+        return claimsResolver.apply(claims);
+    }
+
+    /**
+     * Checks whether the token has expired.
+     *
+     * @return true if the token has expired, false otherwise.
+     */
+    public boolean isExpired() {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
+    }
+
+    /**
+     * Checks whether the token belongs to the given user and has not expired.
+     *
+     * @param userDetails the user details to compare against the token.
+     * @return true if the token is valid for the user, false otherwise.
+     */
+    public boolean isValidFor(UserDetails userDetails) {
+        return userDetails.getUsername().equals(username()) && !isExpired();
+    }
+}
@@ -0,0 +1,20 @@
+package org.leverx.ratingapp.services.auth.principal;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * PrincipalCacheService interface defines the operations for caching the principals
+ * of authenticated requests, so that they are not loaded from the database on every request.
+ */
+public interface PrincipalCacheService {
+
+    // Loads the principal of a user by email, from the cache when possible
+    UserDetails loadPrincipal(String email);
+
+    // Evicts the cached principal of a user whose account has changed
+    void evictPrincipal(String email);
+
+    // Retrieves the hit, miss and eviction statistics of the local cache
+    CacheStats getStatistics();
+}
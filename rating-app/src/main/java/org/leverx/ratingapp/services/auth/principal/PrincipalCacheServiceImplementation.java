@@ -0,0 +1,157 @@
+package org.leverx.ratingapp.services.auth.principal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.leverx.ratingapp.dtos.auth.CachedPrincipalDTO;
+import org.leverx.ratingapp.repositories.UserRepository;
+import org.leverx.ratingapp.repositories.redis.PrincipalRedisRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * PrincipalCacheServiceImplementation is the concrete implementation of the {@link PrincipalCacheService} interface.
+ * Principals are kept in a bounded local cache that expires them after a fixed TTL. When enabled,
+ * Redis serves as a second tier shared by all instances, so a principal is loaded from the database
+ * at most once per TTL across the cluster. Evictions clear both tiers, and once more after the surrounding
+ * transaction commits, so a concurrent request cannot cache the state that is being replaced.
+ * Other instances drop their local copy when its TTL expires.
+ * The hit, miss and eviction statistics of the local cache are published as the {@code principals} cache metrics.
+ */
+@Slf4j
+@Service
+public class PrincipalCacheServiceImplementation implements PrincipalCacheService, MeterBinder {
+    private static final String CACHE_NAME = "principals";
+
+    private final UserRepository userRepository;
+    private final PrincipalRedisRepository principalRedisRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean redisEnabled;
+    private final Cache<String, CachedPrincipalDTO> localCache;
+
+    public PrincipalCacheServiceImplementation(UserRepository userRepository,
+                                               PrincipalRedisRepository principalRedisRepository,
+                                               ObjectMapper objectMapper,
+                                               @Value("${security.principal-cache.maximum-size}") long maximumSize,
+                                               @Value("${security.principal-cache.ttl}") Duration ttl,
+                                               @Value("${security.principal-cache.redis-enabled}") boolean redisEnabled) {
+        this.userRepository = userRepository;
+        this.principalRedisRepository = principalRedisRepository;
+        this.objectMapper = objectMapper;
+        this.redisEnabled = redisEnabled;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Loads the principal of a user by email, from the local cache, then from Redis, then from the database.
+     * Each call returns a new detached {@link org.leverx.ratingapp.models.entities.User},
+     * so requests never share a mutable principal.
+     *
+     * @param email The email of the user.
+     * @return The {@link UserDetails} of the user, without the password hash.
+     * @throws UsernameNotFoundException If no user with the specified email is found.
+     */
+    @Override
+    public UserDetails loadPrincipal(String email) {
+        return localCache.get(email, this::loadFromSharedTier).toUser();
+    }
+
+    /**
+     * Evicts the cached principal of a user whose account has changed.
+     * Called whenever a user is enabled, deleted, confirms their email or resets their password.
+     *
+     * @param email The email of the user.
+     */
+    @Override
+    public void evictPrincipal(String email) {
+        invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(email);
+                }
+            });
+        }
+    }
+
+    /**
+     * Retrieves the hit, miss and eviction statistics of the local cache.
+     *
+     * @return The {@link CacheStats} of the local cache.
+     */
+    @Override
+    public CacheStats getStatistics() {
+        return localCache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, localCache, CACHE_NAME);
+    }
+
+    private CachedPrincipalDTO loadFromSharedTier(String email) {
+        if (redisEnabled) {
+            CachedPrincipalDTO cached = readFromRedis(email);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        CachedPrincipalDTO principal = userRepository.findByEmail(email)
+                .map(CachedPrincipalDTO::mapToCachedPrincipalDTO)
+                .orElseThrow(() -> new UsernameNotFoundException(
+                        String.format("User with email %s not found", email)));
+
+        if (redisEnabled) {
+            writeToRedis(principal);
+        }
+        return principal;
+    }
+
+    private CachedPrincipalDTO readFromRedis(String email) {
+        try {
+            String json = principalRedisRepository.get(email);
+            return json != null ? objectMapper.readValue(json, CachedPrincipalDTO.class) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[PRINCIPAL] Redis read failed, falling back to the database: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToRedis(CachedPrincipalDTO principal) {
+        try {
+            principalRedisRepository.save(principal.email(), objectMapper.writeValueAsString(principal));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[PRINCIPAL] Redis write failed: {}", e.getMessage());
+        }
+    }
+
+    private void invalidate(String email) {
+        localCache.invalidate(email);
+        if (redisEnabled) {
+            try {
+                principalRedisRepository.remove(email);
+            } catch (DataAccessException e) {
+                log.warn("[PRINCIPAL] Redis eviction failed: {}", e.getMessage());
+            }
+        }
+    }
+}
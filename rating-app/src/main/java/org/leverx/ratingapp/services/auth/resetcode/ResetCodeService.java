@@ -12,6 +12,6 @@ public interface ResetCodeService {
     // Retrieves the reset code associated with a user's email
     String getResetCode(String email);
 
-    // Removes the reset code associated with a user's email.
-    void removeResetCode(String email);
+    // Removes the reset code associated with a user's email if it matches the provided one
+    boolean consumeResetCode(String email, String resetCode);
 }
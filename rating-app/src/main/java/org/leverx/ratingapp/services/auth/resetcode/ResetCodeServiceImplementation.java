@@ -38,13 +38,15 @@ public class ResetCodeServiceImplementation implements ResetCodeService {
     }
 
     /**
-     * Removes the reset code associated with a user's email.
-     * This is typically done after the reset code has been used or has expired.
+     * Removes the reset code associated with a user's email if it matches the provided code.
+     * The comparison and the removal are a single atomic operation, so a reset code can be used only once.
      *
      * @param email The user's email address.
+     * @param resetCode The reset code provided by the user.
+     * @return true if the reset code matched and was removed.
      */
     @Override
-    public void removeResetCode(String email) {
-        resetCodeRedisRepository.remove(email);
+    public boolean consumeResetCode(String email, String resetCode) {
+        return resetCodeRedisRepository.removeIfMatches(email, resetCode);
     }
 }
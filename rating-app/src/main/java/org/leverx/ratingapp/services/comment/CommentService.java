@@ -2,8 +2,9 @@ package org.leverx.ratingapp.services.comment;
 
 import org.leverx.ratingapp.dtos.comments.CommentRequestDTO;
 import org.leverx.ratingapp.dtos.comments.CommentResponseDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageRequestDTO;
 
-import java.util.List;
 /**
  * CommentService is interface for managing comments related to sellers.
  * Handles the creation, retrieval, update, approval, and deletion of comments.
@@ -12,8 +13,8 @@ public interface CommentService {
      // Creates a new comment for a seller
      CommentResponseDTO create(Long sellerId, CommentRequestDTO commentObject);
 
-     // Retrieves all comments for a specific seller.
-     List<CommentResponseDTO> getAllBySellerId(Long sellerId, Boolean isAdmin);
+     // Retrieves a page of comments for a specific seller.
+     CursorPageDTO<CommentResponseDTO> getAllBySellerId(Long sellerId, Boolean isAdmin, CursorPageRequestDTO pageRequest);
 
      // Retrieves a specific comment by its ID for a seller
      CommentResponseDTO getComment(Long sellerId, Long commentId, Boolean isAdmin);
@@ -27,6 +28,6 @@ public interface CommentService {
      // Approves or deletes a comment based on the given confirmation.
      CommentResponseDTO approveComment(Long sellerId, Long commentId,Boolean confirm);
 
-     // Retrieves all comments from the system
-     List<CommentResponseDTO> getAll();
+     // Retrieves a page of comments from the system
+     CursorPageDTO<CommentResponseDTO> getAll(CursorPageRequestDTO pageRequest);
 }
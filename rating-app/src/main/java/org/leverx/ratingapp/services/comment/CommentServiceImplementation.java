@@ -1,9 +1,10 @@
 package org.leverx.ratingapp.services.comment;
 
-import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.leverx.ratingapp.dtos.comments.CommentRequestDTO;
 import org.leverx.ratingapp.dtos.comments.CommentResponseDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageRequestDTO;
 import org.leverx.ratingapp.models.entities.Comment;
 import org.leverx.ratingapp.models.entities.User;
 import org.leverx.ratingapp.models.enums.Status;
@@ -11,10 +12,12 @@ import org.leverx.ratingapp.exceptions.ResourceNotFoundException;
 import org.leverx.ratingapp.repositories.CommentRepository;
 import org.leverx.ratingapp.repositories.UserRepository;
 import org.leverx.ratingapp.services.auth.authorization.AuthorizationServiceImplementation;
-import org.leverx.ratingapp.services.rating.RatingCalculationServiceImplementation;
+import org.leverx.ratingapp.services.rating.RatingUpdateService;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
-import java.util.List;
-import java.util.stream.Stream;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Function;
 
 /**
  * Service implementation of {@link CommentService} for managing comments related to sellers.
@@ -27,9 +30,9 @@ public class CommentServiceImplementation implements CommentService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
 
-    // Services for authorization and rating calculation
+    // Services for authorization and rating updates
     private final AuthorizationServiceImplementation authorizationService;
-    private final RatingCalculationServiceImplementation ratingCalculationServiceImplementation;
+    private final RatingUpdateService ratingUpdateService;
 
     /**
      * Creates a new comment for a seller.
@@ -64,7 +67,7 @@ public class CommentServiceImplementation implements CommentService {
 
         // Update seller's rating if the comment is approved
         if (comment.getIsApproved()) {
-            ratingCalculationServiceImplementation.updateSellerRating(sellerId);
+            ratingUpdateService.gradeApproved(sellerId, comment.getGrade());
         }
 
         // Return the comment wrapped in a DTO
@@ -72,7 +75,7 @@ public class CommentServiceImplementation implements CommentService {
                 .id(comment.getId())
                 .message(comment.getMessage())
                 .grade(comment.getGrade())
-                .author(currentUser != null ? currentUser.getEmail() : null)
+                .author(authorOf(currentUser))
                 .seller(seller.getEmail())
                 .status(String.format("Comment is %s, please wait for verification",
                         Status.CREATED.getValueOfStatus()))
@@ -80,16 +83,19 @@ public class CommentServiceImplementation implements CommentService {
     }
 
     /**
-     * Retrieves all comments for a specific seller.
+     * Retrieves a page of comments for a specific seller, ordered by comment ID.
      * Admins can view all comments; authenticated users can view their own comments and accepted ones;
      * Anonymous users can only view accepted comments.
      *
      * @param sellerId The ID of the seller.
      * @param isAdmin Boolean indicating if the request is made by an admin.
-     * @return A list of comment {@link CommentResponseDTO} for the seller.
+     * @param pageRequest The page size and the cursor of the previous page.
+     * @return A {@link CursorPageDTO} of comment {@link CommentResponseDTO} for the seller.
      */
+    @Transactional(readOnly = true)
     @Override
-    public List<CommentResponseDTO> getAllBySellerId(Long sellerId, Boolean isAdmin) {
+    public CursorPageDTO<CommentResponseDTO> getAllBySellerId(Long sellerId, Boolean isAdmin,
+                                                             CursorPageRequestDTO pageRequest) {
         User currentUser = authorizationService.getCurrentUser();
 
         boolean isSellerExists = isAdmin
@@ -103,29 +109,25 @@ public class CommentServiceImplementation implements CommentService {
                     sellerId));
         }
 
-        List<Comment> comments;
+        Slice<CommentResponseDTO> comments;
 
         if (isAdmin) {
             // Admins can view all comments regardless of status or author
-            comments = commentRepository.findAllBySellerId(sellerId);
+            comments = commentRepository.findAllBySellerIdAfter(sellerId,
+                    pageRequest.afterId(), pageRequest.pageable());
         } else {
             if (currentUser != null) {
-                String currentUserEmail = currentUser.getEmail();
                 // Authenticated user can see both accepted comments and their own
-                comments = Stream.concat(
-                                commentRepository.findAllAcceptedBySellerId(sellerId).stream(),
-                                commentRepository.findAllBySellerId(sellerId).stream()
-                                        .filter(comment -> comment.getAuthor().getEmail().equals(currentUserEmail))
-                        )
-                        .distinct()
-                        .toList();
+                comments = commentRepository.findVisibleBySellerIdAfter(sellerId, currentUser.getId(),
+                        pageRequest.afterId(), pageRequest.pageable());
             } else {
                 // Anonymous users can only see accepted comments
-                comments = commentRepository.findAllAcceptedBySellerId(sellerId);
+                comments = commentRepository.findApprovedBySellerIdAfter(sellerId,
+                        pageRequest.afterId(), pageRequest.pageable());
             }
         }
 
-        return CommentResponseDTO.mapToCommentResponseDTO(comments);
+        return CursorPageDTO.from(comments, Function.identity(), CommentResponseDTO::id);
     }
 
     /**
@@ -137,6 +139,7 @@ public class CommentServiceImplementation implements CommentService {
      * @param isAdmin Boolean indicating if the request is made by an admin.
      * @return A {@link CommentResponseDTO} containing the comment details.
      */
+    @Transactional(readOnly = true)
     @Override
     public CommentResponseDTO getComment(Long sellerId, Long commentId, Boolean isAdmin) {
         User currentUser = authorizationService.getCurrentUser();
@@ -144,13 +147,13 @@ public class CommentServiceImplementation implements CommentService {
         Comment comment = commentRepository.findByIdAndSellerId(commentId, sellerId)
                 .filter(c -> isAdmin
                         || c.getIsApproved()
-                        || c.getAuthor().getEmail().equals(currentUser.getEmail()))
+                        || isAuthor(c, currentUser))
                 .orElseThrow(() ->
                         new ResourceNotFoundException(String.format("Comment for seller %d and id %d not found", sellerId, commentId)));
         return CommentResponseDTO.builder()
                 .id(comment.getId())
                 .message(comment.getMessage())
-                .author(comment.getAuthor().getEmail())
+                .author(authorOf(comment.getAuthor()))
                 .seller(comment.getSeller().getEmail())
                 .status(comment.getIsApproved()
                         ? Status.APPROVED.getValueOfStatus()
@@ -176,7 +179,11 @@ public class CommentServiceImplementation implements CommentService {
         // Authorize modification before deleting the comment
         authorizationService.authorizeResourceModification(comment, currentUser);
         commentRepository.delete(comment);
-        ratingCalculationServiceImplementation.updateSellerRating(sellerId);
+
+        // Only approved comments contribute to the seller's rating
+        if (comment.getIsApproved()) {
+            ratingUpdateService.gradeRemoved(sellerId, comment.getGrade());
+        }
 
         return String.format("Comment %s is %s",
                 commentId,
@@ -201,23 +208,30 @@ public class CommentServiceImplementation implements CommentService {
                 .orElseThrow(() ->
                         new ResourceNotFoundException(String.format("Seller with id %d not found", sellerId)));
 
-        commentRepository.findById(commentId)
-                .orElseThrow(()->
-                        new ResourceNotFoundException(String.format("Comment with id %d not found", commentId)));
+        if (!commentRepository.existsById(commentId)) {
+            throw new ResourceNotFoundException(String.format("Comment with id %d not found", commentId));
+        }
 
         var comment =  commentRepository.findByIdAndSellerId(commentId,sellerId)
                 .map(existingComment -> {
                     authorizationService.authorizeResourceModification(existingComment,currentUser);
+                    Integer previousGrade = existingComment.getGrade();
                     existingComment.setMessage(commentObject.message());
                     existingComment.setGrade(commentObject.grade());
                     commentRepository.save(existingComment);
+
+                    // Apply the grade change to the seller's rating if the comment is already counted
+                    if (existingComment.getIsApproved()) {
+                        ratingUpdateService.gradeChanged(sellerId,
+                                previousGrade, existingComment.getGrade());
+                    }
                     return existingComment;
                 })
                 .orElseThrow(() -> new ResourceNotFoundException(String.format("Comment for seller %d and id %d not found",sellerId,commentId)));
         return CommentResponseDTO.builder()
                 .id(comment.getId())
                 .message(comment.getMessage())
-                .author(comment.getAuthor().getEmail())
+                .author(authorOf(comment.getAuthor()))
                 .seller(comment.getSeller().getEmail())
                 .grade(comment.getGrade())
                 .status(Status.UPDATED.getValueOfStatus())
@@ -246,19 +260,26 @@ public class CommentServiceImplementation implements CommentService {
                 .orElseThrow(() ->
                         new ResourceNotFoundException(String.format("Comment for seller %d and id %d not found", sellerId, commentId)));
 
+        boolean wasApproved = comment.getIsApproved();
         if (confirm) {
             comment.setIsApproved(true);
             commentRepository.save(comment);
-            ratingCalculationServiceImplementation.updateSellerRating(sellerId);
+            // Repeated approvals must not count the same grade twice
+            if (!wasApproved) {
+                ratingUpdateService.gradeApproved(sellerId, comment.getGrade());
+            }
         } else {
             commentRepository.delete(comment);
-            ratingCalculationServiceImplementation.updateSellerRating(sellerId);
+            // Rejecting a pending comment does not affect the seller's rating
+            if (wasApproved) {
+                ratingUpdateService.gradeRemoved(sellerId, comment.getGrade());
+            }
         }
 
         return CommentResponseDTO.builder()
                 .id(comment.getId())
                 .message(comment.getMessage())
-                .author(comment.getAuthor().getEmail())
+                .author(authorOf(comment.getAuthor()))
                 .seller(comment.getSeller().getEmail())
                 .status(confirm
                         ? Status.APPROVED.getValueOfStatus()
@@ -269,14 +290,17 @@ public class CommentServiceImplementation implements CommentService {
     }
 
     /**
-     * Retrieves all comments from the system.
+     * Retrieves a page of comments from the system, ordered by comment ID.
      *
-     * @return A list of all comments wrapped in {@link CommentResponseDTO}.
+     * @param pageRequest The page size and the cursor of the previous page.
+     * @return A {@link CursorPageDTO} of comments wrapped in {@link CommentResponseDTO}.
      */
+    @Transactional(readOnly = true)
     @Override
-    public List<CommentResponseDTO> getAll() {
-        List<Comment> comments = commentRepository.findAll();
-        return CommentResponseDTO.mapToCommentResponseDTO(comments);
+    public CursorPageDTO<CommentResponseDTO> getAll(CursorPageRequestDTO pageRequest) {
+        Slice<CommentResponseDTO> comments = commentRepository.findAllAfter(pageRequest.afterId(),
+                pageRequest.pageable());
+        return CursorPageDTO.from(comments, Function.identity(), CommentResponseDTO::id);
     }
 
     /**
@@ -291,4 +315,29 @@ public class CommentServiceImplementation implements CommentService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         String.format("Comment for seller %d and id %d not found", sellerId, commentId)));
     }
+
+    /**
+     * Helping function, which gets the author shown in a comment response,
+     * like the projection queries of the comment lists.
+     *
+     * @param author The author of the comment, or null for an anonymous comment.
+     * @return The email of the author, or {@link CommentResponseDTO#ANONYMOUS_AUTHOR}.
+     */
+    private static String authorOf(User author) {
+        return author != null ? author.getEmail() : CommentResponseDTO.ANONYMOUS_AUTHOR;
+    }
+
+    /**
+     * Helping function, which checks whether the user wrote the comment.
+     * Anonymous comments have no author, and unauthenticated callers are the author of no comment.
+     *
+     * @param comment The comment.
+     * @param user The current user, or null if the caller is not authenticated.
+     * @return True if the user is the author of the comment.
+     */
+    private boolean isAuthor(Comment comment, User user) {
+        return comment.getAuthor() != null
+                && user != null
+                && comment.getAuthor().getEmail().equals(user.getEmail());
+    }
 }
@@ -0,0 +1,51 @@
+package org.leverx.ratingapp.services.email.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodic job which drains the email outbox. Each run keeps delivering batches
+ * until fewer than a full batch of emails is due. A separate run deletes the emails sent before the retention period.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxJob {
+    private final EmailOutboxService emailOutboxService;
+
+    @Value("${email.outbox.batch-size}")
+    private int batchSize;
+
+    /**
+     * Delivers the due emails of the outbox.
+     * The polling interval is configured with the {@code email.outbox.poll-interval} property.
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval}")
+    public void deliverDueEmails() {
+        try {
+            int claimed;
+            do {
+                claimed = emailOutboxService.deliverDueEmails();
+            } while (claimed >= batchSize);
+        } catch (DataAccessException e) {
+            log.warn("[EMAIL] Outbox polling failed, retrying on the next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the sent emails older than the {@code email.outbox.retention} property.
+     * The purge interval is configured with the {@code email.outbox.purge-interval} property.
+     */
+    @Scheduled(initialDelayString = "${email.outbox.purge-interval}", fixedDelayString = "${email.outbox.purge-interval}")
+    public void purgeSentEmails() {
+        try {
+            emailOutboxService.purgeSentEmails();
+        } catch (DataAccessException e) {
+            log.warn("[EMAIL] Outbox purge failed, retrying on the next run: {}", e.getMessage());
+        }
+    }
+}
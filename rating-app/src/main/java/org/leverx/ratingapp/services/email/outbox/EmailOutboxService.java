@@ -0,0 +1,16 @@
+package org.leverx.ratingapp.services.email.outbox;
+
+/**
+ * EmailOutboxService interface defines the operations of the transactional email outbox.
+ */
+public interface EmailOutboxService {
+
+    // Queues an email in the current transaction, to be delivered once the transaction commits
+    void enqueue(String recipient, String subject, String content);
+
+    // Delivers a batch of due emails, returns the number of emails claimed for delivery
+    int deliverDueEmails();
+
+    // Deletes the emails sent before the retention period, returns the number of deleted emails
+    int purgeSentEmails();
+}
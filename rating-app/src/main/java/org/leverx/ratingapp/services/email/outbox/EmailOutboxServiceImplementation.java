@@ -0,0 +1,223 @@
+package org.leverx.ratingapp.services.email.outbox;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.leverx.ratingapp.models.entities.EmailOutboxMessage;
+import org.leverx.ratingapp.models.enums.EmailDeliveryStatus;
+import org.leverx.ratingapp.repositories.EmailOutboxRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Service implementation of {@link EmailOutboxService} for the transactional email outbox.
+ * Emails are persisted together with the change that triggered them. The worker claims due emails with
+ * {@code FOR UPDATE SKIP LOCKED}, so several instances can drain the outbox concurrently, and leases them
+ * by moving their next attempt into the future. Claimed emails are sent in batches, one SMTP session per batch,
+ * on a bounded worker pool. Failed emails are retried with exponential backoff and dead-lettered
+ * after the last allowed attempt. Sent emails are deleted once they are older than the retention period,
+ * so the outbox only grows with the emails still to be delivered or dead-lettered.
+ */
+@Slf4j
+@Service
+public class EmailOutboxServiceImplementation implements EmailOutboxService {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor emailOutboxExecutor;
+    private final String sender;
+    private final int batchSize;
+    private final int sessionSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration retention;
+
+    public EmailOutboxServiceImplementation(EmailOutboxRepository emailOutboxRepository,
+                                            JavaMailSender mailSender,
+                                            TransactionTemplate transactionTemplate,
+                                            @Qualifier("emailOutboxExecutor") Executor emailOutboxExecutor,
+                                            @Value("${spring.mail.username}") String sender,
+                                            @Value("${email.outbox.batch-size}") int batchSize,
+                                            @Value("${email.outbox.session-size}") int sessionSize,
+                                            @Value("${email.outbox.max-attempts}") int maxAttempts,
+                                            @Value("${email.outbox.initial-backoff}") Duration initialBackoff,
+                                            @Value("${email.outbox.max-backoff}") Duration maxBackoff,
+                                            @Value("${email.outbox.lease}") Duration lease,
+                                            @Value("${email.outbox.retention}") Duration retention) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.emailOutboxExecutor = emailOutboxExecutor;
+        this.sender = sender;
+        this.batchSize = batchSize;
+        this.sessionSize = sessionSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.retention = retention;
+    }
+
+    /**
+     * Queues an email in the current transaction. If the transaction rolls back, the email is discarded with it.
+     *
+     * @param recipient The recipient's email address.
+     * @param subject The email subject.
+     * @param content The rendered HTML content of the email.
+     */
+    @Override
+    public void enqueue(String recipient, String subject, String content) {
+        emailOutboxRepository.save(EmailOutboxMessage.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .content(content)
+                .build());
+    }
+
+    /**
+     * Claims a batch of due emails, sends them in SMTP sessions of up to {@code email.outbox.session-size}
+     * emails on the worker pool, and records the outcome of every email.
+     *
+     * @return The number of emails claimed for delivery.
+     */
+    @Override
+    public int deliverDueEmails() {
+        List<EmailOutboxMessage> claimed = transactionTemplate.execute(status -> claimDueEmails());
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<Void>> sessions = new ArrayList<>();
+        for (int from = 0; from < claimed.size(); from += sessionSize) {
+            List<EmailOutboxMessage> session = claimed.subList(from, Math.min(from + sessionSize, claimed.size()));
+            sessions.add(CompletableFuture.runAsync(() -> sendSession(session), emailOutboxExecutor));
+        }
+        CompletableFuture.allOf(sessions.toArray(CompletableFuture[]::new)).join();
+
+        transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.saveAll(claimed));
+        return claimed.size();
+    }
+
+    /**
+     * Deletes the emails sent longer than {@code email.outbox.retention} ago.
+     * Dead-lettered emails are kept for inspection.
+     *
+     * @return The number of deleted emails.
+     */
+    @Override
+    public int purgeSentEmails() {
+        LocalDateTime sentBefore = LocalDateTime.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(status ->
+                emailOutboxRepository.deleteSentBefore(EmailDeliveryStatus.SENT, sentBefore));
+        if (deleted != null && deleted > 0) {
+            log.info("[EMAIL] Purged {} email(s) sent before {}", deleted, sentBefore);
+        }
+        return deleted != null ? deleted : 0;
+    }
+
+    private List<EmailOutboxMessage> claimDueEmails() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxMessage> due = emailOutboxRepository.findDueForDelivery(
+                EmailDeliveryStatus.PENDING, now, PageRequest.of(0, batchSize));
+        // The lease keeps other workers away, and makes the email due again if this worker dies while sending
+        due.forEach(message -> {
+            message.setAttempts(message.getAttempts() + 1);
+            message.setNextAttemptAt(now.plus(lease));
+        });
+        return emailOutboxRepository.saveAll(due);
+    }
+
+    private void sendSession(List<EmailOutboxMessage> session) {
+        Map<MimeMessage, EmailOutboxMessage> messages = new IdentityHashMap<>();
+        for (EmailOutboxMessage email : session) {
+            try {
+                messages.put(buildMimeMessage(email), email);
+            } catch (MessagingException e) {
+                recordFailure(email, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        try {
+            mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages();
+            if (failures.isEmpty()) {
+                messages.values().forEach(email -> recordFailure(email, e));
+                return;
+            }
+        } catch (MailException e) {
+            messages.values().forEach(email -> recordFailure(email, e));
+            return;
+        }
+
+        for (Map.Entry<MimeMessage, EmailOutboxMessage> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure != null) {
+                recordFailure(entry.getValue(), failure);
+            } else {
+                recordSuccess(entry.getValue());
+            }
+        }
+    }
+
+    private MimeMessage buildMimeMessage(EmailOutboxMessage email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "utf-8");
+        helper.setText(email.getContent(), true);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setFrom(sender);
+        return message;
+    }
+
+    private void recordSuccess(EmailOutboxMessage email) {
+        email.setStatus(EmailDeliveryStatus.SENT);
+        email.setSentAt(LocalDateTime.now());
+        email.setLastError(null);
+    }
+
+    private void recordFailure(EmailOutboxMessage email, Exception failure) {
+        String error = String.valueOf(failure.getMessage());
+        email.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+        if (email.getAttempts() >= maxAttempts) {
+            email.setStatus(EmailDeliveryStatus.DEAD);
+            log.error("[EMAIL] Email {} to {} dead-lettered after {} attempt(s): {}",
+                    email.getId(), email.getRecipient(), email.getAttempts(), error);
+            return;
+        }
+        email.setNextAttemptAt(LocalDateTime.now().plus(backoff(email.getAttempts())));
+        log.warn("[EMAIL] Attempt {} of email {} failed, retrying at {}: {}",
+                email.getAttempts(), email.getId(), email.getNextAttemptAt(), error);
+    }
+
+    private Duration backoff(int attempts) {
+        // Doubles the delay after every failed attempt, up to the configured maximum
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
@@ -0,0 +1,15 @@
+package org.leverx.ratingapp.services.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service for exporting whole tables as newline-delimited JSON (NDJSON), one object per line
+ */
+public interface ExportService {
+    // Writes every comment to the output stream, returns the number of exported comments
+    long exportComments(OutputStream outputStream) throws IOException;
+
+    // Writes every user together with their seller rating to the output stream, returns the number of exported users
+    long exportUsers(OutputStream outputStream) throws IOException;
+}
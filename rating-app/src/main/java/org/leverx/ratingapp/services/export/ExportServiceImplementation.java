@@ -0,0 +1,101 @@
+package org.leverx.ratingapp.services.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.leverx.ratingapp.dtos.export.CommentExportDTO;
+import org.leverx.ratingapp.dtos.export.UserExportDTO;
+import org.leverx.ratingapp.repositories.CommentRepository;
+import org.leverx.ratingapp.repositories.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation of {@link ExportService} for the admin NDJSON export.
+ * Rows are projected straight into export DTOs and read through a database cursor with a fixed fetch size,
+ * so no entities are loaded into the persistence context. Each row is serialized to the response as soon
+ * as it is read, so memory use stays constant regardless of the size of the table.
+ */
+@Slf4j
+@Service
+public class ExportServiceImplementation implements ExportService {
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+
+    public ExportServiceImplementation(CommentRepository commentRepository,
+                                       UserRepository userRepository,
+                                       ObjectMapper objectMapper) {
+        this.commentRepository = commentRepository;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        // Flushing is batched in writeLines instead of after every row
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes every comment to the output stream, ordered by comment ID.
+     * The transaction stays open while the rows are written, which keeps the database cursor alive.
+     *
+     * @param outputStream The stream of the response body.
+     * @return The number of exported comments.
+     * @throws IOException If writing to the output stream fails.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public long exportComments(OutputStream outputStream) throws IOException {
+        try (Stream<CommentExportDTO> comments = commentRepository.streamAllForExport()) {
+            long count = writeLines(comments, outputStream);
+            log.info("[EXPORT] Exported {} comments", count);
+            return count;
+        }
+    }
+
+    /**
+     * Writes every user together with their seller rating to the output stream, ordered by user ID.
+     * The transaction stays open while the rows are written, which keeps the database cursor alive.
+     *
+     * @param outputStream The stream of the response body.
+     * @return The number of exported users.
+     * @throws IOException If writing to the output stream fails.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public long exportUsers(OutputStream outputStream) throws IOException {
+        try (Stream<UserExportDTO> users = userRepository.streamAllForExport()) {
+            long count = writeLines(users, outputStream);
+            log.info("[EXPORT] Exported {} users", count);
+            return count;
+        }
+    }
+
+    private <T> long writeLines(Stream<T> rows, OutputStream outputStream) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // The response stream is closed by the container, and lines are separated explicitly
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                rowWriter.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        return count;
+    }
+}
@@ -2,8 +2,8 @@ package org.leverx.ratingapp.services.gameobject;
 
 import org.leverx.ratingapp.dtos.gameobject.GameObjectRequestDTO;
 import org.leverx.ratingapp.dtos.gameobject.GameObjectResponseDTO;
-
-import java.util.List;
+import org.leverx.ratingapp.dtos.pagination.CursorPageDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageRequestDTO;
 
 /**
  * Provides CRUD operations such as creating, updating, retrieving, and deleting game objects
@@ -12,8 +12,8 @@ public interface GameObjectService {
      // Creates a new game object
      GameObjectResponseDTO create(GameObjectRequestDTO gameObject);
 
-     // Retrieves all game objects from the repository.
-     List<GameObjectResponseDTO> getAll();
+     // Retrieves a page of game objects from the repository.
+     CursorPageDTO<GameObjectResponseDTO> getAll(CursorPageRequestDTO pageRequest);
 
      // Updates an existing game object
      GameObjectResponseDTO update(Long id, GameObjectRequestDTO gameObject);
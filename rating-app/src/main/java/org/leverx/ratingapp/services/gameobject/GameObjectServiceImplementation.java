@@ -1,17 +1,21 @@
 package org.leverx.ratingapp.services.gameobject;
 
-import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.leverx.ratingapp.dtos.gameobject.GameObjectRequestDTO;
 import org.leverx.ratingapp.dtos.gameobject.GameObjectResponseDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageRequestDTO;
 import org.leverx.ratingapp.models.entities.GameObject;
 import org.leverx.ratingapp.models.entities.User;
 import org.leverx.ratingapp.models.enums.Status;
 import org.leverx.ratingapp.repositories.GameObjectRepository;
 import org.leverx.ratingapp.services.auth.AuthenticationAndRegistrationServiceImplementation;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.function.Function;
 
 /**
  * Service implementation of {@link GameObjectService} for managing game objects.
@@ -56,14 +60,17 @@ public class GameObjectServiceImplementation implements GameObjectService {
     }
 
     /**
-     * Retrieves all game objects from the repository.
+     * Retrieves a page of game objects from the repository, ordered by game object ID.
      *
-     * @return A list of {@link GameObjectResponseDTO} representing all the game objects.
+     * @param pageRequest The page size and the cursor of the previous page.
+     * @return A {@link CursorPageDTO} of {@link GameObjectResponseDTO} representing the game objects.
      */
+    @Transactional(readOnly = true)
     @Override
-    public List<GameObjectResponseDTO> getAll() {
-        List<GameObject> gameObjects = gameObjectRepository.findAll();
-        return GameObjectResponseDTO.mapToGameObjectResponseDTO(gameObjects);
+    public CursorPageDTO<GameObjectResponseDTO> getAll(CursorPageRequestDTO pageRequest) {
+        Slice<GameObjectResponseDTO> gameObjects = gameObjectRepository.findAllAfter(pageRequest.afterId(),
+                pageRequest.pageable());
+        return CursorPageDTO.from(gameObjects, Function.identity(), GameObjectResponseDTO::id);
     }
 
     /**
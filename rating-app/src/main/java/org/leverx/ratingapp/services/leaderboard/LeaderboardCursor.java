@@ -0,0 +1,58 @@
+package org.leverx.ratingapp.services.leaderboard;
+
+import org.leverx.ratingapp.dtos.rating.LeaderboardEntryDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset cursor of the leaderboard, holding the sort key of the last row of a page.
+ * Encoded as an opaque URL-safe string for the clients.
+ */
+record LeaderboardCursor(Double averageRating, Integer totalComments, Long userId) {
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Creates the cursor pointing past the given leaderboard row.
+     *
+     * @param entry The last row of the page.
+     * @return The cursor of the next page.
+     */
+    static LeaderboardCursor after(LeaderboardEntryDTO entry) {
+        return new LeaderboardCursor(entry.averageRating(), entry.totalComments(), entry.id());
+    }
+
+    /**
+     * Decodes the cursor received from a client.
+     *
+     * @param encoded The encoded cursor.
+     * @return The decoded {@link LeaderboardCursor}.
+     * @throws IllegalArgumentException If the cursor is malformed.
+     */
+    static LeaderboardCursor decode(String encoded) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8)
+                    .split(SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed leaderboard cursor");
+            }
+            return new LeaderboardCursor(
+                    Double.valueOf(parts[0]),
+                    Integer.valueOf(parts[1]),
+                    Long.valueOf(parts[2]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed leaderboard cursor", e);
+        }
+    }
+
+    /**
+     * Encodes the cursor for the clients.
+     *
+     * @return The opaque cursor string.
+     */
+    String encode() {
+        String raw = averageRating + SEPARATOR + totalComments + SEPARATOR + userId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,26 @@
+package org.leverx.ratingapp.services.leaderboard;
+
+import org.leverx.ratingapp.dtos.pagination.CursorPageDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageRequestDTO;
+import org.leverx.ratingapp.dtos.user.UserRankingDTO;
+import org.leverx.ratingapp.models.entities.SellerRating;
+
+/**
+ * Service for building the seller leaderboard, ordered by average rating and number of comments
+ */
+public interface LeaderboardService {
+    // Retrieves a page of the leaderboard, optionally filtered by game name, by page number or by cursor
+    CursorPageDTO<UserRankingDTO> getLeaderboard(String gameName, Integer page, CursorPageRequestDTO pageRequest);
+
+    // Retrieves the rank of a single seller on the leaderboard
+    UserRankingDTO getSellerRank(Long sellerId);
+
+    // Moves a seller on the cached leaderboard once the changed rating is committed
+    void updateSellerScore(SellerRating sellerRating);
+
+    // Removes a seller from the cached leaderboard once the deletion or deactivation is committed
+    void removeSeller(Long sellerId);
+
+    // Rebuilds the cached leaderboard from the database
+    int rebuildLeaderboard();
+}
@@ -0,0 +1,360 @@
+package org.leverx.ratingapp.services.leaderboard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.leverx.ratingapp.dtos.pagination.CursorPageDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageRequestDTO;
+import org.leverx.ratingapp.dtos.rating.LeaderboardEntryDTO;
+import org.leverx.ratingapp.dtos.user.UserRankingDTO;
+import org.leverx.ratingapp.exceptions.ConflictException;
+import org.leverx.ratingapp.exceptions.ResourceNotFoundException;
+import org.leverx.ratingapp.models.entities.GameObject;
+import org.leverx.ratingapp.models.entities.SellerRating;
+import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
+import org.leverx.ratingapp.repositories.SellerRatingRepository;
+import org.leverx.ratingapp.repositories.redis.GameLeaderboardRedisRepository;
+import org.leverx.ratingapp.repositories.redis.LeaderboardRedisRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service implementation of {@link LeaderboardService} for building the seller leaderboard.
+ * Unfiltered reads are served from the Redis sorted set maintained by {@link LeaderboardRedisRepository}.
+ * When Redis is unavailable or not yet rebuilt, and for game-filtered reads, the leaderboard is read
+ * with a single ordered query over users joined with their seller ratings. Both paths are paginated either
+ * by page number or by a keyset cursor holding the sort key of the last row, and return the same pages.
+ * Per-game leaderboards match the normalized game title through an index
+ * and their pages are cached briefly in {@link GameLeaderboardRedisRepository}.
+ * On both paths, ranks are derived from a constant number of count operations per page,
+ * independently of the number of sellers.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardServiceImplementation implements LeaderboardService {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final Duration REBUILD_TIMEOUT = Duration.ofMinutes(10);
+
+    private final SellerRatingRepository sellerRatingRepository;
+    private final LeaderboardRedisRepository leaderboardRedisRepository;
+    private final GameLeaderboardRedisRepository gameLeaderboardRedisRepository;
+
+    /**
+     * Retrieves a page of the leaderboard ordered by average rating, then by number of comments.
+     * When a cursor is provided, the page starts right after the row it points to,
+     * otherwise the page number is used.
+     *
+     * @param gameName The title of the game to filter sellers by, matched ignoring case and spacing (optional).
+     * @param page The zero-based page number, ignored when a cursor is provided (optional).
+     * @param pageRequest The page size and the cursor returned with the previous page.
+     * @return A {@link CursorPageDTO} of {@link UserRankingDTO} with competition and dense ranks.
+     * @throws IllegalArgumentException If the cursor is malformed or the page number is negative.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDTO<UserRankingDTO> getLeaderboard(String gameName, Integer page, CursorPageRequestDTO pageRequest) {
+        String gameFilter = gameName != null && !gameName.isBlank() ? GameObject.normalizeTitle(gameName) : null;
+        int size = pageRequest.limit();
+        String cursor = pageRequest.after();
+        int pageNumber = page != null ? page : 0;
+        if (pageNumber < 0) {
+            throw new IllegalArgumentException("Page number must not be negative");
+        }
+        LeaderboardCursor after = cursor != null ? LeaderboardCursor.decode(cursor) : null;
+
+        if (gameFilter == null) {
+            try {
+                Optional<CursorPageDTO<UserRankingDTO>> cached = readFromRedis(pageNumber, after, size);
+                if (cached.isPresent()) {
+                    return cached.get();
+                }
+            } catch (DataAccessException | SerializationException e) {
+                log.warn("[LEADERBOARD] Redis read failed, falling back to the database: {}", e.getMessage());
+            }
+            return readFromDatabase(null, pageNumber, after, size);
+        }
+        return readGameLeaderboard(gameFilter, pageNumber, cursor, after, size);
+    }
+
+    /**
+     * Retrieves the rank of a single seller on the leaderboard.
+     *
+     * @param sellerId The ID of the seller.
+     * @return The {@link UserRankingDTO} of the seller with competition and dense ranks.
+     * @throws ResourceNotFoundException If the seller is not active or has no rating.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public UserRankingDTO getSellerRank(Long sellerId) {
+        try {
+            if (leaderboardRedisRepository.isReady()) {
+                Optional<LeaderboardEntryDTO> cached = leaderboardRedisRepository.findEntry(sellerId);
+                if (cached.isPresent()) {
+                    LeaderboardEntryDTO entry = cached.get();
+                    return toRankingDTO(entry,
+                            leaderboardRedisRepository.countRankedAbove(entry) + 1,
+                            leaderboardRedisRepository.countDistinctScoresAbove(entry) + 1);
+                }
+            }
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("[LEADERBOARD] Redis read failed, falling back to the database: {}", e.getMessage());
+        }
+
+        LeaderboardEntryDTO entry = sellerRatingRepository.findLeaderboardEntry(sellerId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Seller with id %s is not ranked".formatted(sellerId)));
+        return toRankingDTO(entry,
+                sellerRatingRepository.countRankedAbove(null, entry.averageRating(), entry.totalComments()) + 1,
+                sellerRatingRepository.countDistinctScoresAbove(null, entry.averageRating(), entry.totalComments()) + 1);
+    }
+
+    /**
+     * Moves a seller on the cached leaderboard once the surrounding transaction commits,
+     * so that rolled back ratings never reach Redis. Failures are logged and left to the next rebuild.
+     *
+     * @param sellerRating The changed seller rating.
+     */
+    @Override
+    public void updateSellerScore(SellerRating sellerRating) {
+        User seller = sellerRating.getUser();
+        if (!Boolean.TRUE.equals(seller.getIsActivated()) || seller.getRole() == Role.ADMIN) {
+            return;
+        }
+        LeaderboardEntryDTO entry = new LeaderboardEntryDTO(seller.getId(), seller.getFirstName(),
+                seller.getLastName(), seller.getEmail(), seller.getCreatedAt(),
+                sellerRating.getAverageRating(), sellerRating.getTotalComments());
+
+        afterCommit(() -> saveToRedis(entry));
+    }
+
+    /**
+     * Removes a seller from the cached leaderboard once the surrounding transaction commits,
+     * so that deleted or deactivated sellers stop being ranked before the next rebuild.
+     * Failures are logged and left to the next rebuild.
+     *
+     * @param sellerId The ID of the removed seller.
+     */
+    @Override
+    public void removeSeller(Long sellerId) {
+        afterCommit(() -> removeFromRedis(sellerId));
+    }
+
+    /**
+     * Rebuilds the cached leaderboard from the database into staging keys of its own,
+     * then swaps them in so that readers never observe a partial leaderboard.
+     * Only one rebuild runs at a time across instances, and the sellers moved or removed
+     * while it reads the database are replayed onto it before it is published.
+     *
+     * @return The number of sellers on the rebuilt leaderboard.
+     * @throws ConflictException If another rebuild is running, or this one outlived its lock.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public int rebuildLeaderboard() {
+        String rebuildId = leaderboardRedisRepository.startRebuild(REBUILD_TIMEOUT)
+                .orElseThrow(() -> new ConflictException("Leaderboard rebuild is already in progress"));
+
+        boolean published = false;
+        int total = 0;
+        try {
+            Slice<LeaderboardEntryDTO> slice = sellerRatingRepository
+                    .findLeaderboard(null, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            while (true) {
+                leaderboardRedisRepository.addToRebuild(rebuildId, slice.getContent(), REBUILD_TIMEOUT);
+                total += slice.getNumberOfElements();
+                if (!slice.hasNext()) {
+                    break;
+                }
+                LeaderboardEntryDTO last = slice.getContent().getLast();
+                slice = sellerRatingRepository.findLeaderboardAfter(null, last.averageRating(),
+                        last.totalComments(), last.id(), PageRequest.of(0, REBUILD_BATCH_SIZE));
+            }
+            published = leaderboardRedisRepository.publishRebuild(rebuildId);
+        } finally {
+            if (!published) {
+                leaderboardRedisRepository.abortRebuild(rebuildId);
+            }
+        }
+        if (!published) {
+            throw new ConflictException("Leaderboard rebuild took over %s and was discarded"
+                    .formatted(REBUILD_TIMEOUT));
+        }
+        return total;
+    }
+
+    /**
+     * Helping function, which reads a page of the leaderboard from Redis.
+     *
+     * @return The page, or empty if Redis cannot serve it and the database has to be used.
+     */
+    private Optional<CursorPageDTO<UserRankingDTO>> readFromRedis(int page, LeaderboardCursor after, int size) {
+        if (!leaderboardRedisRepository.isReady()) {
+            return Optional.empty();
+        }
+
+        // A cursor is resolved by its sort key, like the keyset query of the database
+        long start = after != null
+                ? leaderboardRedisRepository.findPositionAfter(after.averageRating(), after.totalComments(), after.userId())
+                : (long) page * size;
+
+        // One extra row tells whether there is a next page
+        List<LeaderboardEntryDTO> entries = leaderboardRedisRepository.findRange(start, start + size);
+        boolean hasNext = entries.size() > size;
+        List<LeaderboardEntryDTO> content = hasNext ? entries.subList(0, size) : entries;
+
+        List<UserRankingDTO> ranking = List.of();
+        if (!content.isEmpty()) {
+            LeaderboardEntryDTO first = content.getFirst();
+            ranking = rank(content, start + 1,
+                    leaderboardRedisRepository.countRankedAbove(first) + 1,
+                    leaderboardRedisRepository.countDistinctScoresAbove(first) + 1);
+        }
+        return Optional.of(toPage(ranking, content, hasNext));
+    }
+
+    /**
+     * Helping function, which reads a page of a per-game leaderboard, using the short-lived page cache.
+     */
+    private CursorPageDTO<UserRankingDTO> readGameLeaderboard(String gameName, int page, String cursor,
+                                                              LeaderboardCursor after, int size) {
+        String pageKey = gameName + ":" + size + ":" + (after != null ? cursor : "page" + page);
+        try {
+            Optional<CursorPageDTO<UserRankingDTO>> cached = gameLeaderboardRedisRepository.findPage(pageKey);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("[LEADERBOARD] Redis read failed, falling back to the database: {}", e.getMessage());
+        }
+
+        CursorPageDTO<UserRankingDTO> result = readFromDatabase(gameName, page, after, size);
+        try {
+            gameLeaderboardRedisRepository.savePage(pageKey, result);
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("[LEADERBOARD] Could not cache leaderboard page of game {}: {}", gameName, e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Helping function, which reads a page of the leaderboard from the database.
+     */
+    private CursorPageDTO<UserRankingDTO> readFromDatabase(String gameName, int page, LeaderboardCursor after, int size) {
+        Slice<LeaderboardEntryDTO> slice = after != null
+                ? sellerRatingRepository.findLeaderboardAfter(gameName,
+                        after.averageRating(), after.totalComments(), after.userId(), PageRequest.of(0, size))
+                : sellerRatingRepository.findLeaderboard(gameName, PageRequest.of(page, size));
+
+        List<LeaderboardEntryDTO> content = slice.getContent();
+        List<UserRankingDTO> ranking = List.of();
+        if (!content.isEmpty()) {
+            LeaderboardEntryDTO first = content.getFirst();
+            ranking = rank(content,
+                    sellerRatingRepository.countOrderedBefore(gameName,
+                            first.averageRating(), first.totalComments(), first.id()) + 1,
+                    sellerRatingRepository.countRankedAbove(gameName,
+                            first.averageRating(), first.totalComments()) + 1,
+                    sellerRatingRepository.countDistinctScoresAbove(gameName,
+                            first.averageRating(), first.totalComments()) + 1);
+        }
+        return toPage(ranking, content, slice.hasNext());
+    }
+
+    /**
+     * Helping function, which assigns competition (1, 2, 2, 4) and dense (1, 2, 2, 3) ranks to the rows of a page.
+     * Only the ranks of the first row are looked up, the rest are derived while walking the ordered page.
+     *
+     * @param entries The ordered rows of the page.
+     * @param position The one-based position of the first row on the leaderboard.
+     * @param place The competition rank of the first row.
+     * @param densePlace The dense rank of the first row.
+     * @return The ranked rows as {@link UserRankingDTO}.
+     */
+    private List<UserRankingDTO> rank(List<LeaderboardEntryDTO> entries, long position, long place, long densePlace) {
+        List<UserRankingDTO> ranking = new ArrayList<>(entries.size());
+        LeaderboardEntryDTO previous = entries.getFirst();
+        for (int i = 0; i < entries.size(); i++) {
+            LeaderboardEntryDTO entry = entries.get(i);
+            if (i > 0 && !hasSameScore(entry, previous)) {
+                place = position + i;
+                densePlace++;
+            }
+            ranking.add(toRankingDTO(entry, place, densePlace));
+            previous = entry;
+        }
+        return ranking;
+    }
+
+    /**
+     * Helping function, which runs a Redis write once the surrounding transaction commits,
+     * or right away outside a transaction.
+     */
+    private void afterCommit(Runnable write) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write.run();
+                }
+            });
+        } else {
+            write.run();
+        }
+    }
+
+    private void removeFromRedis(Long sellerId) {
+        try {
+            leaderboardRedisRepository.remove(sellerId);
+        } catch (DataAccessException e) {
+            log.warn("[LEADERBOARD] Could not remove seller {} from Redis: {}", sellerId, e.getMessage());
+        }
+    }
+
+    private void saveToRedis(LeaderboardEntryDTO entry) {
+        try {
+            leaderboardRedisRepository.save(entry);
+        } catch (DataAccessException | SerializationException e) {
+            log.warn("[LEADERBOARD] Could not update seller {} in Redis: {}", entry.id(), e.getMessage());
+        }
+    }
+
+    private boolean hasSameScore(LeaderboardEntryDTO entry, LeaderboardEntryDTO other) {
+        return entry.averageRating().equals(other.averageRating())
+                && entry.totalComments().equals(other.totalComments());
+    }
+
+    private CursorPageDTO<UserRankingDTO> toPage(List<UserRankingDTO> ranking,
+                                                 List<LeaderboardEntryDTO> content, boolean hasNext) {
+        return CursorPageDTO.<UserRankingDTO>builder()
+                .items(ranking)
+                .nextCursor(hasNext ? LeaderboardCursor.after(content.getLast()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private UserRankingDTO toRankingDTO(LeaderboardEntryDTO entry, long place, long densePlace) {
+        return UserRankingDTO.builder()
+                .place(place)
+                .densePlace(densePlace)
+                .id(entry.id())
+                .firstName(entry.firstName())
+                .lastName(entry.lastName())
+                .email(entry.email())
+                .createdAt(entry.createdAt())
+                .rating(entry.averageRating())
+                .totalCommentNumber(entry.totalComments())
+                .build();
+    }
+}
@@ -53,16 +53,16 @@ public class PendingCommentServiceImplementation implements PendingCommentServic
 
     /**
      * Processes the pending comment for a specific user.
-     * If there is a pending comment, it is retrieved, converted to a DTO, and processed by creating a real comment.
-     * After successful processing, the pending comment is removed from the repository.
+     * The pending comment is atomically retrieved and removed from the repository, so that it is turned
+     * into a real comment only once. If the comment cannot be created, it is saved back to be processed again.
      *
      * @param email The email of the user whose pending comment should be processed.
      * @throws InvalidOperationException If there is an issue with deserializing or processing the pending comment.
      */
     @Override
     public void processPendingComment(String email) {
-        // Retrieve the pending comment JSON string from the repository using the user's email
-        String pendingCommentJson = pendingCommentRedisRepository.get(email);
+        // Retrieve and remove the pending comment JSON string from the repository using the user's email
+        String pendingCommentJson = pendingCommentRedisRepository.getAndDelete(email);
 
         // If a pending comment exists for the email, process it
         if (pendingCommentJson != null) {
@@ -73,12 +73,13 @@ public class PendingCommentServiceImplementation implements PendingCommentServic
                 // Create a new CommentRequestDTO and process the comment through the comment service
                 commentService.create(pendingComment.sellerId(),
                         new CommentRequestDTO(pendingComment.message(),pendingComment.grade()));
-
-                // Remove the processed pending comment from the repository
-                pendingCommentRedisRepository.remove(email);
             } catch (JsonProcessingException e) {
                 // Handle the case where JSON deserialization fails
                 throw new InvalidOperationException("Failed to process pending comment");
+            } catch (RuntimeException e) {
+                // Keep the pending comment, the confirmation can be retried
+                pendingCommentRedisRepository.save(email, pendingCommentJson);
+                throw e;
             }
         }
     }
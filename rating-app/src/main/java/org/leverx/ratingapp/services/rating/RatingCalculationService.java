@@ -1,5 +1,7 @@
 package org.leverx.ratingapp.services.rating;
 
+import java.util.Collection;
+
 /**
  * Handles updating seller ratings based on approved comments and fetching rating details
  */
@@ -7,6 +9,27 @@ public interface RatingCalculationService {
     // Updates the seller rating by calculating the average rating based on approved comments
     void updateSellerRating(Long sellerId);
 
+    // Recalculates the ratings of several sellers from their approved comments in a single transaction
+    void updateSellerRatings(Collection<Long> sellerIds);
+
+    // Creates an empty seller rating for the seller if it does not exist yet
+    void initializeSellerRating(Long sellerId);
+
+    // Deletes the seller rating of a seller who is about to be deleted
+    void deleteSellerRating(Long sellerId);
+
+    // Adds the grade of a newly approved comment to the seller rating
+    void applyApprovedGrade(Long sellerId, Integer grade);
+
+    // Removes the grade of a rejected or deleted approved comment from the seller rating
+    void removeApprovedGrade(Long sellerId, Integer grade);
+
+    // Replaces the grade of an approved comment in the seller rating
+    void changeApprovedGrade(Long sellerId, Integer oldGrade, Integer newGrade);
+
+    // Recalculates all seller ratings from their comments, repairs the drifted ones and creates the missing ones
+    int reconcileSellerRatings();
+
     // Retrieves the average rating of a seller
     Double getSellerRating(Long sellerId);
 
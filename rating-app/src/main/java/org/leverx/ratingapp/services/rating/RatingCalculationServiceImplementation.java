@@ -1,27 +1,50 @@
 package org.leverx.ratingapp.services.rating;
 
 import lombok.RequiredArgsConstructor;
-import org.leverx.ratingapp.models.entities.Comment;
+import lombok.extern.slf4j.Slf4j;
+import org.leverx.ratingapp.dtos.rating.SellerRatingAggregateDTO;
 import org.leverx.ratingapp.models.entities.SellerRating;
 import org.leverx.ratingapp.exceptions.ResourceNotFoundException;
 import org.leverx.ratingapp.repositories.CommentRepository;
 import org.leverx.ratingapp.repositories.SellerRatingRepository;
 import org.leverx.ratingapp.repositories.UserRepository;
+import org.leverx.ratingapp.services.leaderboard.LeaderboardService;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service implementation of {@link RatingCalculationService} for calculating and managing seller ratings.
  * This service handles updating seller ratings based on approved comments and fetching rating details.
+ * Moderation events are applied as deltas to the running aggregates of {@link SellerRating},
+ * while full recalculation is reserved for the write-behind batches of {@link RatingUpdateService}
+ * and the periodic reconciliation.
+ * Every saved rating is propagated to the cached leaderboard through {@link LeaderboardService}.
+ * The deltas lock the rating row until the moderation transaction ends, so that concurrent moderations
+ * of a seller are applied in turn, while the versioned recalculations fail on a concurrent update
+ * and are retried by {@link RatingUpdateService}.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RatingCalculationServiceImplementation implements RatingCalculationService {
+    private static final int RECONCILIATION_MAX_ATTEMPTS = 3;
+
     private final CommentRepository commentRepository;
     private final SellerRatingRepository sellerRatingRepository;
     private final UserRepository userRepository;
+    private final LeaderboardService leaderboardService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Updates the seller rating by calculating the average rating based on approved comments.
@@ -34,39 +57,142 @@ public class RatingCalculationServiceImplementation implements RatingCalculation
     @Transactional
     @Override
     public void updateSellerRating(Long sellerId) {
-        // Fetch the existing seller rating, or create a new one if it doesn't exist
-        SellerRating sellerRating = sellerRatingRepository.findByUserId(sellerId)
-                .orElseGet(() -> {
-                    // If no existing rating, create a new seller rating object
-                    SellerRating newRating = SellerRating.builder()
-                            .user(userRepository.findById(sellerId)
-                                    .orElseThrow(() -> new ResourceNotFoundException("User not found")))
-                            .build();
-                    return sellerRatingRepository.save(newRating);
-                });
-        // Fetch all approved comments for the seller and filter the approved ones
-        List<Comment> approvedComments = commentRepository.findAllBySellerId(sellerId).stream()
-                .filter(Comment::getIsApproved)
-                .toList();
-
-        // Calculate the total number of approved comments
-        int totalRatings = approvedComments.size();
-
-        // Calculate the average rating for the approved comments
-        double averageRating = approvedComments.isEmpty()
-                ? 0.0  // If no approved comments, set average rating to 0
-                : approvedComments.stream()
-                .mapToInt(Comment::getGrade) // Get the grade of each comment
-                .average()  // Calculate the average of the grades
-                .orElse(0.0);
+        SellerRating sellerRating = getOrCreateSellerRating(sellerId);
 
-        // Update the seller rating with the calculated values
-        sellerRating.setTotalComments(totalRatings);
-        sellerRating.setAverageRating(averageRating);
-        sellerRating.setRating((int) Math.round(averageRating)); // Round the average rating to the nearest integer
+        // Recalculate the aggregates from the approved comments of the seller
+        sellerRating.copyAggregatesFrom(calculateFromComments(sellerId));
 
         // Save the updated seller rating
-        sellerRatingRepository.save(sellerRating);
+        saveSellerRating(sellerRating);
+    }
+
+    /**
+     * Recalculates the ratings of several sellers from their approved comments in a single transaction.
+     * The existing ratings are loaded at once, missing ones are created,
+     * and sellers deleted since their update was requested are skipped.
+     * The ratings are loaded before the comments are aggregated, so a rating updated concurrently
+     * with a more recent aggregate fails the version check on commit rather than being overwritten.
+     *
+     * @param sellerIds The IDs of the sellers whose ratings need to be updated.
+     * @throws org.springframework.dao.OptimisticLockingFailureException If a rating was updated concurrently.
+     */
+    @Transactional
+    @Override
+    public void updateSellerRatings(Collection<Long> sellerIds) {
+        Map<Long, SellerRating> sellerRatings = sellerRatingRepository.findAllByUserIdIn(sellerIds).stream()
+                .collect(Collectors.toMap(sellerRating -> sellerRating.getUser().getId(), Function.identity()));
+
+        for (Long sellerId : sellerIds) {
+            SellerRating sellerRating = sellerRatings.get(sellerId);
+            if (sellerRating == null) {
+                Optional<SellerRating> created = createSellerRating(sellerId);
+                if (created.isEmpty()) {
+                    continue;
+                }
+                sellerRating = created.get();
+            }
+            sellerRating.copyAggregatesFrom(calculateFromComments(sellerId));
+            saveSellerRating(sellerRating);
+        }
+    }
+
+    /**
+     * Creates an empty seller rating for the seller if it does not exist yet,
+     * so that the seller is ranked on the leaderboard before receiving any comments.
+     *
+     * @param sellerId The ID of the seller.
+     * @throws ResourceNotFoundException If the seller is not found in the user repository.
+     */
+    @Transactional
+    @Override
+    public void initializeSellerRating(Long sellerId) {
+        getOrCreateSellerRating(sellerId);
+    }
+
+    /**
+     * Deletes the seller rating of a seller, which must precede the deletion of the seller itself,
+     * as the rating references the seller.
+     *
+     * @param sellerId The ID of the seller.
+     */
+    @Transactional
+    @Override
+    public void deleteSellerRating(Long sellerId) {
+        sellerRatingRepository.deleteByUserId(sellerId);
+    }
+
+    /**
+     * Adds the grade of a newly approved comment to the seller rating.
+     *
+     * @param sellerId The ID of the seller whose comment was approved.
+     * @param grade The grade of the approved comment.
+     * @throws ResourceNotFoundException If the seller is not found in the user repository.
+     */
+    @Transactional
+    @Override
+    public void applyApprovedGrade(Long sellerId, Integer grade) {
+        SellerRating sellerRating = getOrCreateSellerRating(sellerId);
+        sellerRating.addGrade(grade);
+        saveSellerRating(sellerRating);
+    }
+
+    /**
+     * Removes the grade of an approved comment which was rejected or deleted from the seller rating.
+     *
+     * @param sellerId The ID of the seller whose comment was removed.
+     * @param grade The grade of the removed comment.
+     * @throws ResourceNotFoundException If the seller is not found in the user repository.
+     */
+    @Transactional
+    @Override
+    public void removeApprovedGrade(Long sellerId, Integer grade) {
+        SellerRating sellerRating = getOrCreateSellerRating(sellerId);
+        sellerRating.removeGrade(grade);
+        saveSellerRating(sellerRating);
+    }
+
+    /**
+     * Replaces the grade of an approved comment in the seller rating.
+     *
+     * @param sellerId The ID of the seller whose comment was updated.
+     * @param oldGrade The grade before the update.
+     * @param newGrade The grade after the update.
+     * @throws ResourceNotFoundException If the seller is not found in the user repository.
+     */
+    @Transactional
+    @Override
+    public void changeApprovedGrade(Long sellerId, Integer oldGrade, Integer newGrade) {
+        if (oldGrade.equals(newGrade)) {
+            return;
+        }
+        SellerRating sellerRating = getOrCreateSellerRating(sellerId);
+        sellerRating.removeGrade(oldGrade);
+        sellerRating.addGrade(newGrade);
+        saveSellerRating(sellerRating);
+    }
+
+    /**
+     * Recalculates every seller rating from the approved comments and repairs the ratings
+     * whose running aggregates have drifted from the actual data.
+     * Active sellers without a rating record are given one, so that they are ranked on the leaderboard.
+     * Each seller is reconciled in its own transaction, retried when a concurrent moderation updates
+     * the same rating, up to {@value #RECONCILIATION_MAX_ATTEMPTS} times. A seller still conflicting
+     * after the last attempt is skipped and left to the next run, without aborting the others.
+     *
+     * @return The number of seller ratings which were repaired or created.
+     */
+    @Override
+    public int reconcileSellerRatings() {
+        List<Long> sellerIds = new ArrayList<>(sellerRatingRepository.findAllSellerIds());
+        userRepository.findActiveSellersWithoutRating().forEach(seller -> sellerIds.add(seller.getId()));
+
+        int repaired = 0;
+        for (Long sellerId : sellerIds) {
+            if (reconcileWithRetry(sellerId)) {
+                repaired++;
+            }
+        }
+        return repaired;
     }
 
     /**
@@ -96,4 +222,119 @@ public class RatingCalculationServiceImplementation implements RatingCalculation
                 .map(SellerRating::getTotalComments)
                 .orElse(0);
     }
+
+    /**
+     * Helping function, which reconciles the rating of a seller in a transaction of its own,
+     * retrying with the fresh rating when the transaction fails on a concurrent update.
+     *
+     * @param sellerId The ID of the seller.
+     * @return Whether the rating was repaired or created.
+     */
+    private boolean reconcileWithRetry(Long sellerId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcileSellerRating(sellerId)));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= RECONCILIATION_MAX_ATTEMPTS) {
+                    log.warn("[RATING] Rating of seller {} not reconciled after {} attempts, left to the next run",
+                            sellerId, attempt);
+                    return false;
+                }
+                log.debug("[RATING] Concurrent rating update, retrying attempt {} of {}",
+                        attempt + 1, RECONCILIATION_MAX_ATTEMPTS);
+            }
+        }
+    }
+
+    /**
+     * Helping function, which repairs the rating of a seller if it has drifted, or creates it if it is missing.
+     * The rating is read without a lock, so a concurrent moderation fails the version check on commit.
+     *
+     * @param sellerId The ID of the seller.
+     * @return Whether the rating was repaired or created.
+     */
+    private boolean reconcileSellerRating(Long sellerId) {
+        Optional<SellerRating> existing = sellerRatingRepository.findAllByUserIdIn(List.of(sellerId))
+                .stream()
+                .findFirst();
+        Optional<SellerRating> sellerRating = existing.or(() -> createSellerRating(sellerId));
+        if (sellerRating.isEmpty()) {
+            return false;
+        }
+        SellerRating expected = calculateFromComments(sellerId);
+        if (existing.isPresent() && sellerRating.get().hasSameAggregatesAs(expected)) {
+            return false;
+        }
+        sellerRating.get().copyAggregatesFrom(expected);
+        saveSellerRating(sellerRating.get());
+        return true;
+    }
+
+    /**
+     * Helping function, which fetches and locks the existing seller rating or creates a new one.
+     * The lock is held until the transaction ends, so concurrent moderation events of the seller wait
+     * for each other instead of overwriting each other's deltas.
+     *
+     * @param sellerId The ID of the seller.
+     * @return The locked {@link SellerRating} of the seller.
+     * @throws ResourceNotFoundException If the seller is not found in the user repository.
+     */
+    private SellerRating getOrCreateSellerRating(Long sellerId) {
+        return sellerRatingRepository.findByUserIdForUpdate(sellerId)
+                .or(() -> createSellerRating(sellerId))
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
+    /**
+     * Helping function, which creates an empty rating for the seller and ranks it on the cached leaderboard.
+     * A rating created concurrently by another transaction is returned instead of a duplicate.
+     *
+     * @param sellerId The ID of the seller.
+     * @return The locked {@link SellerRating} of the seller, or empty if the seller does not exist.
+     */
+    private Optional<SellerRating> createSellerRating(Long sellerId) {
+        if (!userRepository.existsById(sellerId)) {
+            return Optional.empty();
+        }
+        sellerRatingRepository.insertIfAbsent(sellerId, LocalDateTime.now());
+        Optional<SellerRating> sellerRating = sellerRatingRepository.findByUserIdForUpdate(sellerId);
+        sellerRating.ifPresent(leaderboardService::updateSellerScore);
+        return sellerRating;
+    }
+
+    /**
+     * Helping function, which saves the seller rating and moves the seller on the cached leaderboard.
+     *
+     * @param sellerRating The seller rating to save.
+     * @return The saved {@link SellerRating}.
+     */
+    private SellerRating saveSellerRating(SellerRating sellerRating) {
+        SellerRating saved = sellerRatingRepository.save(sellerRating);
+        leaderboardService.updateSellerScore(saved);
+        return saved;
+    }
+
+    /**
+     * Helping function, which calculates the expected aggregates from the approved comments of a seller.
+     * The count, sum and grade histogram are computed by the database in a single aggregate query.
+     *
+     * @param sellerId The ID of the seller.
+     * @return A transient {@link SellerRating} holding the recalculated aggregates.
+     */
+    private SellerRating calculateFromComments(Long sellerId) {
+        SellerRatingAggregateDTO aggregate = commentRepository.aggregateApprovedBySellerId(sellerId);
+
+        SellerRating expected = SellerRating.builder()
+                .totalComments(aggregate.totalComments().intValue())
+                .gradeSum(aggregate.gradeSum())
+                .gradeOneCount(aggregate.gradeOneCount().intValue())
+                .gradeTwoCount(aggregate.gradeTwoCount().intValue())
+                .gradeThreeCount(aggregate.gradeThreeCount().intValue())
+                .gradeFourCount(aggregate.gradeFourCount().intValue())
+                .gradeFiveCount(aggregate.gradeFiveCount().intValue())
+                .build();
+        // Derive the average and the rounded rating from the aggregated sum and count
+        expected.recalculateAverage();
+        return expected;
+    }
 }
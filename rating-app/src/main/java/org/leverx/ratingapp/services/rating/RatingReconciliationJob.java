@@ -0,0 +1,56 @@
+package org.leverx.ratingapp.services.rating;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.leverx.ratingapp.exceptions.ConflictException;
+import org.leverx.ratingapp.services.leaderboard.LeaderboardService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodic job which detects and repairs drift between the incrementally maintained
+ * seller ratings and the approved comments stored in the database, and rebuilds
+ * the cached leaderboard from the repaired ratings.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingReconciliationJob {
+    private final RatingCalculationService ratingCalculationService;
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * Recalculates all seller ratings and logs how many of them had drifted.
+     * The schedule is configured with the {@code rating.reconciliation.cron} property.
+     */
+    @Scheduled(cron = "${rating.reconciliation.cron}")
+    public void reconcile() {
+        int repaired = ratingCalculationService.reconcileSellerRatings();
+        if (repaired > 0) {
+            log.warn("[RATING] Reconciliation repaired {} drifted seller rating(s)", repaired);
+        } else {
+            log.info("[RATING] Reconciliation finished, no drift detected");
+        }
+        rebuildLeaderboard();
+    }
+
+    /**
+     * Builds the cached leaderboard on startup, so that reads are served from Redis
+     * without waiting for the first scheduled reconciliation.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildLeaderboard() {
+        try {
+            int sellers = leaderboardService.rebuildLeaderboard();
+            log.info("[LEADERBOARD] Leaderboard rebuilt with {} seller(s)", sellers);
+        } catch (ConflictException e) {
+            log.info("[LEADERBOARD] Leaderboard rebuild skipped: {}", e.getMessage());
+        } catch (DataAccessException e) {
+            log.warn("[LEADERBOARD] Leaderboard rebuild failed, reads fall back to the database: {}",
+                    e.getMessage());
+        }
+    }
+}
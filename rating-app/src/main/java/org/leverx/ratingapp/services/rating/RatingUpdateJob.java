@@ -0,0 +1,48 @@
+package org.leverx.ratingapp.services.rating;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodic job which recalculates the seller ratings enqueued by the moderation events
+ * when write-behind is enabled, and flushes the remaining ones on shutdown.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RatingUpdateJob {
+    private final RatingUpdateService ratingUpdateService;
+
+    /**
+     * Recalculates the seller ratings whose coalescing window has elapsed.
+     * The polling interval is configured with the {@code rating.write-behind.poll-interval} property.
+     */
+    @Scheduled(fixedDelayString = "${rating.write-behind.poll-interval}")
+    public void applyDueUpdates() {
+        try {
+            int applied = ratingUpdateService.applyDueUpdates();
+            if (applied > 0) {
+                log.debug("[RATING] Recalculated {} enqueued seller rating(s)", applied);
+            }
+        } catch (DataAccessException e) {
+            log.warn("[RATING] Rating update failed, retrying on the next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recalculates the pending seller ratings before the application shuts down.
+     */
+    @PreDestroy
+    public void applyAllUpdates() {
+        try {
+            ratingUpdateService.applyAllUpdates();
+        } catch (DataAccessException e) {
+            log.warn("[RATING] Pending rating updates were not applied on shutdown, " +
+                    "they are repaired by the next reconciliation: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.leverx.ratingapp.services.rating;
+
+/**
+ * Entry point of the moderation events affecting seller ratings.
+ * The events are either applied to the rating right away, or coalesced per seller
+ * and recalculated in batches by {@link RatingUpdateJob} when write-behind is enabled.
+ */
+public interface RatingUpdateService {
+    // Records the approval of a comment with the given grade
+    void gradeApproved(Long sellerId, Integer grade);
+
+    // Records the rejection or deletion of an approved comment with the given grade
+    void gradeRemoved(Long sellerId, Integer grade);
+
+    // Records the change of the grade of an approved comment
+    void gradeChanged(Long sellerId, Integer oldGrade, Integer newGrade);
+
+    // Recalculates the seller rating right away under write-behind, so that the caller reads its own changes
+    void refreshSellerRating(Long sellerId);
+
+    // Recalculates the pending seller ratings whose coalescing window has elapsed
+    int applyDueUpdates();
+
+    // Recalculates all pending seller ratings, regardless of their coalescing window
+    int applyAllUpdates();
+}
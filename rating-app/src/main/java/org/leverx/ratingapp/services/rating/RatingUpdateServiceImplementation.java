@@ -0,0 +1,212 @@
+package org.leverx.ratingapp.services.rating;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service implementation of {@link RatingUpdateService}.
+ * With write-behind enabled, a moderation event only marks its seller as pending once the transaction commits,
+ * keeping the time of the first pending event. Sellers pending for longer than the coalescing window are
+ * recalculated from their comments in batches, so a burst of approvals for a seller costs a single recalculation.
+ * The pending sellers are held in memory: the ones lost on a crash are repaired by the periodic reconciliation.
+ * Without write-behind, the events are applied as deltas to the rating within the moderation transaction.
+ * A recalculation conflicting with a concurrent update of the same rating is retried a bounded number of times.
+ */
+@Slf4j
+@Service
+public class RatingUpdateServiceImplementation implements RatingUpdateService, MeterBinder {
+    private final RatingCalculationService ratingCalculationService;
+    private final boolean writeBehindEnabled;
+    private final Duration window;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    // The pending sellers, mapped to the System.nanoTime() of their first pending event
+    private final Map<Long, Long> pendingSellers = new ConcurrentHashMap<>();
+
+    public RatingUpdateServiceImplementation(
+            RatingCalculationService ratingCalculationService,
+            @Value("${rating.write-behind.enabled}") boolean writeBehindEnabled,
+            @Value("${rating.write-behind.window}") Duration window,
+            @Value("${rating.write-behind.batch-size}") int batchSize,
+            @Value("${rating.write-behind.max-attempts}") int maxAttempts) {
+        this.ratingCalculationService = ratingCalculationService;
+        this.writeBehindEnabled = writeBehindEnabled;
+        this.window = window;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void gradeApproved(Long sellerId, Integer grade) {
+        if (writeBehindEnabled) {
+            enqueue(sellerId);
+        } else {
+            ratingCalculationService.applyApprovedGrade(sellerId, grade);
+        }
+    }
+
+    @Override
+    public void gradeRemoved(Long sellerId, Integer grade) {
+        if (writeBehindEnabled) {
+            enqueue(sellerId);
+        } else {
+            ratingCalculationService.removeApprovedGrade(sellerId, grade);
+        }
+    }
+
+    @Override
+    public void gradeChanged(Long sellerId, Integer oldGrade, Integer newGrade) {
+        if (oldGrade.equals(newGrade)) {
+            return;
+        }
+        if (writeBehindEnabled) {
+            enqueue(sellerId);
+        } else {
+            ratingCalculationService.changeApprovedGrade(sellerId, oldGrade, newGrade);
+        }
+    }
+
+    /**
+     * Recalculates the rating of the seller right away when write-behind is enabled.
+     * Called after the moderation transaction has committed, so the recalculation sees its changes.
+     * The seller is recalculated even if it is no longer pending, since a running batch may have
+     * already polled it and not yet committed its recalculation.
+     *
+     * @param sellerId The ID of the seller.
+     */
+    @Override
+    public void refreshSellerRating(Long sellerId) {
+        if (!writeBehindEnabled) {
+            return;
+        }
+        pendingSellers.remove(sellerId);
+        apply(List.of(sellerId));
+    }
+
+    /**
+     * Recalculates the ratings of the sellers pending for longer than the coalescing window,
+     * in batches of {@code rating.write-behind.batch-size} sellers.
+     *
+     * @return The number of recalculated seller ratings.
+     */
+    @Override
+    public int applyDueUpdates() {
+        return applyPending(false);
+    }
+
+    /**
+     * Recalculates the ratings of all pending sellers, e.g. before the application shuts down.
+     *
+     * @return The number of recalculated seller ratings.
+     */
+    @Override
+    public int applyAllUpdates() {
+        return applyPending(true);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("rating.updates.pending", pendingSellers, Map::size)
+                .description("Sellers whose rating is waiting to be recalculated")
+                .register(registry);
+    }
+
+    /**
+     * Helping function, which marks the seller as pending once the current transaction commits,
+     * so that the recalculation never runs before the moderation event is visible.
+     *
+     * @param sellerId The ID of the seller.
+     */
+    private void enqueue(Long sellerId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pendingSellers.putIfAbsent(sellerId, System.nanoTime());
+                }
+            });
+        } else {
+            pendingSellers.putIfAbsent(sellerId, System.nanoTime());
+        }
+    }
+
+    private int applyPending(boolean ignoreWindow) {
+        int applied = 0;
+        List<Long> sellerIds;
+        do {
+            sellerIds = poll(ignoreWindow);
+            apply(sellerIds);
+            applied += sellerIds.size();
+        } while (sellerIds.size() >= batchSize);
+        return applied;
+    }
+
+    /**
+     * Helping function, which removes up to a batch of pending sellers whose window has elapsed.
+     * An entry is only removed if it was not re-added in the meantime.
+     *
+     * @param ignoreWindow Whether to remove the sellers regardless of their window.
+     * @return The IDs of the removed sellers.
+     */
+    private List<Long> poll(boolean ignoreWindow) {
+        long now = System.nanoTime();
+        List<Long> sellerIds = new ArrayList<>();
+        for (Map.Entry<Long, Long> entry : pendingSellers.entrySet()) {
+            if (sellerIds.size() >= batchSize) {
+                break;
+            }
+            boolean due = ignoreWindow || now - entry.getValue() >= window.toNanos();
+            if (due && pendingSellers.remove(entry.getKey(), entry.getValue())) {
+                sellerIds.add(entry.getKey());
+            }
+        }
+        return sellerIds;
+    }
+
+    /**
+     * Helping function, which recalculates the ratings of the sellers in a single transaction.
+     * A transaction failing on a concurrent update of one of the ratings is retried with the fresh ratings,
+     * up to {@code rating.write-behind.max-attempts} times.
+     * If the recalculation fails, the sellers are marked as pending again, so that the next run retries them.
+     *
+     * @param sellerIds The IDs of the sellers.
+     */
+    private void apply(List<Long> sellerIds) {
+        if (sellerIds.isEmpty()) {
+            return;
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                ratingCalculationService.updateSellerRatings(sellerIds);
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    requeue(sellerIds);
+                    throw e;
+                }
+                log.debug("[RATING] Concurrent rating update, retrying attempt {} of {}", attempt + 1, maxAttempts);
+            } catch (RuntimeException e) {
+                requeue(sellerIds);
+                throw e;
+            }
+        }
+    }
+
+    private void requeue(List<Long> sellerIds) {
+        sellerIds.forEach(sellerId -> pendingSellers.putIfAbsent(sellerId, System.nanoTime()));
+    }
+}
@@ -1,24 +1,31 @@
 package org.leverx.ratingapp.services.user;
 
-import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
+import org.leverx.ratingapp.dtos.pagination.CursorPageDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageRequestDTO;
 import org.leverx.ratingapp.dtos.user.UserDTO;
-import org.leverx.ratingapp.dtos.user.UserRankingDTO;
 import org.leverx.ratingapp.models.entities.Comment;
 import org.leverx.ratingapp.models.entities.GameObject;
+import org.leverx.ratingapp.models.entities.SellerRating;
 import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
 import org.leverx.ratingapp.exceptions.ResourceNotFoundException;
 import org.leverx.ratingapp.repositories.CommentRepository;
 import org.leverx.ratingapp.repositories.GameObjectRepository;
+import org.leverx.ratingapp.repositories.SellerRatingRepository;
 import org.leverx.ratingapp.repositories.UserRepository;
+import org.leverx.ratingapp.services.auth.principal.PrincipalCacheService;
 import org.leverx.ratingapp.services.rating.RatingCalculationServiceImplementation;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -33,7 +40,9 @@ public class UserServiceImplementation implements UserDetailsService, UserServic
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
     private final GameObjectRepository gameObjectRepository;
+    private final SellerRatingRepository sellerRatingRepository;
     private final RatingCalculationServiceImplementation ratingCalculationServiceImplementation;
+    private final PrincipalCacheService principalCacheService;
 
     /**
      * Loads user details by email. Used for user authentication.
@@ -51,37 +60,38 @@ public class UserServiceImplementation implements UserDetailsService, UserServic
     }
 
     /**
-     * Enables a user by their email address.
+     * Enables a user by their email address and initializes the rating of a seller,
+     * so that the seller appears on the leaderboard before receiving any comments.
      *
      * @param email The email of the user to be enabled.
      */
     @Override
     public void enableUser(String email) {
         userRepository.enableUser(email);
+        principalCacheService.evictPrincipal(email);
+        userRepository.findByEmail(email)
+                .filter(user -> user.getRole() == Role.SELLER)
+                .ifPresent(user -> ratingCalculationServiceImplementation.initializeSellerRating(user.getId()));
     }
 
     /**
-     * Retrieves a list of all users. Filters users based on their active status.
+     * Retrieves a page of users ordered by user ID. Filters users based on their active status.
      *
      * @param onlyActive Whether to return only active users.
      * @param isAdmin Indicates whether the caller is an admin (affects the data returned).
-     * @return A list of {@link UserDTO} representing the users.
+     * @param pageRequest The page size and the cursor of the previous page.
+     * @return A {@link CursorPageDTO} of {@link UserDTO} representing the users.
      */
+    @Transactional(readOnly = true)
     @Override
-    public List<UserDTO> getAllUsers(boolean onlyActive, boolean isAdmin) {
-        // Fetch all users based on the active status
-        List<User> users = onlyActive
-                ? userRepository.findAllActiveUsers()
-                : userRepository.findAll();
-
-        // Retrieve all comments and game objects for rating calculations
-        List<Comment> comments = commentRepository.findAll();
-        List<GameObject> gameObjects = gameObjectRepository.findAll();
-
-        // Map each user to a UserDTO and calculate rating data
-        return users.stream()
-            .map(user -> createUserDTO(user, comments, gameObjects, isAdmin))
-            .collect(Collectors.toList());
+    public CursorPageDTO<UserDTO> getAllUsers(boolean onlyActive, boolean isAdmin, CursorPageRequestDTO pageRequest) {
+        // Fetch a page of users based on the active status
+        Slice<User> users = onlyActive
+                ? userRepository.findActiveUsersAfter(pageRequest.afterId(), pageRequest.pageable())
+                : userRepository.findAllAfter(pageRequest.afterId(), pageRequest.pageable());
+
+        // Map each user to a UserDTO together with their comments, game objects and rating data
+        return CursorPageDTO.from(users, page -> mapToUsersDTO(page, isAdmin), User::getId);
     }
 
     /**
@@ -92,6 +102,7 @@ public class UserServiceImplementation implements UserDetailsService, UserServic
      * @return A {@link UserDTO} representing the retrieved user.
      * @throws ResourceNotFoundException If the user is not found.
      */
+    @Transactional(readOnly = true)
     @Override
     public UserDTO getUserById(Long user_id, boolean onlyActive) {
         // Fetch the user based on their active status
@@ -105,11 +116,7 @@ public class UserServiceImplementation implements UserDetailsService, UserServic
                             new ResourceNotFoundException("Active user with id %s not found"
                                     .formatted(user_id)));
 
-        // Retrieve all comments and game objects for rating calculations
-        List<Comment> comments = commentRepository.findAll();
-        List<GameObject> gameObjects = gameObjectRepository.findAll();
-
-        return createUserDTO(user, comments, gameObjects, !onlyActive);
+        return mapToUsersDTO(List.of(user), !onlyActive).getFirst();
     }
 
     /**
@@ -117,10 +124,11 @@ public class UserServiceImplementation implements UserDetailsService, UserServic
      *
      * @return A list of {@link UserDTO} representing inactive users.
      */
+    @Transactional(readOnly = true)
     @Override
     public List<UserDTO> getInactiveUsers() {
         List<User> users = userRepository.findAllInactiveUsers();
-        return adminMapToUsersDTO(users);
+        return mapToUsersDTO(users, true);
     }
 
     /**
@@ -128,114 +136,52 @@ public class UserServiceImplementation implements UserDetailsService, UserServic
      *
      * @return A list of {@link UserDTO} representing pending users.
      */
+    @Transactional(readOnly = true)
     @Override
     public List<UserDTO> getPendingUsers() {
         List<User> users = userRepository.findPendingUsers();
-        return adminMapToUsersDTO(users);
+        return mapToUsersDTO(users, true);
     }
 
-    /**
-     * Retrieves a list of user rankings, sorted by their rating. Optionally filters rankings by game name.
-     *
-     * @param gameName The name of the game to filter by (optional).
-     * @param ratingLimit The maximum number of user rankings to retrieve.
-     * @return A list of {@link UserRankingDTO} representing the rankings.
-     */
-    @Override
-    public List<UserRankingDTO> getUserRating(String gameName, Long ratingLimit) {
-        List<User> filteredUsers = userRepository.findAllActiveUsers();
-
-        if (gameName != null && !gameName.isEmpty()) {
-            List<GameObject> matchingGames = gameObjectRepository
-                    .findAllByTitleContainingIgnoreCase(gameName);
-
-            List<Long> userIds = matchingGames.stream()
-                    .map(game -> game.getUser().getId())
-                    .distinct()
-                    .toList();
-
-            // Assign filtered list without modifying original reference
-            filteredUsers = filteredUsers.stream()
-                    .filter(user -> userIds.contains(user.getId()))
-                    .toList();
-        }
-
-        Map<Long, Double> userRatings = filteredUsers.stream()
-                .collect(Collectors.toMap(
-                        User::getId,
-                        user -> ratingCalculationServiceImplementation.getSellerRating(user.getId())
-                ));
-
-        Map<Long, Integer> userTotalRatings = filteredUsers.stream()
-                .collect(Collectors.toMap(
-                        User::getId,
-                        user -> ratingCalculationServiceImplementation.getNumberOfRatings(user.getId())
-                ));
-
-        List<User> finalFilteredUsers = filteredUsers;
-        return filteredUsers.stream()
-                .sorted((u1, u2) -> {
-                    int ratingCompare = Double.compare(
-                            userRatings.getOrDefault(u2.getId(), 0.0),
-                            userRatings.getOrDefault(u1.getId(), 0.0)
-                    );
-                    if (ratingCompare != 0) {
-                        return ratingCompare;
-                    }
-                    return Integer.compare(
-                            userTotalRatings.getOrDefault(u2.getId(), 0),
-                            userTotalRatings.getOrDefault(u1.getId(), 0)
-                    );
-                })
-                .limit(ratingLimit != null && ratingLimit > 0 ? ratingLimit : Long.MAX_VALUE)
-                .map(user -> UserRankingDTO.builder()
-                        .place((long) (finalFilteredUsers.indexOf(user) + 1))
-                        .id(user.getId())
-                        .firstName(user.getFirstName())
-                        .lastName(user.getLastName())
-                        .email(user.getEmail())
-                        .createdAt(user.getCreatedAt())
-                        .rating(userRatings.get(user.getId()))
-                        .totalCommentNumber(userTotalRatings.get(user.getId()))
-                        .build()
-                )
-                .collect(Collectors.toList());
-    }
-
-
-
     /**
      * Helper method to map a list of users to a list of UserDTOs.
+     * Comments, game objects and seller ratings are loaded only for the given users,
+     * with one query each, and grouped by user before the DTOs are built in a single pass.
      *
      * @param users The list of users to map.
+     * @param isAdmin Whether unapproved comments are included.
      * @return A list of {@link UserDTO}.
      */
-    private List<UserDTO> adminMapToUsersDTO(List<User> users) {
-        List<Comment> comments = commentRepository.findAll();
-        List<GameObject> games = gameObjectRepository.findAll();
-        return UserDTO.mapToUsersDTO(users, comments, games, true);
-    }
-
-    // Helper method to calculate user ratings and total comments
-    private record UserRatingData(Double rating, Integer totalComments) {}
-    
-    private UserRatingData calculateUserRatingData(Long userId) {
-        return new UserRatingData(
-            ratingCalculationServiceImplementation.getSellerRating(userId),
-            ratingCalculationServiceImplementation.getNumberOfRatings(userId)
-        );
-    }
+    private List<UserDTO> mapToUsersDTO(List<User> users, boolean isAdmin) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        List<Long> userIds = users.stream()
+                .map(User::getId)
+                .toList();
+
+        Map<Long, List<Comment>> commentsBySeller = (isAdmin
+                ? commentRepository.findAllBySellerIdIn(userIds)
+                : commentRepository.findAllApprovedBySellerIdIn(userIds))
+                .stream()
+                .collect(Collectors.groupingBy(comment -> comment.getSeller().getId()));
+        Map<Long, List<GameObject>> gameObjectsByUser = gameObjectRepository.findAllByUserIdIn(userIds)
+                .stream()
+                .collect(Collectors.groupingBy(gameObject -> gameObject.getUser().getId()));
+        Map<Long, SellerRating> ratingsByUser = sellerRatingRepository.findAllByUserIdIn(userIds)
+                .stream()
+                .collect(Collectors.toMap(sellerRating -> sellerRating.getUser().getId(), Function.identity()));
 
-    private UserDTO createUserDTO(User user, List<Comment> comments, List<GameObject> gameObjects, boolean isAdmin) {
-        UserRatingData ratingData = calculateUserRatingData(user.getId());
-        return UserDTO.mapToUserDTO(
-            user, 
-            comments, 
-            gameObjects, 
-            isAdmin, 
-            ratingData.rating(), 
-            ratingData.totalComments()
-        );
+        return users.stream()
+                .map(user -> {
+                    SellerRating sellerRating = ratingsByUser.get(user.getId());
+                    return UserDTO.mapToUserDTO(
+                            user,
+                            commentsBySeller.getOrDefault(user.getId(), List.of()),
+                            gameObjectsByUser.getOrDefault(user.getId(), List.of()),
+                            sellerRating != null ? sellerRating.getAverageRating() : 0.0,
+                            sellerRating != null ? sellerRating.getTotalComments() : 0);
+                })
+                .collect(Collectors.toList());
     }
-
 }
@@ -0,0 +1,76 @@
+-- Baseline schema, as previously generated by Hibernate from the entities
+
+CREATE TABLE users (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    first_name         VARCHAR(255) NOT NULL,
+    last_name          VARCHAR(255) NOT NULL,
+    is_activated       BOOLEAN      NOT NULL,
+    is_email_confirmed BOOLEAN      NOT NULL,
+    password           VARCHAR(255) NOT NULL,
+    email              VARCHAR(255) NOT NULL UNIQUE,
+    created_at         TIMESTAMP(6) NOT NULL,
+    role               VARCHAR(255) NOT NULL CHECK (role IN ('SELLER', 'ADMIN')),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE comments (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    message     VARCHAR(255) NOT NULL,
+    author_id   BIGINT,
+    seller_id   BIGINT       NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    is_approved BOOLEAN      NOT NULL,
+    grade       INTEGER      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_author FOREIGN KEY (author_id) REFERENCES users (id),
+    CONSTRAINT fk_comments_seller FOREIGN KEY (seller_id) REFERENCES users (id)
+);
+
+CREATE TABLE game_objects (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    title            VARCHAR(255) NOT NULL,
+    normalized_title VARCHAR(255) NOT NULL,
+    text             VARCHAR(255) NOT NULL,
+    seller_id        BIGINT       NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_game_objects_seller FOREIGN KEY (seller_id) REFERENCES users (id)
+);
+
+CREATE TABLE seller_ratings (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    seller_id         BIGINT       NOT NULL,
+    rating            INTEGER      NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    average_rating    FLOAT(53)    NOT NULL,
+    total_comments    INTEGER      NOT NULL,
+    grade_sum         BIGINT       NOT NULL,
+    grade_one_count   INTEGER      NOT NULL,
+    grade_two_count   INTEGER      NOT NULL,
+    grade_three_count INTEGER      NOT NULL,
+    grade_four_count  INTEGER      NOT NULL,
+    grade_five_count  INTEGER      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_seller_ratings_seller FOREIGN KEY (seller_id) REFERENCES users (id)
+);
+
+CREATE TABLE email_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    recipient       VARCHAR(255)  NOT NULL,
+    subject         VARCHAR(255)  NOT NULL,
+    content         TEXT          NOT NULL,
+    status          VARCHAR(255)  NOT NULL CHECK (status IN ('PENDING', 'SENT', 'DEAD')),
+    attempts        INTEGER       NOT NULL,
+    next_attempt_at TIMESTAMP(6)  NOT NULL,
+    last_error      VARCHAR(1000),
+    created_at      TIMESTAMP(6)  NOT NULL,
+    sent_at         TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_comments_seller_id_id ON comments (seller_id, id);
+CREATE INDEX idx_comments_seller_id_is_approved_id ON comments (seller_id, is_approved, id);
+CREATE INDEX idx_game_objects_normalized_title_seller ON game_objects (normalized_title, seller_id);
+CREATE INDEX idx_seller_ratings_leaderboard ON seller_ratings (average_rating DESC, total_comments DESC, seller_id);
+CREATE INDEX idx_email_outbox_status_next_attempt_at ON email_outbox (status, next_attempt_at);
@@ -0,0 +1,13 @@
+-- Indexes for the lookups by foreign key and activation flag, which were served by sequential scans
+
+-- A seller has a single rating, which also serves the lookups of the rating of a seller
+ALTER TABLE seller_ratings ADD CONSTRAINT uk_seller_ratings_seller_id UNIQUE (seller_id);
+
+-- Comments of an author, for the visibility filter and the foreign key checks on the deletion of a user
+CREATE INDEX idx_comments_author_id ON comments (author_id);
+
+-- Game objects of a seller, for the user listings
+CREATE INDEX idx_game_objects_seller_id ON game_objects (seller_id);
+
+-- Users by activation state, for the pending and inactive user lookups and the active user listing
+CREATE INDEX idx_users_is_activated_id ON users (is_activated, id);
@@ -0,0 +1,3 @@
+-- Version of the seller rating, checked on every update so that concurrent recalculations
+-- of the same rating conflict instead of overwriting each other
+ALTER TABLE seller_ratings ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,443 @@
+package org.leverx.ratingapp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.leverx.ratingapp.RatingAppApplication;
+import org.leverx.ratingapp.services.leaderboard.LeaderboardService;
+import org.leverx.ratingapp.services.rating.RatingCalculationService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * End-to-end load test of the application, started against an embedded PostgreSQL server and an embedded Redis server.
+ * The database is seeded with sellers, comments and game objects, then concurrent clients drive a weighted mix of
+ * leaderboard reads, comment listings and posts, admin approvals and logins through the controllers.
+ * Throughput and latency percentiles are reported per operation and written to a JSON report, and the run fails
+ * when the error rate or the p99 latency exceed their budget, so that a release can be gated on regressions.
+ * The dataset, the load and the budgets are set with system properties, e.g.
+ * {@code mvn test -Pbenchmark -Dtest=EndToEndLoadBenchmarkTest -Dload.sellers=5000 -Dload.max-p99-ms=250}.
+ * The application reads the JWT signing key from the environment, so JWT_SECRET_KEY must be set.
+ * Excluded from the default build, run with {@code mvn test -Pbenchmark}.
+ */
+@DisplayName("End-to-end load test of the main request mix")
+@Tag("benchmark")
+public class EndToEndLoadBenchmarkTest {
+
+    private static final int SELLERS = Integer.getInteger("load.sellers", 1_000);
+    private static final int COMMENTS_PER_SELLER = Integer.getInteger("load.comments-per-seller", 20);
+    private static final int GAMES_PER_SELLER = Integer.getInteger("load.games-per-seller", 3);
+    private static final int CLIENTS = Integer.getInteger("load.clients", 100);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 10));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 30));
+    private static final String MIX = System.getProperty("load.mix",
+            "leaderboard=40,game-leaderboard=10,seller-comments=20,post-comment=15,approve-comment=10,login=5");
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+    private static final String MAX_P99_MS = System.getProperty("load.max-p99-ms");
+    private static final Path RESULT = Path.of(System.getProperty("load.result", "target/load-test-result.json"));
+
+    private static final int GAME_TITLES = 20;
+    private static final int PAGE_SIZE = 20;
+    private static final String SELLER_PASSWORD = "load-password";
+    private static final String ADMIN_EMAIL = "load-admin@test.com";
+    private static final String ADMIN_PASSWORD = "load-admin-password";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Seeds the dataset, warms the application up with the request mix and reports the measured run.
+     */
+    @Test
+    @DisplayName("Throughput and latency percentiles of the request mix")
+    void runRequestMix() throws Exception {
+        assumeTrue(System.getenv("JWT_SECRET_KEY") != null, "JWT_SECRET_KEY is not set");
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.start();
+             // Command line arguments take precedence over the environment, so a configured database is never used
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(RatingAppApplication.class).run(
+                     "--server.port=0",
+                     "--spring.jpa.show-sql=false",
+                     "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                     "--spring.datasource.username=postgres",
+                     "--spring.datasource.password=",
+                     "--spring.data.redis.host=localhost",
+                     "--spring.data.redis.port=" + redisPort,
+                     "--spring.mail.username=load-test@test.com",
+                     "--spring.mail.password=",
+                     "--admin.email=" + ADMIN_EMAIL,
+                     "--admin.password=" + ADMIN_PASSWORD)) {
+            Map<Operation, LoadResult> results;
+            try (Workload workload = seed(context)) {
+                workload.authenticate();
+                runLoad(workload, WARMUP);
+                results = runLoad(workload, MEASUREMENT);
+            }
+            LoadResult total = LoadResult.merge(results.values());
+
+            results.forEach((operation, result) -> report(operation.key, result));
+            report("total", total);
+            writeReport(results, total);
+
+            assertTrue(total.latencies().length > 0, "No request completed");
+            assertTrue(total.errorRate() <= MAX_ERROR_RATE, String.format(
+                    "Error rate %.4f exceeds the budget of %.4f", total.errorRate(), MAX_ERROR_RATE));
+            if (MAX_P99_MS != null) {
+                double budget = Double.parseDouble(MAX_P99_MS);
+                results.forEach((operation, result) -> assertTrue(result.percentile(0.99) <= budget, String.format(
+                        "p99 of %s is %.1f ms, over the budget of %.1f ms", operation.key, result.percentile(0.99), budget)));
+            }
+        } finally {
+            redis.stop();
+        }
+    }
+
+    // Every client sends its next request as soon as the previous one completed, until the deadline
+    private Map<Operation, LoadResult> runLoad(Workload workload, Duration duration) throws Exception {
+        Operation[] mix = parseMix(MIX);
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Map<Operation, List<Long>>>> clients = IntStream.range(0, CLIENTS)
+                    .mapToObj(i -> clientThreads.submit(() -> {
+                        Map<Operation, List<Long>> latencies = new EnumMap<>(Operation.class);
+                        while (System.nanoTime() < deadline) {
+                            Operation operation = mix[ThreadLocalRandom.current().nextInt(mix.length)];
+                            long start = System.nanoTime();
+                            int status;
+                            try {
+                                status = workload.send(operation);
+                            } catch (Exception e) {
+                                status = 0;
+                            }
+                            if (status == Workload.SKIPPED) {
+                                continue;
+                            }
+                            // Failed requests are recorded as negative latencies and counted as errors
+                            long latency = System.nanoTime() - start;
+                            latencies.computeIfAbsent(operation, key -> new ArrayList<>())
+                                    .add(status == operation.expectedStatus ? latency : -latency);
+                        }
+                        return latencies;
+                    }))
+                    .toList();
+
+            Map<Operation, List<Long>> latencies = new EnumMap<>(Operation.class);
+            for (Future<Map<Operation, List<Long>>> client : clients) {
+                client.get().forEach((operation, clientLatencies) ->
+                        latencies.computeIfAbsent(operation, key -> new ArrayList<>()).addAll(clientLatencies));
+            }
+            Map<Operation, LoadResult> results = new EnumMap<>(Operation.class);
+            latencies.forEach((operation, operationLatencies) ->
+                    results.put(operation, LoadResult.of(operationLatencies, duration)));
+            return results;
+        }
+    }
+
+    private Workload seed(ConfigurableApplicationContext context) throws IOException {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        // Hashed once, every seller logs in with the same password
+        String password = context.getBean(PasswordEncoder.class).encode(SELLER_PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (first_name, last_name, email, password, role, created_at, " +
+                        "is_activated, is_email_confirmed) VALUES (?, ?, ?, ?, 'SELLER', ?, true, true)",
+                IntStream.range(0, SELLERS)
+                        .mapToObj(i -> new Object[]{"Load", "Seller " + i, sellerEmail(i), password, now})
+                        .toList());
+        List<Long> sellerIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE role = 'SELLER' ORDER BY id", Long.class);
+
+        List<Object[]> gameObjects = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = 0; i < sellerIds.size(); i++) {
+            Long sellerId = sellerIds.get(i);
+            for (int j = 0; j < GAMES_PER_SELLER; j++) {
+                String title = "Game " + (i + j) % GAME_TITLES;
+                gameObjects.add(new Object[]{title, title.toLowerCase(), "Load game object", sellerId, now, now});
+            }
+            // Every fifth comment is left for the admin approvals
+            for (int j = 0; j < COMMENTS_PER_SELLER; j++) {
+                comments.add(new Object[]{"Load comment " + j, sellerId, now, j % 5 != 0, (i + j) % 5 + 1});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO game_objects (title, normalized_title, text, seller_id, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)",
+                gameObjects);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO comments (message, seller_id, created_at, is_approved, grade) VALUES (?, ?, ?, ?, ?)",
+                comments);
+
+        // Builds the seller ratings from the seeded comments and the cached leaderboard from the ratings
+        context.getBean(RatingCalculationService.class).reconcileSellerRatings();
+        context.getBean(LeaderboardService.class).rebuildLeaderboard();
+
+        Queue<long[]> pendingComments = new ConcurrentLinkedQueue<>(jdbcTemplate.query(
+                "SELECT seller_id, id FROM comments WHERE is_approved = false ORDER BY id",
+                (resultSet, row) -> new long[]{resultSet.getLong(1), resultSet.getLong(2)}));
+        String port = context.getEnvironment().getProperty("local.server.port");
+        return new Workload(URI.create("http://localhost:" + port), sellerIds, pendingComments);
+    }
+
+    private void report(String operation, LoadResult result) {
+        System.out.printf("[BENCHMARK] %-16s %,8d requests, %,9.1f req/s, p50 %7.1f ms, p95 %7.1f ms, " +
+                        "p99 %7.1f ms, %d errors%n",
+                operation,
+                result.latencies().length,
+                result.throughput(),
+                result.percentile(0.50),
+                result.percentile(0.95),
+                result.percentile(0.99),
+                result.errors());
+    }
+
+    private void writeReport(Map<Operation, LoadResult> results, LoadResult total) throws IOException {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        results.forEach((operation, result) -> operations.put(operation.key, result.summary()));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("sellers", SELLERS);
+        report.put("commentsPerSeller", COMMENTS_PER_SELLER);
+        report.put("gamesPerSeller", GAMES_PER_SELLER);
+        report.put("clients", CLIENTS);
+        report.put("durationSeconds", MEASUREMENT.toSeconds());
+        report.put("mix", MIX);
+        report.put("operations", operations);
+        report.put("total", total.summary());
+
+        if (RESULT.getParent() != null) {
+            Files.createDirectories(RESULT.getParent());
+        }
+        OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(RESULT.toFile(), report);
+        System.out.println("[BENCHMARK] Report written to " + RESULT.toAbsolutePath());
+    }
+
+    // Expands the weights into a table, so that an operation is picked with a single random index
+    private static Operation[] parseMix(String mix) {
+        List<Operation> table = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] weight = entry.split("=");
+            Operation operation = Arrays.stream(Operation.values())
+                    .filter(candidate -> candidate.key.equals(weight[0].trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown operation in load.mix: " + weight[0]));
+            table.addAll(Collections.nCopies(Integer.parseInt(weight[1].trim()), operation));
+        }
+        return table.toArray(Operation[]::new);
+    }
+
+    private static String sellerEmail(int index) {
+        return "load-seller-" + index + "@test.com";
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private enum Operation {
+        LEADERBOARD("leaderboard", 200),
+        GAME_LEADERBOARD("game-leaderboard", 200),
+        SELLER_COMMENTS("seller-comments", 200),
+        POST_COMMENT("post-comment", 201),
+        APPROVE_COMMENT("approve-comment", 202),
+        LOGIN("login", 202);
+
+        private final String key;
+        private final int expectedStatus;
+
+        Operation(String key, int expectedStatus) {
+            this.key = key;
+            this.expectedStatus = expectedStatus;
+        }
+    }
+
+    /**
+     * Sends the requests of the mix against the seeded dataset. Posted comments are queued for the admin approvals,
+     * next to the pending comments of the seed.
+     */
+    private static class Workload implements AutoCloseable {
+        static final int SKIPPED = -1;
+
+        private final URI baseUri;
+        private final List<Long> sellerIds;
+        private final Queue<long[]> pendingComments;
+        private final HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        private String adminToken;
+        private String sellerToken;
+
+        Workload(URI baseUri, List<Long> sellerIds, Queue<long[]> pendingComments) {
+            this.baseUri = baseUri;
+            this.sellerIds = sellerIds;
+            this.pendingComments = pendingComments;
+        }
+
+        // The leaderboard is only served to authenticated users, it is read with the token of a seller
+        void authenticate() throws Exception {
+            adminToken = token(ADMIN_EMAIL, ADMIN_PASSWORD);
+            sellerToken = token(sellerEmail(0), SELLER_PASSWORD);
+        }
+
+        /**
+         * Sends one request of the given operation.
+         * @return The status code of the response, or {@link #SKIPPED} when there is no comment left to approve
+         */
+        int send(Operation operation) throws Exception {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int seller = random.nextInt(sellerIds.size());
+            Long sellerId = sellerIds.get(seller);
+
+            HttpRequest request = switch (operation) {
+                case LEADERBOARD -> get("/users/rating?limit=" + PAGE_SIZE + "&page=" +
+                        random.nextInt(Math.max(1, sellerIds.size() / PAGE_SIZE)), sellerToken);
+                case GAME_LEADERBOARD -> get("/users/rating?limit=" + PAGE_SIZE + "&gameName=" +
+                        URLEncoder.encode("Game " + random.nextInt(GAME_TITLES), StandardCharsets.UTF_8), sellerToken);
+                case SELLER_COMMENTS -> get("/users/" + sellerId + "/comments?limit=" + PAGE_SIZE, null);
+                case POST_COMMENT -> post("/users/" + sellerId + "/comments",
+                        Map.of("message", "Load comment", "grade", random.nextInt(1, 6)), null);
+                case APPROVE_COMMENT -> {
+                    long[] comment = pendingComments.poll();
+                    if (comment == null) {
+                        yield null;
+                    }
+                    yield post("/admin/users/" + comment[0] + "/comments/" + comment[1] + "?confirm=true",
+                            null, adminToken);
+                }
+                case LOGIN -> post("/auth/authenticate",
+                        Map.of("email", sellerEmail(seller), "password", SELLER_PASSWORD), null);
+            };
+            if (request == null) {
+                return SKIPPED;
+            }
+
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (operation == Operation.POST_COMMENT && response.statusCode() == Operation.POST_COMMENT.expectedStatus) {
+                // The location of the created comment is /users/{seller_id}/comments/{comment_id}
+                String location = response.headers().firstValue("Location").orElseThrow();
+                pendingComments.add(new long[]{sellerId, Long.parseLong(location.substring(location.lastIndexOf('/') + 1))});
+            }
+            return response.statusCode();
+        }
+
+        @Override
+        public void close() {
+            httpClient.close();
+        }
+
+        private String token(String email, String password) throws Exception {
+            HttpResponse<String> response = httpClient.send(
+                    post("/auth/authenticate", Map.of("email", email, "password", password), null),
+                    HttpResponse.BodyHandlers.ofString());
+            return OBJECT_MAPPER.readTree(response.body()).get("token").asText();
+        }
+
+        private HttpRequest get(String path, String token) {
+            return authorize(HttpRequest.newBuilder(baseUri.resolve(path)).timeout(Duration.ofSeconds(30)).GET(), token);
+        }
+
+        private HttpRequest post(String path, Map<String, Object> body, String token) throws IOException {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(body != null
+                            ? HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body))
+                            : HttpRequest.BodyPublishers.noBody());
+            return authorize(builder, token);
+        }
+
+        private HttpRequest authorize(HttpRequest.Builder builder, String token) {
+            if (token != null) {
+                builder.header("Authorization", "Bearer " + token);
+            }
+            return builder.build();
+        }
+    }
+
+    private record LoadResult(long[] latencies, long errors, Duration duration) {
+        static LoadResult of(List<Long> recorded, Duration duration) {
+            long[] latencies = recorded.stream().mapToLong(Long::longValue).filter(latency -> latency >= 0).sorted().toArray();
+            return new LoadResult(latencies, recorded.size() - latencies.length, duration);
+        }
+
+        static LoadResult merge(Iterable<LoadResult> results) {
+            List<long[]> latencies = new ArrayList<>();
+            long errors = 0;
+            Duration duration = Duration.ZERO;
+            for (LoadResult result : results) {
+                latencies.add(result.latencies());
+                errors += result.errors();
+                duration = result.duration();
+            }
+            return new LoadResult(latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray(), errors, duration);
+        }
+
+        double throughput() {
+            return latencies.length / (duration.toMillis() / 1000.0);
+        }
+
+        double errorRate() {
+            long requests = latencies.length + errors;
+            return requests > 0 ? (double) errors / requests : 0;
+        }
+
+        double percentile(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        Map<String, Object> summary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", latencies.length);
+            summary.put("errors", errors);
+            summary.put("throughput", throughput());
+            summary.put("p50Ms", percentile(0.50));
+            summary.put("p95Ms", percentile(0.95));
+            summary.put("p99Ms", percentile(0.99));
+            summary.put("maxMs", percentile(1.0));
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.leverx.ratingapp.benchmark;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.leverx.ratingapp.dtos.rating.SellerRatingAggregateDTO;
+import org.leverx.ratingapp.models.entities.Comment;
+import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
+import org.leverx.ratingapp.repositories.CommentRepository;
+import org.leverx.ratingapp.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark comparing the two ways of recomputing a seller rating:
+ * loading every {@link Comment} entity and aggregating in memory versus
+ * the aggregate projection computed by the database.
+ * Excluded from the default build, run with {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest
+@DisplayName("Benchmark for seller rating aggregation")
+@Tag("benchmark")
+public class RatingAggregationBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 10;
+
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private User author;
+    private User seller;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(createUser("benchmark-author@test.com", Role.SELLER));
+        seller = userRepository.save(createUser("benchmark-seller@test.com", Role.SELLER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments WHERE seller_id = ?", seller.getId());
+        jdbcTemplate.update("DELETE FROM seller_ratings WHERE user_id = ?", seller.getId());
+        userRepository.deleteAllById(List.of(author.getId(), seller.getId()));
+    }
+
+    /**
+     * Seeds the given number of comments for one seller and reports the mean time
+     * of both recompute strategies after a short warmup.
+     */
+    @ParameterizedTest(name = "{0} comments per seller")
+    @ValueSource(ints = {1_000, 10_000, 100_000})
+    @DisplayName("Entity-load vs projection recompute")
+    void compareRecomputeStrategies(int commentCount) {
+        seedComments(commentCount);
+
+        double[] entityResult = new double[1];
+        double[] projectionResult = new double[1];
+        long entityNanos = measure(() -> entityResult[0] = recomputeFromEntities());
+        long projectionNanos = measure(() -> projectionResult[0] = recomputeFromProjection());
+
+        assertEquals(entityResult[0], projectionResult[0], 1e-9);
+        System.out.printf("[BENCHMARK] %,d comments: entity-load %.2f ms, projection %.2f ms (%.1fx)%n",
+                commentCount,
+                entityNanos / 1_000_000.0,
+                projectionNanos / 1_000_000.0,
+                (double) entityNanos / projectionNanos);
+    }
+
+    // Previous strategy: materialise every comment with its users and aggregate in memory
+    private double recomputeFromEntities() {
+        return transactionTemplate.execute(status -> commentRepository.findAllBySellerId(seller.getId())
+                .stream()
+                .filter(Comment::getIsApproved)
+                .mapToInt(Comment::getGrade)
+                .average()
+                .orElse(0.0));
+    }
+
+    // Current strategy: let the database compute the aggregate
+    private double recomputeFromProjection() {
+        SellerRatingAggregateDTO aggregate = commentRepository.aggregateApprovedBySellerId(seller.getId());
+        return aggregate.averageRating();
+    }
+
+    private long measure(Runnable action) {
+        IntStream.range(0, WARMUP_ITERATIONS).forEach(i -> action.run());
+        long start = System.nanoTime();
+        IntStream.range(0, MEASURED_ITERATIONS).forEach(i -> action.run());
+        return (System.nanoTime() - start) / MEASURED_ITERATIONS;
+    }
+
+    private void seedComments(int commentCount) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Object[]> rows = IntStream.range(0, commentCount)
+                .mapToObj(i -> new Object[]{
+                        "Benchmark comment " + i,
+                        author.getId(),
+                        seller.getId(),
+                        createdAt,
+                        random.nextInt(10) != 0,
+                        random.nextInt(1, 6)})
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO comments (message, author_id, seller_id, created_at, is_approved, grade) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    private User createUser(String email, Role role) {
+        return User.builder()
+                .firstName("Benchmark")
+                .lastName("User")
+                .email(email)
+                .password("password")
+                .role(role)
+                .isActivated(true)
+                .isEmailConfirmed(true)
+                .build();
+    }
+}
@@ -0,0 +1,200 @@
+package org.leverx.ratingapp.benchmark;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.leverx.ratingapp.dtos.pagination.CursorPageRequestDTO;
+import org.leverx.ratingapp.dtos.user.UserDTO;
+import org.leverx.ratingapp.models.entities.Comment;
+import org.leverx.ratingapp.models.entities.GameObject;
+import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
+import org.leverx.ratingapp.repositories.CommentRepository;
+import org.leverx.ratingapp.repositories.GameObjectRepository;
+import org.leverx.ratingapp.repositories.UserRepository;
+import org.leverx.ratingapp.services.user.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Regression benchmark for the assembly of {@link UserDTO} lists.
+ * Compares the previous assembly, which read the whole comments and game_objects tables
+ * and filtered them per user, with the batched assembly of {@link UserService},
+ * and checks that the number of statements does not depend on the size of the tables.
+ * Excluded from the default build, run with {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("Benchmark for user DTO assembly")
+@Tag("benchmark")
+public class UserDTOAssemblyBenchmarkTest {
+
+    private static final int SELLER_COUNT = 200;
+    private static final int COMMENTS_PER_SELLER = 50;
+    private static final int GAMES_PER_SELLER = 5;
+    private static final int MEASURED_ITERATIONS = 5;
+
+    // One query for the users, one for each of comments, game objects and seller ratings, plus the author
+    private static final long MAX_STATEMENTS_PER_ASSEMBLY = 6;
+
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private GameObjectRepository gameObjectRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private final List<User> sellers = new ArrayList<>();
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(createUser("benchmark-dto-author@test.com"));
+        IntStream.range(0, SELLER_COUNT)
+                .forEach(i -> sellers.add(userRepository.save(createUser("benchmark-dto-seller" + i + "@test.com"))));
+        seedComments();
+        seedGameObjects();
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<Long> sellerIds = sellers.stream().map(User::getId).toList();
+        sellerIds.forEach(id -> {
+            jdbcTemplate.update("DELETE FROM comments WHERE seller_id = ?", id);
+            jdbcTemplate.update("DELETE FROM game_objects WHERE seller_id = ?", id);
+            jdbcTemplate.update("DELETE FROM seller_ratings WHERE seller_id = ?", id);
+        });
+        userRepository.deleteAllById(sellerIds);
+        userRepository.deleteById(author.getId());
+        sellers.clear();
+    }
+
+    /**
+     * Measures listing a page of users and fetching a single user with both assemblies.
+     */
+    @Test
+    @DisplayName("Full-table vs batched user DTO assembly")
+    void compareAssemblies() {
+        Long sellerId = sellers.getFirst().getId();
+        CursorPageRequestDTO pageRequest = CursorPageRequestDTO.of((long) CursorPageRequestDTO.MAX_LIMIT, null);
+
+        long legacyListNanos = measure(() -> transactionTemplate.execute(status -> assembleFromFullTables(
+                userRepository.findActiveUsersAfter(pageRequest.afterId(), pageRequest.pageable()).getContent())));
+        long batchedListNanos = measure(() -> userService.getAllUsers(true, false, pageRequest));
+        long legacySingleNanos = measure(() -> transactionTemplate.execute(status -> assembleFromFullTables(
+                List.of(userRepository.findById(sellerId).orElseThrow()))));
+        long batchedSingleNanos = measure(() -> userService.getUserById(sellerId, true));
+
+        System.out.printf("[BENCHMARK] %d sellers, %d comments, %d game objects%n",
+                SELLER_COUNT, SELLER_COUNT * COMMENTS_PER_SELLER, SELLER_COUNT * GAMES_PER_SELLER);
+        System.out.printf("[BENCHMARK] list users: full-table %.2f ms, batched %.2f ms%n",
+                legacyListNanos / 1_000_000.0, batchedListNanos / 1_000_000.0);
+        System.out.printf("[BENCHMARK] single user: full-table %.2f ms, batched %.2f ms%n",
+                legacySingleNanos / 1_000_000.0, batchedSingleNanos / 1_000_000.0);
+
+        UserDTO user = userService.getUserById(sellerId, true);
+        assertEquals(COMMENTS_PER_SELLER, user.comments().size());
+        assertEquals(GAMES_PER_SELLER, user.gameObjects().size());
+    }
+
+    /**
+     * Guards against reintroducing per-user or full-table queries in the assembly.
+     */
+    @Test
+    @DisplayName("Statement count of the assembly does not grow with the data")
+    void assemblyStatementCountIsConstant() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        userService.getAllUsers(true, false, CursorPageRequestDTO.of((long) CursorPageRequestDTO.MAX_LIMIT, null));
+        long listStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        userService.getUserById(sellers.getFirst().getId(), true);
+        long singleStatements = statistics.getPrepareStatementCount();
+
+        System.out.printf("[BENCHMARK] statements: list users %d, single user %d%n", listStatements, singleStatements);
+        assertTrue(listStatements <= MAX_STATEMENTS_PER_ASSEMBLY, "Listing users issued " + listStatements);
+        assertTrue(singleStatements <= MAX_STATEMENTS_PER_ASSEMBLY, "Fetching a user issued " + singleStatements);
+    }
+
+    // Previous assembly: read both tables entirely and filter them for every user
+    private List<UserDTO> assembleFromFullTables(List<User> users) {
+        List<Comment> comments = commentRepository.findAll();
+        List<GameObject> gameObjects = gameObjectRepository.findAll();
+        return users.stream()
+                .map(user -> UserDTO.mapToUserDTO(user,
+                        comments.stream()
+                                .filter(comment -> comment.getSeller().getId().equals(user.getId())
+                                        && comment.getIsApproved())
+                                .toList(),
+                        gameObjects.stream()
+                                .filter(gameObject -> gameObject.getUser().getId().equals(user.getId()))
+                                .toList(),
+                        0.0, 0))
+                .toList();
+    }
+
+    private long measure(Supplier<?> action) {
+        action.get();
+        long start = System.nanoTime();
+        IntStream.range(0, MEASURED_ITERATIONS).forEach(i -> action.get());
+        return (System.nanoTime() - start) / MEASURED_ITERATIONS;
+    }
+
+    private void seedComments() {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = sellers.stream()
+                .flatMap(seller -> IntStream.range(0, COMMENTS_PER_SELLER)
+                        .mapToObj(i -> new Object[]{"Benchmark comment " + i, author.getId(), seller.getId(),
+                                createdAt, true, ThreadLocalRandom.current().nextInt(1, 6)}))
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO comments (message, author_id, seller_id, created_at, is_approved, grade) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    private void seedGameObjects() {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = sellers.stream()
+                .flatMap(seller -> IntStream.range(0, GAMES_PER_SELLER)
+                        .mapToObj(i -> new Object[]{"Benchmark game " + i, "benchmark game " + i,
+                                "Benchmark text", seller.getId(), createdAt, createdAt}))
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO game_objects (title, normalized_title, text, seller_id, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    private User createUser(String email) {
+        return User.builder()
+                .firstName("Benchmark")
+                .lastName("User")
+                .email(email)
+                .password("password")
+                .role(Role.SELLER)
+                .isActivated(true)
+                .isEmailConfirmed(true)
+                .build();
+    }
+}
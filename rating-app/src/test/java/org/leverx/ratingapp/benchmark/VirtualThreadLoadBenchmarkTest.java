@@ -0,0 +1,204 @@
+package org.leverx.ratingapp.benchmark;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.leverx.ratingapp.RatingAppApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Load test comparing the platform-thread and the virtual-thread execution modes.
+ * For each mode the application is started on a random port against an embedded PostgreSQL server
+ * and an embedded Redis server, and a fixed number of concurrent clients repeatedly request
+ * the public comment listing of a seller, which blocks on JDBC.
+ * Throughput and latency percentiles are reported for 200 and 2000 concurrent clients.
+ * Each run seeds its own seller, removed once the run is over.
+ * The application reads the JWT signing key from the environment, so JWT_SECRET_KEY must be set.
+ * Excluded from the default build, run with {@code mvn test -Pbenchmark}.
+ */
+@DisplayName("Load test for the virtual-thread execution mode")
+@Tag("benchmark")
+public class VirtualThreadLoadBenchmarkTest {
+
+    private static final int[] CONCURRENT_CLIENTS = {200, 2_000};
+    private static final int COMMENTS_PER_SELLER = 200;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(20);
+
+    private static EmbeddedPostgres postgres;
+    private static RedisServer redis;
+    private static int redisPort;
+    private static JdbcTemplate jdbcTemplate;
+
+    private Long sellerId;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redis = new RedisServer(redisPort);
+        redis.start();
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        if (redis != null) {
+            redis.stop();
+        }
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @AfterEach
+    void removeSeller() {
+        if (sellerId != null) {
+            jdbcTemplate.update("DELETE FROM comments WHERE seller_id = ?", sellerId);
+            jdbcTemplate.update("DELETE FROM seller_ratings WHERE seller_id = ?", sellerId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", sellerId);
+            sellerId = null;
+        }
+    }
+
+    /**
+     * Starts the application in the given execution mode and reports the results of each load level.
+     */
+    @ParameterizedTest(name = "virtual threads enabled: {0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Platform vs virtual threads under concurrent load")
+    void compareExecutionModes(boolean virtualThreads) throws Exception {
+        assumeTrue(System.getenv("JWT_SECRET_KEY") != null, "JWT_SECRET_KEY is not set");
+        // Command line arguments take precedence over the environment, so a configured database is never used
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RatingAppApplication.class).run(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=",
+                "--spring.data.redis.host=localhost",
+                "--spring.data.redis.port=" + redisPort,
+                "--spring.mail.username=load-test@test.com",
+                "--spring.mail.password=",
+                "--admin.email=load-admin@test.com",
+                "--admin.password=load-admin-password")) {
+            sellerId = seedSeller();
+            String port = context.getEnvironment().getProperty("local.server.port");
+            URI uri = URI.create("http://localhost:" + port + "/users/" + sellerId + "/comments?limit=20");
+
+            for (int clients : CONCURRENT_CLIENTS) {
+                runLoad(uri, clients, WARMUP);
+                LoadResult result = runLoad(uri, clients, MEASUREMENT);
+
+                assertTrue(result.latencies().length > 0, "No request completed");
+                System.out.printf("[BENCHMARK] %s threads, %,d clients: %,.0f req/s, p50 %.1f ms, p99 %.1f ms, %d errors%n",
+                        virtualThreads ? "virtual" : "platform",
+                        clients,
+                        result.latencies().length / (double) MEASUREMENT.toSeconds(),
+                        result.percentile(0.50),
+                        result.percentile(0.99),
+                        result.errors());
+            }
+        }
+    }
+
+    // Every client sends its next request as soon as the previous one completed, until the deadline
+    private LoadResult runLoad(URI uri, int clients, Duration duration) throws Exception {
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(clientThreads)
+                     .build()) {
+            List<Future<long[]>> results = IntStream.range(0, clients)
+                    .mapToObj(i -> clientThreads.submit(() -> {
+                        List<Long> latencies = new ArrayList<>();
+                        while (System.nanoTime() < deadline) {
+                            long start = System.nanoTime();
+                            try {
+                                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                                if (response.statusCode() == 200) {
+                                    latencies.add(System.nanoTime() - start);
+                                } else {
+                                    errors.incrementAndGet();
+                                }
+                            } catch (Exception e) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                        return latencies.stream().mapToLong(Long::longValue).toArray();
+                    }))
+                    .toList();
+
+            List<long[]> latencies = new ArrayList<>();
+            for (Future<long[]> result : results) {
+                latencies.add(result.get());
+            }
+            return new LoadResult(latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray(),
+                    errors.get());
+        }
+    }
+
+    private long seedSeller() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // Unique per run, as the email is unique and the schema outlives a single application start
+        String email = "load-seller-" + UUID.randomUUID() + "@test.com";
+        Long sellerId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (first_name, last_name, email, password, role, created_at, " +
+                        "is_activated, is_email_confirmed) VALUES (?, ?, ?, ?, ?, ?, true, true) RETURNING id",
+                Long.class, "Load", "Seller", email, "password", "SELLER", now);
+        List<Object[]> rows = IntStream.range(0, COMMENTS_PER_SELLER)
+                .mapToObj(i -> new Object[]{"Load comment " + i, sellerId, now, i % 5 + 1})
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO comments (message, seller_id, created_at, is_approved, grade) VALUES (?, ?, ?, true, ?)",
+                rows);
+        return sellerId;
+    }
+
+    private record LoadResult(long[] latencies, long errors) {
+        double percentile(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
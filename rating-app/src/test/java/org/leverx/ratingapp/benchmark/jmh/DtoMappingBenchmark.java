@@ -0,0 +1,84 @@
+package org.leverx.ratingapp.benchmark.jmh;
+
+import org.leverx.ratingapp.dtos.comments.CommentResponseDTO;
+import org.leverx.ratingapp.dtos.user.UserDTO;
+import org.leverx.ratingapp.models.entities.Comment;
+import org.leverx.ratingapp.models.entities.GameObject;
+import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * JMH benchmark of the mapping of entities to the response DTOs of the user and comment endpoints,
+ * for a seller with a growing number of comments and game objects.
+ * Run with: mvn test-compile exec:exec -Pjmh -Djmh.includes=DtoMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int comments;
+
+    private User seller;
+    private List<Comment> sellerComments;
+    private List<GameObject> sellerGameObjects;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        seller = createUser(1L, createdAt);
+        User author = createUser(2L, createdAt);
+        sellerComments = IntStream.range(0, comments)
+                .mapToObj(i -> Comment.builder()
+                        .id((long) i)
+                        .message("Comment " + i)
+                        .author(i % 10 == 0 ? null : author)
+                        .seller(seller)
+                        .createdAt(createdAt)
+                        .isApproved(i % 3 != 0)
+                        .grade(i % 5 + 1)
+                        .build())
+                .toList();
+        sellerGameObjects = IntStream.range(0, Math.max(1, comments / 10))
+                .mapToObj(i -> GameObject.builder()
+                        .id((long) i)
+                        .title("Game " + i)
+                        .text("Description " + i)
+                        .user(seller)
+                        .createdAt(createdAt)
+                        .updatedAt(createdAt)
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public List<CommentResponseDTO> mapToCommentResponseDTO() {
+        return CommentResponseDTO.mapToCommentResponseDTO(sellerComments);
+    }
+
+    @Benchmark
+    public UserDTO mapToUserDTO() {
+        return UserDTO.mapToUserDTO(seller, sellerComments, sellerGameObjects, 4.5, comments);
+    }
+
+    private User createUser(Long id, LocalDateTime createdAt) {
+        return User.builder()
+                .id(id)
+                .firstName("First" + id)
+                .lastName("Last" + id)
+                .email("user" + id + "@test.com")
+                .createdAt(createdAt)
+                .role(Role.SELLER)
+                .build();
+    }
+}
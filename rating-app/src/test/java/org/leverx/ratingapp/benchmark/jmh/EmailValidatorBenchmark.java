@@ -0,0 +1,45 @@
+package org.leverx.ratingapp.benchmark.jmh;
+
+import org.leverx.ratingapp.services.email.validation.EmailValidatorService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the email validation run on every registration.
+ * Besides a valid address, a domain without a top-level domain is only rejected after the regular expression
+ * has backtracked over the whole domain, so both are tracked against the length of the address.
+ * Run with: mvn test-compile exec:exec -Pjmh -Djmh.includes=EmailValidatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailValidatorBenchmark {
+
+    @Param({"16", "256"})
+    private int length;
+
+    private final EmailValidatorService emailValidatorService = new EmailValidatorService();
+    private String validEmail;
+    private String domainWithoutTld;
+
+    @Setup
+    public void setUp() {
+        String part = "a".repeat(length);
+        validEmail = part + "@" + part + ".com";
+        domainWithoutTld = part + "@" + part;
+    }
+
+    @Benchmark
+    public boolean validEmail() {
+        return emailValidatorService.test(validEmail);
+    }
+
+    @Benchmark
+    public boolean domainWithoutTld() {
+        return emailValidatorService.test(domainWithoutTld);
+    }
+}
@@ -0,0 +1,116 @@
+package org.leverx.ratingapp.benchmark.jmh;
+
+import org.leverx.ratingapp.dtos.rating.LeaderboardEntryDTO;
+import org.leverx.ratingapp.repositories.redis.LeaderboardRedisRepository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory stand-in of {@link LeaderboardRedisRepository} for the JMH benchmarks.
+ * The sellers are kept in a list ordered like the Redis sorted set, best first, and the positions and counts
+ * are answered by binary search, so that reads keep the O(log N) cost of the sorted set operations.
+ */
+class InMemoryLeaderboardRedisRepository extends LeaderboardRedisRepository {
+    private static final Comparator<LeaderboardEntryDTO> ORDER = Comparator
+            .comparingLong((LeaderboardEntryDTO entry) -> -score(entry))
+            .thenComparing(LeaderboardEntryDTO::id);
+
+    private final List<LeaderboardEntryDTO> ranked = new ArrayList<>();
+    private final Map<Long, LeaderboardEntryDTO> entries = new HashMap<>();
+    private final List<Long> distinctScores = new ArrayList<>();
+
+    InMemoryLeaderboardRedisRepository() {
+        super(null, null);
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    /**
+     * Replaces the leaderboard with the given sellers, sorting them once.
+     * @param sellers The leaderboard rows of the sellers
+     */
+    void load(List<LeaderboardEntryDTO> sellers) {
+        entries.clear();
+        sellers.forEach(entry -> entries.put(entry.id(), entry));
+        ranked.clear();
+        ranked.addAll(entries.values());
+        ranked.sort(ORDER);
+        collectDistinctScores();
+    }
+
+    @Override
+    public void save(LeaderboardEntryDTO entry) {
+        LeaderboardEntryDTO previous = entries.put(entry.id(), entry);
+        if (previous != null) {
+            ranked.remove(Collections.binarySearch(ranked, previous, ORDER));
+        }
+        int position = Collections.binarySearch(ranked, entry, ORDER);
+        ranked.add(-position - 1, entry);
+        collectDistinctScores();
+    }
+
+    @Override
+    public List<LeaderboardEntryDTO> findRange(long start, long end) {
+        int from = (int) Math.min(start, ranked.size());
+        int to = (int) Math.min(end + 1, ranked.size());
+        return new ArrayList<>(ranked.subList(from, to));
+    }
+
+    @Override
+    public Optional<LeaderboardEntryDTO> findEntry(Long sellerId) {
+        return Optional.ofNullable(entries.get(sellerId));
+    }
+
+    @Override
+    public long findPositionAfter(Double averageRating, Integer totalComments, Long sellerId) {
+        LeaderboardEntryDTO key = new LeaderboardEntryDTO(sellerId, null, null, null, null, averageRating, totalComments);
+        int position = Collections.binarySearch(ranked, key, ORDER);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    @Override
+    public long countRankedAbove(LeaderboardEntryDTO entry) {
+        // Index of the first seller whose score is not higher, i.e. the number of sellers above
+        int low = 0;
+        int high = ranked.size();
+        long score = score(entry);
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (score(ranked.get(middle)) > score) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public long countDistinctScoresAbove(LeaderboardEntryDTO entry) {
+        int position = Collections.binarySearch(distinctScores, score(entry), Comparator.reverseOrder());
+        return position >= 0 ? position : -position - 1;
+    }
+
+    private void collectDistinctScores() {
+        distinctScores.clear();
+        for (LeaderboardEntryDTO entry : ranked) {
+            long score = score(entry);
+            if (distinctScores.isEmpty() || distinctScores.getLast() != score) {
+                distinctScores.add(score);
+            }
+        }
+    }
+
+    private static long score(LeaderboardEntryDTO entry) {
+        return score(entry.averageRating(), entry.totalComments());
+    }
+}
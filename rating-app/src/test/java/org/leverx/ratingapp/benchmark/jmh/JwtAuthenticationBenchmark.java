@@ -0,0 +1,78 @@
+package org.leverx.ratingapp.benchmark.jmh;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
+import org.leverx.ratingapp.services.auth.jwt.JwtServiceImplementation;
+import org.leverx.ratingapp.services.auth.jwt.VerifiedToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the CPU spent on the JWT checks of a single authenticated request.
+ * The legacy variant reproduces the previous filter path: three parses of the same token,
+ * each decoding the secret key and building a new parser. The current variant verifies the token once
+ * with the signing key and parser built at startup.
+ * Run with: mvn test-compile exec:exec -Pjmh -Djmh.includes=JwtAuthenticationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+    private String secretKey;
+    private JwtServiceImplementation jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] keyBytes = new byte[32];
+        ThreadLocalRandom.current().nextBytes(keyBytes);
+        secretKey = Encoders.BASE64.encode(keyBytes);
+        jwtService = new JwtServiceImplementation(secretKey);
+        user = User.builder()
+                .email("benchmark@test.com")
+                .role(Role.SELLER)
+                .build();
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean legacyRequestAuthentication() {
+        String username = legacyExtractAllClaims(token).getSubject();
+        return username.equals(user.getUsername())
+                && legacyExtractAllClaims(token).getSubject().equals(user.getUsername())
+                && !legacyExtractAllClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean requestAuthentication() {
+        VerifiedToken verifiedToken = jwtService.parseToken(token);
+        return verifiedToken.username() != null && verifiedToken.isValidFor(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    private Claims legacyExtractAllClaims(String jwt) {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(jwt)
+                .getBody();
+    }
+}
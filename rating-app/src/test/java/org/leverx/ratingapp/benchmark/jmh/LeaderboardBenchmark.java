@@ -0,0 +1,82 @@
+package org.leverx.ratingapp.benchmark.jmh;
+
+import org.leverx.ratingapp.dtos.pagination.CursorPageDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageRequestDTO;
+import org.leverx.ratingapp.dtos.rating.LeaderboardEntryDTO;
+import org.leverx.ratingapp.dtos.user.UserRankingDTO;
+import org.leverx.ratingapp.repositories.SellerRatingRepository;
+import org.leverx.ratingapp.services.leaderboard.LeaderboardServiceImplementation;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * JMH benchmark of the leaderboard reads served from the cached leaderboard, on an in-memory stand-in
+ * of the Redis sorted sets. Each page is ranked from the counts of its first row, so the cost of a page
+ * should not grow with the number of sellers, whether it is read by page number or by cursor.
+ * Run with: mvn test-compile exec:exec -Pjmh -Djmh.includes=LeaderboardBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeaderboardBenchmark {
+    private static final long PAGE_SIZE = 20L;
+
+    @Param({"1000", "100000"})
+    private int sellers;
+
+    private LeaderboardServiceImplementation leaderboardService;
+    private int middlePage;
+    private String middleCursor;
+    private long middleSellerId;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // Ratings rounded to one decimal, so that ties exercise the competition and dense ranks
+        List<LeaderboardEntryDTO> entries = LongStream.rangeClosed(1, sellers)
+                .mapToObj(id -> new LeaderboardEntryDTO(id, "First" + id, "Last" + id, "seller" + id + "@test.com",
+                        createdAt, Math.round(random.nextDouble(1, 5) * 10) / 10.0, random.nextInt(1, 50)))
+                .toList();
+        InMemoryLeaderboardRedisRepository leaderboardRedisRepository = new InMemoryLeaderboardRedisRepository();
+        leaderboardRedisRepository.load(entries);
+
+        // The database is only read when the cached leaderboard cannot serve the page
+        SellerRatingRepository sellerRatingRepository = RepositoryStandIns.standIn(SellerRatingRepository.class, Map.of());
+        leaderboardService = new LeaderboardServiceImplementation(sellerRatingRepository, leaderboardRedisRepository, null);
+
+        middlePage = (int) (sellers / PAGE_SIZE / 2);
+        middleCursor = leaderboardService.getLeaderboard(null, middlePage - 1, CursorPageRequestDTO.of(PAGE_SIZE, null))
+                .nextCursor();
+        middleSellerId = leaderboardRedisRepository.findRange(sellers / 2, sellers / 2).getFirst().id();
+    }
+
+    @Benchmark
+    public CursorPageDTO<UserRankingDTO> firstPage() {
+        return leaderboardService.getLeaderboard(null, 0, CursorPageRequestDTO.of(PAGE_SIZE, null));
+    }
+
+    @Benchmark
+    public CursorPageDTO<UserRankingDTO> middlePageByNumber() {
+        return leaderboardService.getLeaderboard(null, middlePage, CursorPageRequestDTO.of(PAGE_SIZE, null));
+    }
+
+    @Benchmark
+    public CursorPageDTO<UserRankingDTO> middlePageByCursor() {
+        return leaderboardService.getLeaderboard(null, null, CursorPageRequestDTO.of(PAGE_SIZE, middleCursor));
+    }
+
+    @Benchmark
+    public UserRankingDTO sellerRank() {
+        return leaderboardService.getSellerRank(middleSellerId);
+    }
+}
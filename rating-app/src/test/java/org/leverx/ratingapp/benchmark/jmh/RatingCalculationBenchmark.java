@@ -0,0 +1,107 @@
+package org.leverx.ratingapp.benchmark.jmh;
+
+import org.leverx.ratingapp.dtos.rating.SellerRatingAggregateDTO;
+import org.leverx.ratingapp.models.entities.SellerRating;
+import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
+import org.leverx.ratingapp.repositories.CommentRepository;
+import org.leverx.ratingapp.repositories.SellerRatingRepository;
+import org.leverx.ratingapp.repositories.UserRepository;
+import org.leverx.ratingapp.services.leaderboard.LeaderboardServiceImplementation;
+import org.leverx.ratingapp.services.rating.RatingCalculationServiceImplementation;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the seller rating updates, on in-memory repository stand-ins.
+ * The full recalculation aggregates every approved grade of the seller, the work the database does
+ * for the aggregate query, while the delta applied on a moderation event does not depend on their number.
+ * The rating is propagated to an in-memory leaderboard, as it would be to Redis.
+ * Run with: mvn test-compile exec:exec -Pjmh -Djmh.includes=RatingCalculationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RatingCalculationBenchmark {
+    private static final long SELLER_ID = 1L;
+
+    @Param({"10", "1000", "100000"})
+    private int approvedComments;
+
+    private RatingCalculationServiceImplementation ratingCalculationService;
+    private SellerRating sellerRating;
+    private int[] grades;
+
+    @Setup
+    public void setUp() {
+        grades = ThreadLocalRandom.current().ints(approvedComments, 1, 6).toArray();
+        User seller = User.builder()
+                .id(SELLER_ID)
+                .firstName("Benchmark")
+                .lastName("Seller")
+                .email("benchmark-seller@test.com")
+                .createdAt(LocalDateTime.now())
+                .role(Role.SELLER)
+                .isActivated(true)
+                .build();
+        sellerRating = SellerRating.builder().user(seller).build();
+
+        CommentRepository commentRepository = RepositoryStandIns.standIn(CommentRepository.class, Map.of(
+                "aggregateApprovedBySellerId", args -> aggregate()));
+        SellerRatingRepository sellerRatingRepository = RepositoryStandIns.standIn(SellerRatingRepository.class, Map.of(
+                "findByUserIdForUpdate", args -> Optional.of(sellerRating),
+                "findAllByUserIdIn", args -> List.of(sellerRating),
+                "save", args -> args[0]));
+        UserRepository userRepository = RepositoryStandIns.standIn(UserRepository.class, Map.of(
+                "existsById", args -> true));
+        // Unfiltered leaderboard updates never touch the per-game page cache
+        LeaderboardServiceImplementation leaderboardService = new LeaderboardServiceImplementation(
+                sellerRatingRepository, new InMemoryLeaderboardRedisRepository(), null);
+
+        // The benchmarked methods run in the caller's transaction, the template is only used by the reconciliation
+        ratingCalculationService = new RatingCalculationServiceImplementation(
+                commentRepository, sellerRatingRepository, userRepository, leaderboardService, null);
+        ratingCalculationService.updateSellerRating(SELLER_ID);
+    }
+
+    @Benchmark
+    public SellerRating updateSellerRating() {
+        ratingCalculationService.updateSellerRating(SELLER_ID);
+        return sellerRating;
+    }
+
+    @Benchmark
+    public SellerRating updateSellerRatings() {
+        ratingCalculationService.updateSellerRatings(List.of(SELLER_ID));
+        return sellerRating;
+    }
+
+    @Benchmark
+    public SellerRating changeApprovedGrade() {
+        // Alternates between two grades, so that the aggregates stay bounded across invocations
+        int grade = sellerRating.getGradeFiveCount() > 0 ? 5 : 1;
+        ratingCalculationService.changeApprovedGrade(SELLER_ID, grade, 6 - grade);
+        return sellerRating;
+    }
+
+    private SellerRatingAggregateDTO aggregate() {
+        long[] histogram = new long[6];
+        long gradeSum = 0;
+        for (int grade : grades) {
+            histogram[grade]++;
+            gradeSum += grade;
+        }
+        return new SellerRatingAggregateDTO((long) grades.length, gradeSum,
+                grades.length > 0 ? (double) gradeSum / grades.length : 0.0,
+                histogram[1], histogram[2], histogram[3], histogram[4], histogram[5]);
+    }
+}
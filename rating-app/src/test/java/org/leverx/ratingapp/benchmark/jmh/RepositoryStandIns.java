@@ -0,0 +1,40 @@
+package org.leverx.ratingapp.benchmark.jmh;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-ins of the Spring Data repositories used by the JMH benchmarks.
+ * A stand-in is a dynamic proxy answering only the repository methods it is given, so that the benchmarks
+ * measure the services rather than a database or a mocking framework recording every invocation.
+ * Any other repository method fails, which keeps the stand-ins honest when a service starts using a new query.
+ */
+final class RepositoryStandIns {
+
+    private RepositoryStandIns() {
+    }
+
+    /**
+     * Creates a stand-in of a repository interface.
+     * @param repositoryType The repository interface
+     * @param methods The handlers of the supported methods, by method name, receiving the call arguments
+     * @return The stand-in implementing the repository interface
+     */
+    static <T> T standIn(Class<T> repositoryType, Map<String, Function<Object[], Object>> methods) {
+        return repositoryType.cast(Proxy.newProxyInstance(repositoryType.getClassLoader(),
+                new Class<?>[]{repositoryType}, (proxy, method, args) -> switch (method.getName()) {
+                    case "toString" -> repositoryType.getSimpleName() + " stand-in";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> {
+                        Function<Object[], Object> handler = methods.get(method.getName());
+                        if (handler == null) {
+                            throw new UnsupportedOperationException(
+                                    repositoryType.getSimpleName() + "." + method.getName() + " is not stubbed");
+                        }
+                        yield handler.apply(args);
+                    }
+                }));
+    }
+}
@@ -129,9 +129,9 @@ public class CommentControllerIntegrationTest {
         // Step 4. Verify the comment appears in the seller's approved comments
         mockMvc.perform(get("/users/{sellerId}/comments", sellerId))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].message").value("Great seller!"))
-                .andExpect(jsonPath("$[0].grade").value(5))
-                .andExpect(jsonPath("$[0].status").value(Status.APPROVED.getValueOfStatus()));
+                .andExpect(jsonPath("$.items[0].message").value("Great seller!"))
+                .andExpect(jsonPath("$.items[0].grade").value(5))
+                .andExpect(jsonPath("$.items[0].status").value(Status.APPROVED.getValueOfStatus()));
     }
     /**
      * Test the ability to update a comment.
@@ -0,0 +1,92 @@
+package org.leverx.ratingapp.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.leverx.ratingapp.models.entities.EmailOutboxMessage;
+import org.leverx.ratingapp.models.enums.EmailDeliveryStatus;
+import org.leverx.ratingapp.repositories.EmailOutboxRepository;
+import org.leverx.ratingapp.services.auth.jwt.JwtServiceImplementation;
+import org.leverx.ratingapp.services.email.outbox.EmailOutboxService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.convention.TestBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the retention of the email outbox, run against the embedded database of
+ * {@link EmbeddedServices}, so that the purge query is executed for real.
+ */
+// The outbox is not polled, so that the seeded emails keep their status
+@SpringBootTest(properties = "email.outbox.poll-interval=1h")
+@DisplayName("Integration tests for the email outbox retention")
+@Tag("integration")
+public class EmailOutboxIntegrationTest {
+    @Autowired private EmailOutboxService emailOutboxService;
+    @Autowired private EmailOutboxRepository emailOutboxRepository;
+
+    @TestBean(name = "jwtServiceImplementation", methodName = EmbeddedServices.JWT_SERVICE)
+    private JwtServiceImplementation jwtService;
+
+    private final List<Long> emailIds = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void embeddedServices(DynamicPropertyRegistry registry) {
+        EmbeddedServices.registerProperties(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailOutboxRepository.deleteAllById(emailIds);
+        emailIds.clear();
+    }
+
+    // Helper method for seeding an email in the outbox
+    private Long createEmail(EmailDeliveryStatus status, LocalDateTime sentAt) {
+        Long id = emailOutboxRepository.save(EmailOutboxMessage.builder()
+                .recipient("outbox@test.com")
+                .subject("Confirm your email")
+                .content("<p>Hello</p>")
+                .status(status)
+                .nextAttemptAt(LocalDateTime.now().plusDays(1))
+                .sentAt(sentAt)
+                .build()).getId();
+        emailIds.add(id);
+        return id;
+    }
+
+    /**
+     * Test case for purging the outbox.
+     * Arrange: Seed an old and a recent sent email, an old dead-lettered email and a pending email
+     * Act: Purge the sent emails
+     * Assert: Verify only the sent email older than the retention period is deleted
+     */
+    @Test
+    @DisplayName("Purge only the emails sent before the retention period")
+    void testPurgeSentEmails() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Long oldSent = createEmail(EmailDeliveryStatus.SENT, now.minusDays(8));
+        Long recentSent = createEmail(EmailDeliveryStatus.SENT, now.minusDays(1));
+        Long oldDead = createEmail(EmailDeliveryStatus.DEAD, now.minusDays(30));
+        Long pending = createEmail(EmailDeliveryStatus.PENDING, null);
+
+        // Act
+        int deleted = emailOutboxService.purgeSentEmails();
+
+        // Assert
+        assertTrue(deleted >= 1);
+        assertFalse(emailOutboxRepository.existsById(oldSent));
+        assertTrue(emailOutboxRepository.existsById(recentSent));
+        assertTrue(emailOutboxRepository.existsById(oldDead));
+        assertTrue(emailOutboxRepository.existsById(pending));
+    }
+}
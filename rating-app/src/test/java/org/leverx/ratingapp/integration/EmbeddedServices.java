@@ -0,0 +1,87 @@
+package org.leverx.ratingapp.integration;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.leverx.ratingapp.services.auth.jwt.JwtServiceImplementation;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+/**
+ * Embedded PostgreSQL and Redis servers for the Spring Boot integration tests, started once per test JVM,
+ * so that the tests need no configured database, Redis server or environment variable.
+ * The tests register the servers with {@link #registerProperties(DynamicPropertyRegistry)} and replace the JWT
+ * service, which reads its key from the environment, with
+ * {@code @TestBean(name = "jwtServiceImplementation", methodName = EmbeddedServices.JWT_SERVICE)}.
+ * Each test removes the rows it seeded, as the database is shared by all of them.
+ */
+public final class EmbeddedServices {
+    public static final String JWT_SERVICE = "org.leverx.ratingapp.integration.EmbeddedServices#jwtService";
+    public static final String ADMIN_EMAIL = "admin@test.com";
+    public static final String ADMIN_PASSWORD = "admin-password";
+    private static final String JWT_SECRET_KEY = "c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0MTI=";
+
+    private static EmbeddedPostgres postgres;
+    private static RedisServer redis;
+    private static int redisPort;
+
+    private EmbeddedServices() {
+    }
+
+    /**
+     * Starts the embedded servers on first use, and stops them when the test JVM exits.
+     * @return the embedded PostgreSQL server
+     */
+    public static synchronized EmbeddedPostgres postgres() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.start();
+                try (ServerSocket socket = new ServerSocket(0)) {
+                    redisPort = socket.getLocalPort();
+                }
+                redis = new RedisServer(redisPort);
+                redis.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Embedded servers failed to start", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(EmbeddedServices::stop));
+        }
+        return postgres;
+    }
+
+    /**
+     * Points the application at the embedded servers and sets the remaining properties read from the environment.
+     * @param registry the registry of the test context
+     */
+    public static void registerProperties(DynamicPropertyRegistry registry) {
+        EmbeddedPostgres database = postgres();
+        registry.add("spring.datasource.url", () -> database.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> redisPort);
+        registry.add("spring.mail.username", () -> "integration-test@test.com");
+        registry.add("spring.mail.password", () -> "");
+        registry.add("admin.email", () -> ADMIN_EMAIL);
+        registry.add("admin.password", () -> ADMIN_PASSWORD);
+    }
+
+    /**
+     * Creates the JWT service with a fixed test key.
+     * @return the JWT service
+     */
+    public static JwtServiceImplementation jwtService() {
+        return new JwtServiceImplementation(JWT_SECRET_KEY);
+    }
+
+    private static synchronized void stop() {
+        try {
+            redis.stop();
+            postgres.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package org.leverx.ratingapp.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.leverx.ratingapp.config.RedisConfig;
+import org.leverx.ratingapp.dtos.rating.LeaderboardEntryDTO;
+import org.leverx.ratingapp.repositories.redis.LeaderboardRedisRepository;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the {@link LeaderboardRedisRepository} class, run against an embedded Redis server,
+ * so that the Lua scripts maintaining the sorted sets are executed for real.
+ */
+@DisplayName("Integration tests for the Redis leaderboard")
+@Tag("integration")
+public class LeaderboardRedisRepositoryIntegrationTest {
+    private static final Duration TIMEOUT = Duration.ofMinutes(1);
+
+    private static RedisServer redis;
+    private static JedisConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+    private static LeaderboardRedisRepository repository;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redis = new RedisServer(port);
+        redis.start();
+        connectionFactory = new JedisConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        repository = new LeaderboardRedisRepository(redisTemplate, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redis != null) {
+            redis.stop();
+        }
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+    }
+
+    // Helper method for creating leaderboard rows
+    private LeaderboardEntryDTO createEntry(long id, double averageRating, int totalComments) {
+        return new LeaderboardEntryDTO(id, "First", "Last", "seller" + id + "@test.com",
+                null, averageRating, totalComments);
+    }
+
+    private List<Long> rangeIds() {
+        return repository.findRange(0, -1).stream().map(LeaderboardEntryDTO::id).toList();
+    }
+
+    /**
+     * Test case for removing sellers.
+     * Arrange: Save two sellers with the same score and one with a lower score
+     * Act: Remove the sellers one by one
+     * Assert: Verify ranks and distinct scores follow, and no key is left once all sellers are removed
+     */
+    @Test
+    @DisplayName("Remove sellers with their score bookkeeping")
+    void testRemove() {
+        // Arrange
+        LeaderboardEntryDTO low = createEntry(3L, 3.0, 1);
+        repository.save(createEntry(1L, 5.0, 2));
+        repository.save(createEntry(2L, 5.0, 2));
+        repository.save(low);
+
+        // Act & Assert
+        assertTrue(repository.remove(1L));
+        assertEquals(Optional.empty(), repository.findEntry(1L));
+        assertEquals(List.of(2L, 3L), rangeIds());
+        assertEquals(1, repository.countRankedAbove(low));
+        assertEquals(1, repository.countDistinctScoresAbove(low));
+
+        assertTrue(repository.remove(2L));
+        assertEquals(0, repository.countRankedAbove(low));
+        assertEquals(0, repository.countDistinctScoresAbove(low));
+
+        assertTrue(repository.remove(3L));
+        assertFalse(repository.remove(3L));
+        assertEquals(List.of(), redisTemplate.keys("leaderboard:*").stream().toList());
+    }
+
+    /**
+     * Test case for sellers with equal scores.
+     * Arrange: Save sellers with equal scores, with IDs whose decimal strings do not sort numerically
+     * Act: Read the whole leaderboard and the positions after sort keys within the ties
+     * Assert: Verify ties are ordered by ascending ID, like the database leaderboard
+     */
+    @Test
+    @DisplayName("Order equal scores by ascending seller ID")
+    void testTieBreak() {
+        // Arrange
+        repository.save(createEntry(10L, 4.0, 3));
+        repository.save(createEntry(9L, 4.0, 3));
+        repository.save(createEntry(100L, 4.5, 1));
+        repository.save(createEntry(2L, 4.0, 3));
+
+        // Act & Assert
+        assertEquals(List.of(100L, 2L, 9L, 10L), rangeIds());
+        assertEquals(3L, repository.findPositionAfter(4.0, 3, 9L));
+        assertEquals(4L, repository.findPositionAfter(4.0, 3, 10L));
+    }
+
+    /**
+     * Test case for resolving cursors by sort key.
+     * Arrange: Save sellers with distinct and equal scores
+     * Act: Find the positions after sort keys whose sellers have moved, left or never existed
+     * Assert: Verify each position is the first seller ordered after the sort key,
+     * like the keyset query of the database
+     */
+    @Test
+    @DisplayName("Find the position after a sort key")
+    void testFindPositionAfter() {
+        // Arrange
+        repository.save(createEntry(1L, 5.0, 2));
+        repository.save(createEntry(2L, 4.0, 3));
+        repository.save(createEntry(4L, 4.0, 3));
+        repository.save(createEntry(6L, 4.0, 3));
+        repository.save(createEntry(7L, 3.0, 1));
+
+        // Act & Assert
+        assertEquals(0L, repository.findPositionAfter(5.0, 3, 1L));
+        assertEquals(1L, repository.findPositionAfter(5.0, 2, 1L));
+        assertEquals(1L, repository.findPositionAfter(4.0, 3, 1L));
+        assertEquals(2L, repository.findPositionAfter(4.0, 3, 3L));
+        assertEquals(4L, repository.findPositionAfter(4.0, 3, 6L));
+        assertEquals(4L, repository.findPositionAfter(3.5, 8, 5L));
+        assertEquals(5L, repository.findPositionAfter(3.0, 1, 7L));
+        assertEquals(5L, repository.findPositionAfter(1.0, 1, 9L));
+
+        // A seller who moved up after the cursor was issued does not shift the next page
+        repository.save(createEntry(4L, 5.0, 9));
+        assertEquals(List.of(4L, 1L, 2L, 6L, 7L), rangeIds());
+        assertEquals(3L, repository.findPositionAfter(4.0, 3, 4L));
+        repository.remove(4L);
+        assertEquals(2L, repository.findPositionAfter(4.0, 3, 4L));
+    }
+
+    /**
+     * Test case for overlapping rebuilds.
+     * Arrange: Start a rebuild
+     * Act: Start a second rebuild, then publish the first one and start again
+     * Assert: Verify the second rebuild is rejected until the first one is published
+     */
+    @Test
+    @DisplayName("Reject overlapping rebuilds")
+    void testOverlappingRebuilds() {
+        // Arrange
+        String rebuildId = repository.startRebuild(TIMEOUT).orElseThrow();
+
+        // Act & Assert
+        assertEquals(Optional.empty(), repository.startRebuild(TIMEOUT));
+        assertFalse(repository.publishRebuild("another"));
+        assertTrue(repository.publishRebuild(rebuildId));
+        assertTrue(repository.isReady());
+        assertTrue(repository.startRebuild(TIMEOUT).isPresent());
+    }
+
+    /**
+     * Test case for sellers changed while a rebuild reads the database.
+     * Arrange: Save two sellers, start a rebuild and stage the snapshot read before the changes
+     * Act: Move, remove and add sellers during the rebuild, then publish it
+     * Assert: Verify the published leaderboard holds the latest state with consistent distinct scores
+     */
+    @Test
+    @DisplayName("Replay changes made during a rebuild")
+    void testRebuildReplaysChanges() {
+        // Arrange
+        repository.save(createEntry(1L, 3.0, 1));
+        repository.save(createEntry(2L, 4.0, 1));
+        String rebuildId = repository.startRebuild(TIMEOUT).orElseThrow();
+        repository.addToRebuild(rebuildId, List.of(createEntry(2L, 4.0, 1), createEntry(1L, 3.0, 1)), TIMEOUT);
+
+        // Act
+        LeaderboardEntryDTO moved = createEntry(1L, 5.0, 2);
+        repository.save(moved);
+        repository.remove(2L);
+        repository.save(createEntry(3L, 5.0, 2));
+        assertTrue(repository.publishRebuild(rebuildId));
+
+        // Assert
+        assertEquals(List.of(1L, 3L), rangeIds());
+        assertEquals(Optional.of(moved), repository.findEntry(1L));
+        assertEquals(0, repository.countDistinctScoresAbove(moved));
+        assertEquals(1, repository.countDistinctScoresAbove(createEntry(4L, 3.0, 1)));
+        assertEquals(-1L, redisTemplate.getExpire("leaderboard:sellers"));
+    }
+
+    /**
+     * Test case for an aborted rebuild.
+     * Arrange: Save a seller, start a rebuild and stage a different snapshot
+     * Act: Abort the rebuild
+     * Assert: Verify the live leaderboard is untouched, the staging keys are dropped and the lock is released
+     */
+    @Test
+    @DisplayName("Drop staging keys of an aborted rebuild")
+    void testAbortRebuild() {
+        // Arrange
+        repository.save(createEntry(1L, 3.0, 1));
+        String rebuildId = repository.startRebuild(TIMEOUT).orElseThrow();
+        repository.addToRebuild(rebuildId, List.of(createEntry(2L, 4.0, 1)), TIMEOUT);
+
+        // Act
+        repository.abortRebuild(rebuildId);
+
+        // Assert
+        assertEquals(List.of(1L), rangeIds());
+        assertEquals(List.of(), redisTemplate.keys("leaderboard:*" + rebuildId).stream().toList());
+        assertTrue(repository.startRebuild(TIMEOUT).isPresent());
+    }
+}
@@ -0,0 +1,237 @@
+package org.leverx.ratingapp.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.leverx.ratingapp.dtos.auth.AuthenticationRequestDTO;
+import org.leverx.ratingapp.models.entities.Comment;
+import org.leverx.ratingapp.models.entities.GameObject;
+import org.leverx.ratingapp.models.entities.SellerRating;
+import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
+import org.leverx.ratingapp.repositories.CommentRepository;
+import org.leverx.ratingapp.repositories.GameObjectRepository;
+import org.leverx.ratingapp.repositories.SellerRatingRepository;
+import org.leverx.ratingapp.repositories.UserRepository;
+import org.leverx.ratingapp.services.auth.jwt.JwtServiceImplementation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.convention.TestBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests asserting the number of SQL statements executed by the read endpoints,
+ * counted with the Hibernate statistics. Every seeded comment has a distinct author,
+ * so a lazy association loaded one row at a time would show up as additional statements.
+ * The tests are not transactional: a shared persistence context would hide the queries of each request.
+ * The application runs against the embedded servers of {@link EmbeddedServices}.
+ */
+// The statistics count the statements of the whole application, so the outbox is not polled during the requests
+@SpringBootTest(properties = "email.outbox.poll-interval=1h")
+@AutoConfigureMockMvc
+@DisplayName("Integration tests for the query count of the read endpoints")
+@Tag("integration")
+public class QueryCountIntegrationTest {
+    private static final int AUTHORS = 5;
+    private static final String PASSWORD = "password123";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private UserRepository userRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private GameObjectRepository gameObjectRepository;
+    @Autowired private SellerRatingRepository sellerRatingRepository;
+
+    @TestBean(name = "jwtServiceImplementation", methodName = EmbeddedServices.JWT_SERVICE)
+    private JwtServiceImplementation jwtService;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private Long sellerId;
+    private Long commentId;
+    private String adminToken;
+    private String sellerToken;
+
+    @DynamicPropertySource
+    static void embeddedServices(DynamicPropertyRegistry registry) {
+        EmbeddedServices.registerProperties(registry);
+    }
+
+    /**
+     * Seeds one seller with a rating, game objects and an approved comment from each of several authors,
+     * and authenticates the seller and the admin.
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        User seller = userRepository.save(createUser("query-count-seller@test.com"));
+        sellerId = seller.getId();
+        userIds.add(sellerId);
+        sellerRatingRepository.save(SellerRating.builder().user(seller).build());
+        IntStream.range(0, 3).forEach(i -> gameObjectRepository.save(GameObject.builder()
+                .title("Game " + i)
+                .text("Description")
+                .user(seller)
+                .build()));
+        for (int i = 0; i < AUTHORS; i++) {
+            User author = userRepository.save(createUser("query-count-author" + i + "@test.com"));
+            userIds.add(author.getId());
+            commentId = commentRepository.save(Comment.builder()
+                    .message("Comment " + i)
+                    .grade(5)
+                    .isApproved(true)
+                    .author(author)
+                    .seller(seller)
+                    .build()).getId();
+        }
+
+        adminToken = getAuthToken(EmbeddedServices.ADMIN_EMAIL, EmbeddedServices.ADMIN_PASSWORD);
+        sellerToken = getAuthToken("query-count-seller@test.com", PASSWORD);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM comments WHERE seller_id = ? OR author_id = ?", userId, userId);
+            jdbcTemplate.update("DELETE FROM game_objects WHERE seller_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM seller_ratings WHERE seller_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        }
+        userIds.clear();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    /**
+     * Tests the public comment listing of a seller.
+     * Expected result: the seller check and a single projection query joining the author emails.
+     */
+    @Test
+    @DisplayName("Anonymous seller comment listing")
+    void testSellerCommentsQueryCount() throws Exception {
+        assertStatementCount(2, get("/users/{sellerId}/comments", sellerId));
+    }
+
+    /**
+     * Tests the admin comment listing of a seller.
+     * Expected result: the seller check and a single projection query joining the author emails.
+     */
+    @Test
+    @DisplayName("Admin seller comment listing")
+    void testAdminSellerCommentsQueryCount() throws Exception {
+        assertStatementCount(2, get("/admin/users/{sellerId}/comments", sellerId)
+                .header("Authorization", "Bearer " + adminToken));
+    }
+
+    /**
+     * Tests the admin listing of all comments.
+     * Expected result: a single projection query joining the author and seller emails.
+     */
+    @Test
+    @DisplayName("Admin comment listing")
+    void testAllCommentsQueryCount() throws Exception {
+        assertStatementCount(1, get("/admin/users/comments")
+                .header("Authorization", "Bearer " + adminToken));
+    }
+
+    /**
+     * Tests the retrieval of a single comment.
+     * Expected result: a single query fetching the comment with its author and seller.
+     */
+    @Test
+    @DisplayName("Single comment")
+    void testCommentQueryCount() throws Exception {
+        assertStatementCount(1, get("/admin/users/{sellerId}/comments/{commentId}", sellerId, commentId)
+                .header("Authorization", "Bearer " + adminToken));
+    }
+
+    /**
+     * Tests the game object listing.
+     * Expected result: a single projection query joining the seller emails.
+     */
+    @Test
+    @DisplayName("Game object listing")
+    void testGameObjectsQueryCount() throws Exception {
+        assertStatementCount(1, get("/object")
+                .header("Authorization", "Bearer " + sellerToken));
+    }
+
+    /**
+     * Tests the admin user listing.
+     * Expected result: one query for the users, then one each for their comments, game objects and ratings.
+     */
+    @Test
+    @DisplayName("Admin user listing")
+    void testUsersQueryCount() throws Exception {
+        assertStatementCount(4, get("/admin/users")
+                .param("limit", "100")
+                .header("Authorization", "Bearer " + adminToken));
+    }
+
+    /**
+     * Helper method asserting the number of statements executed by a request.
+     * The request is sent once to warm up the principal cache, then the second-level cache is cleared,
+     * so that the measured request executes every query of its use case.
+     */
+    private void assertStatementCount(long expected, RequestBuilder request) throws Exception {
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(request).andExpect(status().isOk());
+        assertEquals(expected, statistics.getPrepareStatementCount());
+    }
+
+    private User createUser(String email) {
+        return User.builder()
+                .email(email)
+                .password(passwordEncoder.encode(PASSWORD))
+                .firstName("Query")
+                .lastName("Count")
+                .role(Role.SELLER)
+                .isEmailConfirmed(true)
+                .isActivated(true)
+                .build();
+    }
+
+    private String getAuthToken(String email, String password) throws Exception {
+        AuthenticationRequestDTO authRequest = AuthenticationRequestDTO.builder()
+                .email(email)
+                .password(password)
+                .build();
+
+        String response = mockMvc.perform(post("/auth/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(authRequest)))
+                .andExpect(status().isAccepted())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("token").asText();
+    }
+}
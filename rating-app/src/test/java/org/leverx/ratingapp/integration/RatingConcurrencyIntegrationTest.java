@@ -0,0 +1,230 @@
+package org.leverx.ratingapp.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.leverx.ratingapp.models.entities.Comment;
+import org.leverx.ratingapp.models.entities.SellerRating;
+import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
+import org.leverx.ratingapp.repositories.CommentRepository;
+import org.leverx.ratingapp.repositories.SellerRatingRepository;
+import org.leverx.ratingapp.repositories.UserRepository;
+import org.leverx.ratingapp.services.auth.jwt.JwtServiceImplementation;
+import org.leverx.ratingapp.services.comment.CommentService;
+import org.leverx.ratingapp.services.rating.RatingCalculationService;
+import org.leverx.ratingapp.services.rating.RatingUpdateServiceImplementation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.convention.TestBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Stress tests for the concurrent updates of a seller rating, run against an embedded PostgreSQL server.
+ * Many threads moderate the comments of the same seller at once, starting without a rating record,
+ * and the final aggregates must account for every approved grade exactly once.
+ * Write-behind is disabled, so the moderation events are applied as deltas within their transaction.
+ */
+@SpringBootTest(properties = "rating.write-behind.enabled=false")
+@DisplayName("Integration tests for concurrent seller rating updates")
+@Tag("integration")
+public class RatingConcurrencyIntegrationTest {
+    private static final int THREADS = 32;
+    private static final int COMMENTS_PER_THREAD = 10;
+
+    @Autowired private CommentService commentService;
+    @Autowired private RatingCalculationService ratingCalculationService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private SellerRatingRepository sellerRatingRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @TestBean(name = "jwtServiceImplementation", methodName = EmbeddedServices.JWT_SERVICE)
+    private JwtServiceImplementation jwtService;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Comment> comments = new ArrayList<>();
+    private Long sellerId;
+
+    @DynamicPropertySource
+    static void embeddedServices(DynamicPropertyRegistry registry) {
+        EmbeddedServices.registerProperties(registry);
+    }
+
+    /**
+     * Seeds one seller without a rating and the pending comments moderated by every thread.
+     */
+    @BeforeEach
+    void setUp() {
+        User seller = userRepository.save(createUser("concurrency-seller@test.com"));
+        User author = userRepository.save(createUser("concurrency-author@test.com"));
+        sellerId = seller.getId();
+        userIds.add(sellerId);
+        userIds.add(author.getId());
+        for (int i = 0; i < THREADS * COMMENTS_PER_THREAD; i++) {
+            comments.add(commentRepository.save(Comment.builder()
+                    .message("Comment " + i)
+                    .grade(i % 5 + 1)
+                    .isApproved(false)
+                    .author(author)
+                    .seller(seller)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM comments WHERE seller_id = ? OR author_id = ?", userId, userId);
+            jdbcTemplate.update("DELETE FROM seller_ratings WHERE seller_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        }
+        userIds.clear();
+        comments.clear();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    /**
+     * Tests concurrent approvals applied as deltas.
+     * Expected result: a single rating is created, and it holds the sum, count and histogram of all grades.
+     */
+    @Test
+    @DisplayName("Concurrent approvals apply every grade exactly once")
+    void testConcurrentApprovals() throws Exception {
+        runConcurrently(thread -> {
+            for (Comment comment : commentsOf(thread)) {
+                commentService.approveComment(sellerId, comment.getId(), true);
+            }
+        });
+
+        assertAggregates();
+    }
+
+    /**
+     * Tests concurrent write-behind recalculations of a seller whose comments are being approved.
+     * Every thread recalculates the rating after each approval, retrying on a conflicting update,
+     * so stale recalculations race with fresh ones.
+     * Expected result: no recalculation is left pending, and the last committed one holds all grades.
+     */
+    @Test
+    @DisplayName("Concurrent recalculations never overwrite a fresher rating")
+    void testConcurrentRecalculations() throws Exception {
+        RatingUpdateServiceImplementation ratingUpdateService = new RatingUpdateServiceImplementation(
+                ratingCalculationService, true, Duration.ZERO, 100, 3);
+
+        runConcurrently(thread -> {
+            for (Comment comment : commentsOf(thread)) {
+                jdbcTemplate.update("UPDATE comments SET is_approved = true WHERE id = ?", comment.getId());
+                ratingUpdateService.gradeApproved(sellerId, comment.getGrade());
+                applyDueUpdates(ratingUpdateService);
+            }
+        });
+
+        assertAggregates();
+        assertEquals(0, ratingUpdateService.applyAllUpdates());
+    }
+
+    private User createUser(String email) {
+        return User.builder()
+                .email(email)
+                .password("password")
+                .firstName("Concurrency")
+                .lastName("Test")
+                .role(Role.SELLER)
+                .isEmailConfirmed(true)
+                .isActivated(true)
+                .build();
+    }
+
+    private List<Comment> commentsOf(int thread) {
+        return comments.subList(thread * COMMENTS_PER_THREAD, (thread + 1) * COMMENTS_PER_THREAD);
+    }
+
+    /**
+     * Helper method applying the due rating updates until they do not conflict with another thread.
+     * A batch failing its retries is marked as pending again and picked up by the next call.
+     */
+    private void applyDueUpdates(RatingUpdateServiceImplementation ratingUpdateService) {
+        while (true) {
+            try {
+                ratingUpdateService.applyDueUpdates();
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * Helper method running the task on every thread at once and propagating the first failure.
+     */
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int index = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Helper method asserting the rating of the seller matches the grades of all seeded comments.
+     */
+    private void assertAggregates() {
+        long[] histogram = new long[6];
+        long gradeSum = 0;
+        for (Comment comment : comments) {
+            histogram[comment.getGrade()]++;
+            gradeSum += comment.getGrade();
+        }
+
+        List<SellerRating> sellerRatings = sellerRatingRepository.findAllByUserIdIn(List.of(sellerId));
+        assertEquals(1, sellerRatings.size());
+        SellerRating sellerRating = sellerRatings.get(0);
+        assertEquals(comments.size(), sellerRating.getTotalComments());
+        assertEquals(gradeSum, sellerRating.getGradeSum());
+        assertEquals(histogram[1], sellerRating.getGradeOneCount().longValue());
+        assertEquals(histogram[2], sellerRating.getGradeTwoCount().longValue());
+        assertEquals(histogram[3], sellerRating.getGradeThreeCount().longValue());
+        assertEquals(histogram[4], sellerRating.getGradeFourCount().longValue());
+        assertEquals(histogram[5], sellerRating.getGradeFiveCount().longValue());
+        assertEquals((double) gradeSum / comments.size(), sellerRating.getAverageRating(), 1e-9);
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+}
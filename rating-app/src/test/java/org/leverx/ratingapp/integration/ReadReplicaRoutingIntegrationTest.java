@@ -0,0 +1,179 @@
+package org.leverx.ratingapp.integration;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.leverx.ratingapp.config.ReplicaRoutingDataSource;
+import org.leverx.ratingapp.dtos.user.UserDTO;
+import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
+import org.leverx.ratingapp.repositories.UserRepository;
+import org.leverx.ratingapp.services.auth.jwt.JwtServiceImplementation;
+import org.leverx.ratingapp.services.user.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.convention.TestBean;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the routing of the read-only transactions to a read replica, run against two databases:
+ * the embedded PostgreSQL server of {@link EmbeddedServices} as the primary and a second one as the replica.
+ * The two databases do not replicate, so a row inserted in only one of them shows which one served a read.
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.lag-check-interval=1h",
+        "datasource.replica.hikari.connection-timeout=1000"
+})
+@DisplayName("Integration tests for the read replica routing")
+@Tag("integration")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class ReadReplicaRoutingIntegrationTest {
+    // Far above the identities of the primary, so that the replica row cannot be mistaken for a primary row
+    private static final long REPLICA_SELLER_ID = 1_000_000_000L;
+    private static final EmbeddedPostgres REPLICA;
+
+    static {
+        try {
+            REPLICA = EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Embedded replica failed to start", e);
+        }
+        Flyway.configure()
+                .dataSource(REPLICA.getPostgresDatabase())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ReplicaRoutingDataSource replicaRoutingDataSource;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @TestBean(name = "jwtServiceImplementation", methodName = EmbeddedServices.JWT_SERVICE)
+    private JwtServiceImplementation jwtService;
+
+    private final JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(REPLICA.getPostgresDatabase());
+    private Long primarySellerId;
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        EmbeddedServices.registerProperties(registry);
+        registry.add("datasource.replica.url", () -> REPLICA.getJdbcUrl("postgres", "postgres"));
+        registry.add("datasource.replica.username", () -> "postgres");
+        registry.add("datasource.replica.password", () -> "");
+    }
+
+    /**
+     * Seeds a seller with the same email in each database, with different names, and checks the replica lag.
+     */
+    @BeforeEach
+    void setUp() {
+        primarySellerId = userRepository.save(User.builder()
+                .firstName("Primary")
+                .lastName("Seller")
+                .email("replica-seller@test.com")
+                .password("password")
+                .role(Role.SELLER)
+                .isActivated(true)
+                .isEmailConfirmed(true)
+                .build()).getId();
+        replicaJdbcTemplate.update("INSERT INTO users (id, first_name, last_name, email, password, role, created_at, " +
+                        "is_activated, is_email_confirmed) VALUES (?, 'Replica', 'Seller', 'replica-seller@test.com', " +
+                        "'password', 'SELLER', ?, true, true) ON CONFLICT DO NOTHING",
+                REPLICA_SELLER_ID, Timestamp.valueOf(LocalDateTime.now()));
+        replicaRoutingDataSource.checkReplicaLag();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM seller_ratings WHERE seller_id = ?", primarySellerId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", primarySellerId);
+        // The replica seller must not be served from the second-level cache once the replica is gone
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    /**
+     * Test case for read-only service methods.
+     * Arrange: Seed a seller in the replica only
+     * Act: Retrieve the seller by ID through the read-only user service method
+     * Assert: Verify the seller of the replica is returned
+     */
+    @Test
+    @Order(1)
+    @DisplayName("Serve read-only transactions from the replica")
+    void testReadOnlyTransactionServedByReplica() {
+        // Act
+        UserDTO seller = userService.getUserById(REPLICA_SELLER_ID, true);
+
+        // Assert
+        assertTrue(replicaRoutingDataSource.isReplicaAvailable());
+        assertEquals("Replica", seller.firstName());
+    }
+
+    /**
+     * Test case for read-write transactions.
+     * Arrange: Seed a seller in the primary through the repository
+     * Act: Enable the seller through the read-write user service method
+     * Assert: Verify the change is written to the primary only
+     */
+    @Test
+    @Order(2)
+    @DisplayName("Serve read-write transactions from the primary")
+    void testReadWriteTransactionServedByPrimary() {
+        // Arrange
+        jdbcTemplate.update("UPDATE users SET is_activated = false WHERE id = ?", primarySellerId);
+
+        // Act
+        userService.enableUser("replica-seller@test.com");
+
+        // Assert
+        assertEquals(Boolean.TRUE, jdbcTemplate.queryForObject(
+                "SELECT is_activated FROM users WHERE id = ?", Boolean.class, primarySellerId));
+        assertEquals(0, replicaJdbcTemplate.queryForObject(
+                "SELECT count(*) FROM seller_ratings", Integer.class));
+    }
+
+    /**
+     * Test case for an unavailable replica. Runs last, as it stops the replica.
+     * Arrange: Stop the replica and check its lag
+     * Act: Retrieve the seller of the primary through the read-only user service method
+     * Assert: Verify the replica is no longer used and the seller of the primary is returned
+     */
+    @Test
+    @Order(3)
+    @DirtiesContext
+    @DisplayName("Fall back to the primary when the replica is unavailable")
+    void testFallBackToPrimaryWhenReplicaUnavailable() throws IOException {
+        // Arrange
+        REPLICA.close();
+        replicaRoutingDataSource.checkReplicaLag();
+
+        // Act
+        UserDTO seller = userService.getUserById(primarySellerId, true);
+
+        // Assert
+        assertFalse(replicaRoutingDataSource.isReplicaAvailable());
+        assertEquals("Primary", seller.firstName());
+    }
+}
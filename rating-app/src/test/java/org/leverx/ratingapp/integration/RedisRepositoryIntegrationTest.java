@@ -0,0 +1,149 @@
+package org.leverx.ratingapp.integration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.leverx.ratingapp.config.RedisConfig;
+import org.leverx.ratingapp.repositories.redis.BaseRedisRepository;
+import org.leverx.ratingapp.repositories.redis.PendingCommentRedisRepository;
+import org.leverx.ratingapp.repositories.redis.ResetCodeRedisRepository;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the {@link BaseRedisRepository} class, run against an embedded Redis server,
+ * so that the single-command writes and the compare-and-delete script are executed for real.
+ */
+@DisplayName("Integration tests for the Redis key-value repositories")
+@Tag("integration")
+public class RedisRepositoryIntegrationTest {
+    private static final String EMAIL = "user@test.com";
+
+    private static RedisServer redis;
+    private static JedisConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+    private static ResetCodeRedisRepository resetCodeRepository;
+    private static PendingCommentRedisRepository pendingCommentRepository;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redis = new RedisServer(port);
+        redis.start();
+        connectionFactory = new JedisConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        resetCodeRepository = new ResetCodeRedisRepository(redisTemplate);
+        pendingCommentRepository = new PendingCommentRedisRepository(redisTemplate);
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redis != null) {
+            redis.stop();
+        }
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+    }
+
+    /**
+     * Test case for saving a value.
+     * Arrange: Nothing stored
+     * Act: Save a reset code
+     * Assert: Verify the value is stored with the TTL of the repository
+     */
+    @Test
+    @DisplayName("Save a value together with its TTL")
+    void testSave() {
+        // Act
+        resetCodeRepository.save(EMAIL, "123456");
+
+        // Assert
+        assertEquals("123456", resetCodeRepository.get(EMAIL));
+        Long ttl = redisTemplate.getExpire("reset_code:" + EMAIL, TimeUnit.MINUTES);
+        assertNotNull(ttl);
+        assertTrue(ttl > 0 && ttl <= 15);
+    }
+
+    /**
+     * Test case for consuming a value.
+     * Arrange: Save a pending comment
+     * Act: Get and delete it twice
+     * Assert: Verify the value is returned once and the key is gone
+     */
+    @Test
+    @DisplayName("Consume a value only once")
+    void testGetAndDelete() {
+        // Arrange
+        pendingCommentRepository.save(EMAIL, "{\"message\":\"Great seller\"}");
+
+        // Act & Assert
+        assertEquals("{\"message\":\"Great seller\"}", pendingCommentRepository.getAndDelete(EMAIL));
+        assertNull(pendingCommentRepository.getAndDelete(EMAIL));
+        assertFalse(redisTemplate.hasKey("pending_comment:" + EMAIL));
+    }
+
+    /**
+     * Test case for removing a value which matches the expected one.
+     * Arrange: Save a reset code
+     * Act: Remove it with the same code
+     * Assert: Verify the code is removed and cannot be removed again
+     */
+    @Test
+    @DisplayName("Remove a value which matches the expected one")
+    void testRemoveIfMatches() {
+        // Arrange
+        resetCodeRepository.save(EMAIL, "123456");
+
+        // Act & Assert
+        assertTrue(resetCodeRepository.removeIfMatches(EMAIL, "123456"));
+        assertNull(resetCodeRepository.get(EMAIL));
+        assertFalse(resetCodeRepository.removeIfMatches(EMAIL, "123456"));
+    }
+
+    /**
+     * Test case for removing a value which does not match the expected one.
+     * Arrange: Save a reset code
+     * Act: Remove it with another code
+     * Assert: Verify nothing is removed and the stored code keeps its TTL
+     */
+    @Test
+    @DisplayName("Keep a value which does not match the expected one")
+    void testRemoveIfMatchesMismatch() {
+        // Arrange
+        resetCodeRepository.save(EMAIL, "123456");
+
+        // Act
+        boolean removed = resetCodeRepository.removeIfMatches(EMAIL, "654321");
+
+        // Assert
+        assertFalse(removed);
+        assertEquals("123456", resetCodeRepository.get(EMAIL));
+        assertTrue(redisTemplate.getExpire("reset_code:" + EMAIL) > 0);
+    }
+}
@@ -0,0 +1,204 @@
+package org.leverx.ratingapp.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for the Flyway migrations, run against an embedded PostgreSQL server.
+ * The plan of the SQL executed by each repository query is checked with {@code EXPLAIN}:
+ * sequential scans are disabled for the session, so the planner only falls back to one
+ * when no index can serve the query, or to a full scan of an unrelated index filtering every row.
+ * Both make a dropped or missing index fail the test.
+ */
+@DisplayName("Integration tests for the schema migrations")
+@Tag("integration")
+public class SchemaMigrationIntegrationTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    /**
+     * Starts the embedded server, applies the migrations and seeds a few rows in every table.
+     */
+    @BeforeAll
+    static void setUp() throws Exception {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        execute("INSERT INTO users (first_name, last_name, is_activated, is_email_confirmed, password, email, " +
+                "created_at, role) SELECT 'First', 'Last', i % 4 <> 0, true, 'password', 'user' || i || '@test.com', " +
+                "now(), 'SELLER' FROM generate_series(1, 50) AS i");
+        execute("INSERT INTO seller_ratings (seller_id, rating, created_at, average_rating, total_comments, " +
+                "grade_sum, grade_one_count, grade_two_count, grade_three_count, grade_four_count, grade_five_count) " +
+                "SELECT id, 0, now(), id % 5, id % 7, 0, 0, 0, 0, 0, 0 FROM users");
+        execute("INSERT INTO game_objects (title, normalized_title, text, seller_id, created_at, updated_at) " +
+                "SELECT 'Game ' || i, 'game ' || i, 'Description', i % 50 + 1, now(), now() " +
+                "FROM generate_series(1, 200) AS i");
+        execute("INSERT INTO comments (message, author_id, seller_id, created_at, is_approved, grade) " +
+                "SELECT 'Comment', i % 50 + 1, (i * 7) % 50 + 1, now(), i % 3 <> 0, i % 5 + 1 " +
+                "FROM generate_series(1, 500) AS i");
+        execute("INSERT INTO email_outbox (recipient, subject, content, status, attempts, next_attempt_at, " +
+                "created_at) SELECT 'user' || i || '@test.com', 'Subject', 'Content', " +
+                "CASE WHEN i % 2 = 0 THEN 'SENT' ELSE 'PENDING' END, 0, now(), now() FROM generate_series(1, 100) AS i");
+        execute("ANALYZE");
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    /**
+     * The SQL of the repository queries, with the parameters bound to literals,
+     * and the name, or the name prefix when several indexes fit, of the index expected to serve each one.
+     */
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                Arguments.of("Comments of a seller",
+                        "SELECT c.id, c.message, a.email, s.email FROM comments c " +
+                        "LEFT JOIN users a ON a.id = c.author_id JOIN users s ON s.id = c.seller_id " +
+                        "WHERE s.id = 3 AND c.id > 0 ORDER BY c.id LIMIT 11",
+                        "idx_comments_seller_id"),
+                Arguments.of("Approved comments of a seller",
+                        "SELECT c.id FROM comments c WHERE c.seller_id = 3 AND c.is_approved = true " +
+                        "AND c.id > 0 ORDER BY c.id LIMIT 11",
+                        "idx_comments_seller_id"),
+                Arguments.of("Visible comments of a seller",
+                        "SELECT c.id FROM comments c WHERE c.seller_id = 3 " +
+                        "AND (c.is_approved = true OR c.author_id = 5) AND c.id > 0 ORDER BY c.id LIMIT 11",
+                        "idx_comments_seller_id"),
+                Arguments.of("Approved comments of several sellers",
+                        "SELECT c.id FROM comments c WHERE c.seller_id IN (3, 4, 5) AND c.is_approved = true",
+                        "idx_comments_seller_id_is_approved_id"),
+                Arguments.of("Rating aggregate of a seller",
+                        "SELECT COUNT(*), SUM(c.grade), AVG(c.grade) FROM comments c " +
+                        "WHERE c.seller_id = 3 AND c.is_approved = true",
+                        "idx_comments_seller_id_is_approved_id"),
+                Arguments.of("Comments of an author",
+                        "SELECT c.id FROM comments c WHERE c.author_id = 5",
+                        "idx_comments_author_id"),
+                Arguments.of("Game objects of several sellers",
+                        "SELECT g.id FROM game_objects g WHERE g.seller_id IN (3, 4, 5)",
+                        "idx_game_objects_seller_id"),
+                Arguments.of("Game objects by title",
+                        "SELECT g.id FROM game_objects g WHERE g.normalized_title = 'game 7'",
+                        "idx_game_objects_normalized_title_seller"),
+                Arguments.of("Rating of a seller",
+                        "SELECT sr.id FROM seller_ratings sr WHERE sr.seller_id = 3",
+                        "uk_seller_ratings_seller_id"),
+                Arguments.of("Leaderboard page",
+                        "SELECT u.id FROM seller_ratings sr JOIN users u ON u.id = sr.seller_id " +
+                        "WHERE u.is_activated = true AND u.role <> 'ADMIN' " +
+                        "ORDER BY sr.average_rating DESC, sr.total_comments DESC, u.id LIMIT 11",
+                        "idx_seller_ratings_leaderboard"),
+                Arguments.of("Pending users",
+                        "SELECT u.id FROM users u WHERE u.is_email_confirmed = true AND u.is_activated = false",
+                        "idx_users_is_activated_id"),
+                Arguments.of("User by email",
+                        "SELECT u.id FROM users u WHERE u.email = 'user3@test.com'",
+                        "users_email_key"),
+                Arguments.of("Due emails",
+                        "SELECT m.id FROM email_outbox m WHERE m.status = 'PENDING' AND m.next_attempt_at <= now() " +
+                        "ORDER BY m.next_attempt_at LIMIT 10",
+                        "idx_email_outbox_status_next_attempt_at"));
+    }
+
+    /**
+     * Tests the plans of the repository queries.
+     * Expected result: the expected index serves the query, and no table is read without an index condition.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("Repository queries use indexes")
+    void testQueryUsesIndex(String name, String sql, String expectedIndex) throws Exception {
+        JsonNode plan = explain(sql);
+        List<String> indexes = new ArrayList<>();
+        List<String> unindexedScans = new ArrayList<>();
+        collectScans(plan, indexes, unindexedScans);
+
+        assertTrue(unindexedScans.isEmpty(), () -> name + " scans without an index condition: "
+                + unindexedScans + "\n" + plan.toPrettyString());
+        assertTrue(indexes.stream().anyMatch(index -> index.startsWith(expectedIndex)),
+                () -> name + " does not use " + expectedIndex + "\n" + plan.toPrettyString());
+    }
+
+    /**
+     * Tests the uniqueness of the rating of a seller.
+     * Expected result: a second rating for the same seller violates the unique constraint.
+     */
+    @Test
+    @DisplayName("Seller rating is unique per seller")
+    void testSellerRatingIsUnique() {
+        SQLException exception = assertThrows(SQLException.class, () -> execute(
+                "INSERT INTO seller_ratings (seller_id, rating, created_at, average_rating, total_comments, " +
+                "grade_sum, grade_one_count, grade_two_count, grade_three_count, grade_four_count, " +
+                "grade_five_count) VALUES (1, 0, now(), 0, 0, 0, 0, 0, 0, 0, 0)"));
+        assertEquals("23505", exception.getSQLState());
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static JsonNode explain(String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            try (ResultSet resultSet = statement.executeQuery("EXPLAIN (FORMAT JSON) " + sql)) {
+                resultSet.next();
+                return OBJECT_MAPPER.readTree(resultSet.getString(1)).get(0).get("Plan");
+            }
+        }
+    }
+
+    /**
+     * Helper method collecting the indexes used by a plan, its sequential scans, and the index scans
+     * which filter the rows without an index condition, i.e. read the whole index.
+     */
+    private static void collectScans(JsonNode node, List<String> indexes, List<String> unindexedScans) {
+        String nodeType = node.path("Node Type").asText();
+        if (node.has("Index Name")) {
+            indexes.add(node.get("Index Name").asText());
+        }
+        boolean fullIndexScan = (nodeType.equals("Index Scan") || nodeType.equals("Index Only Scan"))
+                && node.has("Filter") && !node.has("Index Cond");
+        if (nodeType.equals("Seq Scan") || fullIndexScan) {
+            unindexedScans.add(nodeType + " on " + node.path("Relation Name").asText());
+        }
+        node.path("Plans").forEach(child -> collectScans(child, indexes, unindexedScans));
+    }
+}
@@ -0,0 +1,173 @@
+package org.leverx.ratingapp.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.leverx.ratingapp.models.entities.GameObject;
+import org.leverx.ratingapp.models.entities.SellerRating;
+import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
+import org.leverx.ratingapp.repositories.GameObjectRepository;
+import org.leverx.ratingapp.repositories.SellerRatingRepository;
+import org.leverx.ratingapp.repositories.UserRepository;
+import org.leverx.ratingapp.services.auth.jwt.JwtServiceImplementation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.convention.TestBean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the Hibernate second-level cache, asserting through the Hibernate statistics
+ * that the cached entities and queries are served from the regions configured in application.conf,
+ * so that a region which is renamed or missing from the configuration does not silently disable caching.
+ * Each entity is loaded twice without a shared persistence context: the first load misses and fills the region,
+ * the second one must hit it.
+ * The application runs against the embedded servers of {@link EmbeddedServices}.
+ */
+// The statistics are shared by the whole application, so the outbox is not polled during the tests
+@SpringBootTest(properties = "email.outbox.poll-interval=1h")
+@DisplayName("Integration tests for the second-level cache")
+@Tag("integration")
+public class SecondLevelCacheIntegrationTest {
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private GameObjectRepository gameObjectRepository;
+    @Autowired private SellerRatingRepository sellerRatingRepository;
+
+    @TestBean(name = "jwtServiceImplementation", methodName = EmbeddedServices.JWT_SERVICE)
+    private JwtServiceImplementation jwtService;
+
+    private Statistics statistics;
+    private Long sellerId;
+    private Long gameObjectId;
+    private Long sellerRatingId;
+
+    @DynamicPropertySource
+    static void embeddedServices(DynamicPropertyRegistry registry) {
+        EmbeddedServices.registerProperties(registry);
+    }
+
+    /**
+     * Seeds a seller with a rating and a game object, then clears the second-level cache.
+     */
+    @BeforeEach
+    void setUp() {
+        User seller = userRepository.save(User.builder()
+                .email("l2-cache-seller@test.com")
+                .password("hash")
+                .firstName("Cache")
+                .lastName("Seller")
+                .role(Role.SELLER)
+                .isEmailConfirmed(true)
+                .isActivated(true)
+                .build());
+        sellerId = seller.getId();
+        sellerRatingId = sellerRatingRepository.save(SellerRating.builder().user(seller).build()).getId();
+        gameObjectId = gameObjectRepository.save(GameObject.builder()
+                .title("Game")
+                .text("Description")
+                .user(seller)
+                .build()).getId();
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM game_objects WHERE seller_id = ?", sellerId);
+        jdbcTemplate.update("DELETE FROM seller_ratings WHERE seller_id = ?", sellerId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", sellerId);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    /**
+     * Test case for the users region.
+     * Arrange: Seed a seller and clear the cache
+     * Act: Load the seller by ID twice
+     * Assert: Verify the first load is put into the users region and the second one hits it
+     */
+    @Test
+    @DisplayName("Serve a user from the users region")
+    void testUserCached() {
+        assertSecondLoadHits("users", () -> userRepository.findById(sellerId).orElseThrow());
+    }
+
+    /**
+     * Test case for the game_objects region.
+     * Arrange: Seed a game object and clear the cache
+     * Act: Load the game object by ID twice
+     * Assert: Verify the first load is put into the game_objects region and the second one hits it
+     */
+    @Test
+    @DisplayName("Serve a game object from the game_objects region")
+    void testGameObjectCached() {
+        assertSecondLoadHits("game_objects", () -> gameObjectRepository.findById(gameObjectId).orElseThrow());
+    }
+
+    /**
+     * Test case for the seller_ratings region.
+     * Arrange: Seed a seller rating and clear the cache
+     * Act: Load the seller rating by ID twice
+     * Assert: Verify the first load is put into the seller_ratings region and the second one hits it
+     */
+    @Test
+    @DisplayName("Serve a seller rating from the seller_ratings region")
+    void testSellerRatingCached() {
+        assertSecondLoadHits("seller_ratings", () -> sellerRatingRepository.findById(sellerRatingId).orElseThrow());
+    }
+
+    /**
+     * Test case for the query cache.
+     * Arrange: Seed a seller and clear the cache
+     * Act: Run the cacheable active user query twice
+     * Assert: Verify the second run is served from the query cache without a statement
+     */
+    @Test
+    @DisplayName("Serve a cacheable query from the query cache")
+    void testQueryCached() {
+        // Act
+        userRepository.findActiveUserById(sellerId).orElseThrow();
+        long hits = statistics.getQueryCacheHitCount();
+        long statements = statistics.getPrepareStatementCount();
+        User user = userRepository.findActiveUserById(sellerId).orElseThrow();
+
+        // Assert
+        assertEquals(sellerId, user.getId());
+        assertEquals(hits + 1, statistics.getQueryCacheHitCount());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Helper method asserting that an entity is cached in its region by the first load and served by the second.
+     * Each load runs in its own persistence context, so only the second-level cache can serve the second one.
+     */
+    private void assertSecondLoadHits(String region, Runnable load) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        assertNotNull(regionStatistics, "Region " + region + " is not configured");
+        long hits = regionStatistics.getHitCount();
+        long puts = regionStatistics.getPutCount();
+
+        // Act
+        load.run();
+        long statements = statistics.getPrepareStatementCount();
+        load.run();
+
+        // Assert
+        assertEquals(puts + 1, regionStatistics.getPutCount());
+        assertEquals(hits + 1, regionStatistics.getHitCount());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,170 @@
+package org.leverx.ratingapp.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.leverx.ratingapp.exceptions.ResourceNotFoundException;
+import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
+import org.leverx.ratingapp.repositories.SellerRatingRepository;
+import org.leverx.ratingapp.repositories.UserRepository;
+import org.leverx.ratingapp.repositories.redis.LeaderboardRedisRepository;
+import org.leverx.ratingapp.services.auth.AuthenticationAndRegistrationService;
+import org.leverx.ratingapp.services.auth.jwt.JwtServiceImplementation;
+import org.leverx.ratingapp.services.leaderboard.LeaderboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.convention.TestBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the confirmation and denial of user registrations by an admin,
+ * run against the embedded servers of {@link EmbeddedServices}, so that the foreign keys
+ * between the users and their seller ratings are enforced and the cached leaderboard is maintained in Redis.
+ */
+@SpringBootTest
+@DisplayName("Integration tests for the confirmation of user registrations")
+@Tag("integration")
+public class UserConfirmationIntegrationTest {
+    @Autowired private AuthenticationAndRegistrationService authenticationAndRegistrationService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private SellerRatingRepository sellerRatingRepository;
+    @Autowired private LeaderboardService leaderboardService;
+    @Autowired private LeaderboardRedisRepository leaderboardRedisRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @TestBean(name = "jwtServiceImplementation", methodName = EmbeddedServices.JWT_SERVICE)
+    private JwtServiceImplementation jwtService;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void embeddedServices(DynamicPropertyRegistry registry) {
+        EmbeddedServices.registerProperties(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long userId : userIds) {
+            jdbcTemplate.update("DELETE FROM seller_ratings WHERE seller_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        }
+        userIds.clear();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    // Helper method for seeding a user who confirmed their email and awaits the admin's decision
+    private User createUser(String email, Role role) {
+        User user = userRepository.save(User.builder()
+                .firstName("First")
+                .lastName("Last")
+                .email(email)
+                .password("password")
+                .role(role)
+                .isEmailConfirmed(true)
+                .isActivated(false)
+                .build());
+        userIds.add(user.getId());
+        return user;
+    }
+
+    /**
+     * Test case for denying a seller who was already enabled.
+     * Arrange: Seed a seller and enable them, which creates their seller rating
+     * Act: Deny the seller
+     * Assert: Verify the seller and their seller rating are deleted
+     */
+    @Test
+    @DisplayName("Delete an enabled seller together with their rating")
+    void testDenyEnabledSeller() {
+        // Arrange
+        User seller = createUser("confirmation-seller@test.com", Role.SELLER);
+        authenticationAndRegistrationService.confirmUser(seller.getEmail(), true);
+        assertTrue(sellerRatingRepository.findByUserId(seller.getId()).isPresent());
+
+        // Act
+        authenticationAndRegistrationService.confirmUser(seller.getEmail(), false);
+
+        // Assert
+        assertFalse(userRepository.existsById(seller.getId()));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM seller_ratings WHERE seller_id = ?", Integer.class, seller.getId()));
+    }
+
+    /**
+     * Test case for enabling a seller.
+     * Arrange: Seed a seller awaiting confirmation
+     * Act: Enable the seller
+     * Assert: Verify the seller is ranked on the cached leaderboard before receiving any comment
+     */
+    @Test
+    @DisplayName("Rank an enabled seller on the leaderboard")
+    void testConfirmSeller() {
+        // Arrange
+        User seller = createUser("confirmation-ranked-seller@test.com", Role.SELLER);
+
+        // Act
+        authenticationAndRegistrationService.confirmUser(seller.getEmail(), true);
+
+        // Assert
+        assertTrue(sellerRatingRepository.findByUserId(seller.getId()).isPresent());
+        assertTrue(leaderboardRedisRepository.findEntry(seller.getId()).isPresent());
+        assertEquals(seller.getId(), leaderboardService.getSellerRank(seller.getId()).id());
+    }
+
+    /**
+     * Test case for denying a seller who is ranked on the cached leaderboard.
+     * Arrange: Seed a seller and enable them, which ranks them on the cached leaderboard
+     * Act: Deny the seller
+     * Assert: Verify the seller is removed from the cached leaderboard and no longer ranked
+     */
+    @Test
+    @DisplayName("Remove a denied seller from the leaderboard")
+    void testDenyRankedSeller() {
+        // Arrange
+        User seller = createUser("confirmation-denied-seller@test.com", Role.SELLER);
+        authenticationAndRegistrationService.confirmUser(seller.getEmail(), true);
+        assertTrue(leaderboardRedisRepository.findEntry(seller.getId()).isPresent());
+
+        // Act
+        authenticationAndRegistrationService.confirmUser(seller.getEmail(), false);
+
+        // Assert
+        assertTrue(leaderboardRedisRepository.findEntry(seller.getId()).isEmpty());
+        assertTrue(leaderboardRedisRepository.findRange(0, -1).stream()
+                .noneMatch(entry -> entry.id().equals(seller.getId())));
+        assertThrows(ResourceNotFoundException.class, () -> leaderboardService.getSellerRank(seller.getId()));
+    }
+
+    /**
+     * Test case for enabling an admin.
+     * Arrange: Seed an admin awaiting confirmation
+     * Act: Enable the admin
+     * Assert: Verify the admin is enabled without a seller rating
+     */
+    @Test
+    @DisplayName("Enable an admin without a seller rating")
+    void testConfirmAdmin() {
+        // Arrange
+        User admin = createUser("confirmation-admin@test.com", Role.ADMIN);
+
+        // Act
+        authenticationAndRegistrationService.confirmUser(admin.getEmail(), true);
+
+        // Assert
+        assertTrue(userRepository.findById(admin.getId()).orElseThrow().getIsActivated());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM seller_ratings WHERE seller_id = ?", Integer.class, admin.getId()));
+    }
+}
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.leverx.ratingapp.dtos.comments.CommentRequestDTO;
 import org.leverx.ratingapp.dtos.comments.CommentResponseDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageRequestDTO;
 import org.leverx.ratingapp.models.entities.Comment;
 import org.leverx.ratingapp.models.entities.User;
 import org.leverx.ratingapp.models.enums.Status;
@@ -15,10 +17,11 @@ import org.leverx.ratingapp.repositories.CommentRepository;
 import org.leverx.ratingapp.repositories.UserRepository;
 import org.leverx.ratingapp.services.auth.authorization.AuthorizationServiceImplementation;
 import org.leverx.ratingapp.services.comment.CommentServiceImplementation;
-import org.leverx.ratingapp.services.rating.RatingCalculationServiceImplementation;
+import org.leverx.ratingapp.services.rating.RatingUpdateService;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.Arrays;
 import java.util.List;
@@ -40,7 +43,7 @@ class CommentServiceUnitTests {
     @Mock private CommentRepository commentRepository;
     @Mock private UserRepository userRepository;
     @Mock private AuthorizationServiceImplementation authorizationService;
-    @Mock private RatingCalculationServiceImplementation ratingCalculationServiceImplementation;
+    @Mock private RatingUpdateService ratingUpdateService;
 
 
     @InjectMocks
@@ -98,6 +101,33 @@ class CommentServiceUnitTests {
         verify(commentRepository).save(any(Comment.class));
     }
 
+    /**
+     * Test for comment creation by an unauthenticated caller.
+     * Arrange: Create comment request with message and grade
+     *         Mock user repository to return seller
+     *         Mock authorization service to return no user
+     * Act: Call create with seller ID and comment request
+     * Assert: Verify response shows the anonymous author, like the comment lists
+     *         Verify the comment was saved without an author
+     */
+    @Test
+    @DisplayName("Create anonymous comment successfully")
+    void testCreateAnonymousComment() {
+        // Arrange
+        CommentRequestDTO request = new CommentRequestDTO("Great seller!", 5);
+        when(userRepository.findActiveUserById(seller.getId()))
+                .thenReturn(Optional.of(seller));
+        when(authorizationService.getCurrentUser())
+                .thenReturn(null);
+
+        // Act
+        CommentResponseDTO response = commentService.create(seller.getId(), request);
+
+        // Assert
+        assertEquals(CommentResponseDTO.ANONYMOUS_AUTHOR, response.author());
+        verify(commentRepository).save(argThat(c -> ((Comment) c).getAuthor() == null));
+    }
+
     /**
      * Test for comment creation with invalid seller.
      * Arrange: Create comment request
@@ -128,7 +158,7 @@ class CommentServiceUnitTests {
      * Act: Call approveComment with seller ID, comment ID, and approval status
      * Assert: Verify response is not null
      *         Verify comment was saved with isApproved set to true
-     *         Verify seller rating was updated
+     *         Verify the comment grade was applied to the seller rating
      */
     @Test
     @DisplayName("Approve comment successfully")
@@ -155,7 +185,40 @@ class CommentServiceUnitTests {
         // Assert
         assertNotNull(response);
         verify(commentRepository).save(argThat(c -> ((Comment) c).getIsApproved()));
-        verify(ratingCalculationServiceImplementation).updateSellerRating(seller.getId());
+        verify(ratingUpdateService).gradeApproved(seller.getId(), 5);
+    }
+
+    /**
+     * Test approves a comment posted without an author.
+     * Arrange: Create an anonymous pending comment
+     *         Mock user repository to return true for seller existence
+     *         Mock comment repository to return comment by ID and seller ID
+     * Act: Call approveComment with seller ID, comment ID, and approval status
+     * Assert: Verify response shows the anonymous author
+     *         Verify the comment grade was applied to the seller rating
+     */
+    @Test
+    @DisplayName("Approve anonymous comment successfully")
+    void testApproveAnonymousComment() {
+        // Arrange
+        Comment comment = Comment.builder()
+                .id(1L)
+                .message("Great seller!")
+                .grade(4)
+                .seller(seller)
+                .isApproved(false)
+                .build();
+
+        when(userRepository.existsById(seller.getId())).thenReturn(true);
+        when(commentRepository.findByIdAndSellerId(1L, seller.getId()))
+                .thenReturn(Optional.of(comment));
+
+        // Act
+        CommentResponseDTO response = commentService.approveComment(seller.getId(), 1L, true);
+
+        // Assert
+        assertEquals(CommentResponseDTO.ANONYMOUS_AUTHOR, response.author());
+        verify(ratingUpdateService).gradeApproved(seller.getId(), 4);
     }
 
     /**
@@ -178,44 +241,73 @@ class CommentServiceUnitTests {
 
     /**
      * Test retrieves all comments for a seller as an admin user.
-     * Arrange: Create two comments with different approval statuses
+     * Arrange: Create two comment projections with different approval statuses
      *         Mock user repository to return true for seller existence
-     *         Mock comment repository to return list of comments by seller ID
-     * Act: Call getAllBySellerId with seller ID and admin flag set to true
-     * Assert: Verify response size matches expected number of comments
+     *         Mock comment repository to return a slice of comment projections by seller ID
+     * Act: Call getAllBySellerId with seller ID, admin flag set to true and the first page
+     * Assert: Verify response size matches expected number of comments and the next cursor
      *         Verify user repository and comment repository methods were called
      */
     @Test
     @DisplayName("Get comments by seller ID for admin")
     void testGetCommentsBySellerIdAdmin() {
         // Arrange
-        Comment comment1 = Comment.builder()
-                .isApproved(true)
-                .author(author)
-                .seller(seller)
-                .message("Test comment 1")
-                .grade(5)
-                .build();
-        
-        Comment comment2 = Comment.builder()
-                .isApproved(false)
-                .author(author)
-                .seller(seller)
-                .message("Test comment 2")
-                .grade(4)
-                .build();
+        CommentResponseDTO comment1 = new CommentResponseDTO(1L, "Test comment 1",
+                author.getEmail(), seller.getEmail(), true, 5);
+        CommentResponseDTO comment2 = new CommentResponseDTO(2L, "Test comment 2",
+                author.getEmail(), seller.getEmail(), false, 4);
 
         when(userRepository.existsById(seller.getId())).thenReturn(true);
-        when(commentRepository.findAllBySellerId(seller.getId()))
-                .thenReturn(Arrays.asList(comment1, comment2));
+        CursorPageRequestDTO pageRequest = CursorPageRequestDTO.of(2L, null);
+        when(commentRepository.findAllBySellerIdAfter(seller.getId(), 0L, pageRequest.pageable()))
+                .thenReturn(new SliceImpl<>(Arrays.asList(comment1, comment2), pageRequest.pageable(), true));
 
         // Act
-        List<CommentResponseDTO> response = commentService.getAllBySellerId(seller.getId(), true);
+        CursorPageDTO<CommentResponseDTO> response =
+                commentService.getAllBySellerId(seller.getId(), true, pageRequest);
 
         // Assert
-        assertEquals(2, response.size());
+        assertEquals(2, response.items().size());
+        assertTrue(response.hasNext());
+        assertEquals("2", response.nextCursor());
         verify(userRepository).existsById(seller.getId());
-        verify(commentRepository).findAllBySellerId(seller.getId());
+        verify(commentRepository).findAllBySellerIdAfter(seller.getId(), 0L, pageRequest.pageable());
+    }
+
+    /**
+     * Test retrieves the visible comments of a seller as an authenticated user.
+     * Arrange: Mock the current user and the seller existence
+     *         Mock comment repository to return an approved comment and a pending one of the current user
+     * Act: Call getAllBySellerId with seller ID, admin flag set to false and the first page
+     * Assert: Verify both comments are returned from a single visibility query by the ID of the current user
+     */
+    @Test
+    @DisplayName("Get visible comments by seller ID for authenticated user")
+    void testGetCommentsBySellerIdAuthenticated() {
+        // Arrange
+        CommentResponseDTO approved = new CommentResponseDTO(1L, "Approved comment",
+                "other@test.com", seller.getEmail(), true, 5);
+        CommentResponseDTO ownPending = new CommentResponseDTO(2L, "Own pending comment",
+                author.getEmail(), seller.getEmail(), false, 3);
+
+        when(authorizationService.getCurrentUser()).thenReturn(author);
+        when(userRepository.existsActiveUserById(seller.getId())).thenReturn(true);
+        CursorPageRequestDTO pageRequest = CursorPageRequestDTO.of(10L, null);
+        when(commentRepository.findVisibleBySellerIdAfter(seller.getId(), author.getId(), 0L, pageRequest.pageable()))
+                .thenReturn(new SliceImpl<>(List.of(approved, ownPending), pageRequest.pageable(), false));
+
+        // Act
+        CursorPageDTO<CommentResponseDTO> response =
+                commentService.getAllBySellerId(seller.getId(), false, pageRequest);
+
+        // Assert
+        assertEquals(List.of(approved, ownPending), response.items());
+        assertEquals(Status.PENDING.getValueOfStatus(), response.items().get(1).status());
+        assertFalse(response.hasNext());
+        assertNull(response.nextCursor());
+        verify(commentRepository).findVisibleBySellerIdAfter(seller.getId(), author.getId(), 0L,
+                pageRequest.pageable());
+        verifyNoMoreInteractions(commentRepository);
     }
 
     /**
@@ -263,7 +355,7 @@ class CommentServiceUnitTests {
         CommentRequestDTO updateRequest = new CommentRequestDTO("Updated message", 4);
 
         when(userRepository.findById(seller.getId())).thenReturn(Optional.of(seller));
-        when(commentRepository.findById(1L)).thenReturn(Optional.of(existingComment));
+        when(commentRepository.existsById(1L)).thenReturn(true);
         when(commentRepository.findByIdAndSellerId(1L, seller.getId()))
                 .thenReturn(Optional.of(existingComment));
         when(authorizationService.getCurrentUser()).thenReturn(author);
@@ -287,7 +379,7 @@ class CommentServiceUnitTests {
      * Act: Call approveComment with seller ID, comment ID, and approval status set to false
      * Assert: Verify comment was not saved
      *         Verify comment was deleted
-     *         Verify seller rating was updated
+     *         Verify seller rating was not changed, as the comment was never counted
      */
     @Test
     @DisplayName("Reject comment approval")
@@ -311,7 +403,7 @@ class CommentServiceUnitTests {
         // Assert
         verify(commentRepository, never()).save(any(Comment.class));
         verify(commentRepository).delete(comment);
-        verify(ratingCalculationServiceImplementation).updateSellerRating(seller.getId());
+        verifyNoInteractions(ratingUpdateService);
     }
 
     /**
@@ -380,6 +472,92 @@ class CommentServiceUnitTests {
         assertEquals(Status.APPROVED.getValueOfStatus(), response.status());
     }
 
+    /**
+     * Test retrieves an approved anonymous comment by ID for an unauthenticated caller
+     * Arrange: Create an approved comment without author
+     *         Mock comment repository to return comment by ID and seller ID
+     *         Mock authorization service to return no user
+     * Act: Call getComment with seller ID, comment ID, and admin flag set to false
+     * Assert: Verify response shows the anonymous author
+     */
+    @Test
+    @DisplayName("Get approved anonymous comment by ID for unauthenticated caller")
+    void testGetApprovedAnonymousCommentUnauthenticated() {
+        // Arrange
+        Comment comment = Comment.builder()
+                .id(1L)
+                .message("Test comment")
+                .seller(seller)
+                .isApproved(true)
+                .build();
+
+        when(commentRepository.findByIdAndSellerId(1L, seller.getId()))
+                .thenReturn(Optional.of(comment));
+        when(authorizationService.getCurrentUser()).thenReturn(null);
+
+        // Act
+        CommentResponseDTO response = commentService.getComment(seller.getId(), 1L, false);
+
+        // Assert
+        assertEquals(CommentResponseDTO.ANONYMOUS_AUTHOR, response.author());
+        assertEquals(Status.APPROVED.getValueOfStatus(), response.status());
+    }
+
+    /**
+     * Test retrieves a pending anonymous comment by ID for a regular user
+     * Arrange: Create a pending comment without author
+     *         Mock comment repository to return comment by ID and seller ID
+     *         Mock authorization service to return author
+     * Act & Assert: Verify ResourceNotFoundException is thrown
+     */
+    @Test
+    @DisplayName("Get pending anonymous comment by ID for regular user throws exception")
+    void testGetPendingAnonymousCommentUser() {
+        // Arrange
+        Comment comment = Comment.builder()
+                .id(1L)
+                .message("Test comment")
+                .seller(seller)
+                .isApproved(false)
+                .build();
+
+        when(commentRepository.findByIdAndSellerId(1L, seller.getId()))
+                .thenReturn(Optional.of(comment));
+        when(authorizationService.getCurrentUser()).thenReturn(author);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class,
+                () -> commentService.getComment(seller.getId(), 1L, false));
+    }
+
+    /**
+     * Test retrieves a pending comment by ID for an unauthenticated caller
+     * Arrange: Create a pending comment written by author
+     *         Mock comment repository to return comment by ID and seller ID
+     *         Mock authorization service to return no user
+     * Act & Assert: Verify ResourceNotFoundException is thrown
+     */
+    @Test
+    @DisplayName("Get pending comment by ID for unauthenticated caller throws exception")
+    void testGetPendingCommentUnauthenticated() {
+        // Arrange
+        Comment comment = Comment.builder()
+                .id(1L)
+                .message("Test comment")
+                .seller(seller)
+                .author(author)
+                .isApproved(false)
+                .build();
+
+        when(commentRepository.findByIdAndSellerId(1L, seller.getId()))
+                .thenReturn(Optional.of(comment));
+        when(authorizationService.getCurrentUser()).thenReturn(null);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class,
+                () -> commentService.getComment(seller.getId(), 1L, false));
+    }
+
     /**
      * Test which updates comment (executed by unauthorized user) throws exception
      * Arrange: Create existing comment
@@ -404,8 +582,7 @@ class CommentServiceUnitTests {
         when(userRepository.findById(seller.getId())).thenReturn(Optional.of(seller));
         when(commentRepository.findByIdAndSellerId(1L, seller.getId()))
                 .thenReturn(Optional.of(existingComment));
-        when(commentRepository.findById(existingComment.getId()))
-                .thenReturn(Optional.of(existingComment));
+        when(commentRepository.existsById(existingComment.getId())).thenReturn(true);
         when(authorizationService.getCurrentUser()).thenReturn(null);
         doThrow(new ForbiddenException("Unauthorized"))
                 .when(authorizationService)
@@ -0,0 +1,188 @@
+package org.leverx.ratingapp.unit;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.leverx.ratingapp.models.entities.EmailOutboxMessage;
+import org.leverx.ratingapp.models.enums.EmailDeliveryStatus;
+import org.leverx.ratingapp.repositories.EmailOutboxRepository;
+import org.leverx.ratingapp.services.email.outbox.EmailOutboxServiceImplementation;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link EmailOutboxServiceImplementation class}.
+ * This class tests the delivery, retry and dead-lettering of queued emails against an in-process SMTP server.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Email Outbox Service Unit Tests")
+class EmailOutboxServiceUnitTests {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock private EmailOutboxRepository emailOutboxRepository;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private final JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+
+    @BeforeEach
+    void setUp() {
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        // Run the transactional callbacks in place
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(emailOutboxRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    // Helper method for creating the service with sessions of two emails
+    private EmailOutboxServiceImplementation createService() {
+        return new EmailOutboxServiceImplementation(emailOutboxRepository, mailSender, transactionTemplate,
+                new SyncTaskExecutor(), "noreply@test.com", 10, 2, MAX_ATTEMPTS,
+                Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofMinutes(2), Duration.ofDays(7));
+    }
+
+    // Helper method for creating a due email
+    private EmailOutboxMessage createEmail(long id, int attempts) {
+        return EmailOutboxMessage.builder()
+                .id(id)
+                .recipient("user" + id + "@test.com")
+                .subject("Confirm your email")
+                .content("<p>Hello " + id + "</p>")
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+    /**
+     * Test case for delivering due emails.
+     * Arrange: Mock three due emails
+     * Act: Deliver the due emails
+     * Assert: Verify every email reached the SMTP server and is marked as sent
+     */
+    @Test
+    @DisplayName("Deliver due emails in batched SMTP sessions")
+    void testDeliverDueEmails() throws Exception {
+        // Arrange
+        List<EmailOutboxMessage> emails = IntStream.rangeClosed(1, 3).mapToObj(id -> createEmail(id, 0)).toList();
+        when(emailOutboxRepository.findDueForDelivery(eq(EmailDeliveryStatus.PENDING), any(), any()))
+                .thenReturn(emails);
+
+        // Act
+        int claimed = createService().deliverDueEmails();
+
+        // Assert
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(3, claimed);
+        assertEquals(3, received.length);
+        assertEquals("Confirm your email", received[0].getSubject());
+        emails.forEach(email -> {
+            assertEquals(EmailDeliveryStatus.SENT, email.getStatus());
+            assertEquals(1, email.getAttempts());
+            assertNotNull(email.getSentAt());
+        });
+        verify(emailOutboxRepository, times(2)).saveAll(emails);
+    }
+
+    /**
+     * Test case for an unreachable SMTP server.
+     * Arrange: Point the sender to a closed port and mock a fresh and an exhausted email
+     * Act: Deliver the due emails
+     * Assert: Verify the fresh email is rescheduled with backoff and the exhausted one is dead-lettered
+     */
+    @Test
+    @DisplayName("Retry with backoff and dead-letter failed emails")
+    void testDeliverDueEmailsFailure() {
+        // Arrange
+        mailSender.setPort(ServerSetupTest.SMTP.getPort() + 1);
+        EmailOutboxMessage fresh = createEmail(1L, 0);
+        EmailOutboxMessage exhausted = createEmail(2L, MAX_ATTEMPTS - 1);
+        when(emailOutboxRepository.findDueForDelivery(eq(EmailDeliveryStatus.PENDING), any(), any()))
+                .thenReturn(List.of(fresh, exhausted));
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        createService().deliverDueEmails();
+
+        // Assert
+        assertEquals(EmailDeliveryStatus.PENDING, fresh.getStatus());
+        assertEquals(1, fresh.getAttempts());
+        assertTrue(fresh.getNextAttemptAt().isAfter(before.plusSeconds(29)));
+        assertTrue(fresh.getNextAttemptAt().isBefore(before.plusSeconds(60)));
+        assertNotNull(fresh.getLastError());
+        assertEquals(EmailDeliveryStatus.DEAD, exhausted.getStatus());
+        assertEquals(MAX_ATTEMPTS, exhausted.getAttempts());
+        assertEquals(0, greenMail.getReceivedMessages().length);
+    }
+
+    /**
+     * Test case for queueing an email.
+     * Act: Queue an email
+     * Assert: Verify a pending email is saved without contacting the SMTP server
+     */
+    @Test
+    @DisplayName("Queue email without contacting the SMTP server")
+    void testEnqueue() {
+        // Act
+        createService().enqueue("user@test.com", "Password Reset Request", "<p>123456</p>");
+
+        // Assert
+        ArgumentCaptor<EmailOutboxMessage> saved = ArgumentCaptor.forClass(EmailOutboxMessage.class);
+        verify(emailOutboxRepository).save(saved.capture());
+        assertEquals("user@test.com", saved.getValue().getRecipient());
+        assertEquals(EmailDeliveryStatus.PENDING, saved.getValue().getStatus());
+        assertEquals(0, greenMail.getReceivedMessages().length);
+    }
+
+    /**
+     * Test case for purging sent emails.
+     * Arrange: Mock two sent emails older than the retention period
+     * Act: Purge the sent emails
+     * Assert: Verify only sent emails older than the retention period are deleted
+     */
+    @Test
+    @DisplayName("Purge emails sent before the retention period")
+    void testPurgeSentEmails() {
+        // Arrange
+        when(emailOutboxRepository.deleteSentBefore(eq(EmailDeliveryStatus.SENT), any())).thenReturn(2);
+        LocalDateTime start = LocalDateTime.now();
+
+        // Act
+        int deleted = createService().purgeSentEmails();
+
+        // Assert
+        ArgumentCaptor<LocalDateTime> sentBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(emailOutboxRepository).deleteSentBefore(eq(EmailDeliveryStatus.SENT), sentBefore.capture());
+        assertEquals(2, deleted);
+        assertFalse(sentBefore.getValue().isBefore(start.minusDays(7)));
+        assertFalse(sentBefore.getValue().isAfter(LocalDateTime.now().minusDays(7)));
+    }
+}
@@ -0,0 +1,102 @@
+package org.leverx.ratingapp.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.leverx.ratingapp.dtos.export.CommentExportDTO;
+import org.leverx.ratingapp.dtos.export.UserExportDTO;
+import org.leverx.ratingapp.repositories.CommentRepository;
+import org.leverx.ratingapp.repositories.UserRepository;
+import org.leverx.ratingapp.services.export.ExportServiceImplementation;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the {@link ExportServiceImplementation class}.
+ * This class tests the NDJSON framing of the exported rows.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Export Service Unit Tests")
+class ExportServiceUnitTests {
+
+    @Mock private CommentRepository commentRepository;
+    @Mock private UserRepository userRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ExportServiceImplementation exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportServiceImplementation(commentRepository, userRepository, objectMapper);
+    }
+
+    /**
+     * Test case for exporting comments.
+     * Arrange: Mock a stream of two comments, one of them anonymous
+     * Act: Export the comments
+     * Assert: Verify one JSON object per line, the count and that the stream is closed
+     */
+    @Test
+    @DisplayName("Export comments as one JSON object per line")
+    void testExportComments() throws IOException {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        when(commentRepository.streamAllForExport()).thenReturn(Stream.of(
+                        new CommentExportDTO(1L, "Great", "author@test.com", "seller@test.com", 5, true, createdAt),
+                        new CommentExportDTO(2L, "Line\nbreak", null, "seller@test.com", 2, false, createdAt))
+                .onClose(() -> closed.set(true)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        long count = exportService.exportComments(outputStream);
+
+        // Assert
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(2, count);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+        assertEquals(1L, objectMapper.readTree(lines[0]).get("id").asLong());
+        assertEquals("2025-03-01T12:00:00", objectMapper.readTree(lines[0]).get("createdAt").asText());
+        assertEquals("Line\nbreak", objectMapper.readTree(lines[1]).get("message").asText());
+        assertTrue(objectMapper.readTree(lines[1]).get("author").isNull());
+        assertTrue(closed.get());
+    }
+
+    /**
+     * Test case for exporting users without any rows.
+     * Arrange: Mock an empty stream of users
+     * Act: Export the users
+     * Assert: Verify nothing is written
+     */
+    @Test
+    @DisplayName("Export no users as an empty body")
+    void testExportUsersEmpty() throws IOException {
+        // Arrange
+        when(userRepository.streamAllForExport()).thenReturn(Stream.<UserExportDTO>empty());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        long count = exportService.exportUsers(outputStream);
+
+        // Assert
+        assertEquals(0, count);
+        assertEquals(0, outputStream.size());
+    }
+}
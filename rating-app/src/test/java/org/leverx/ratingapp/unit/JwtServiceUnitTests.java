@@ -0,0 +1,86 @@
+package org.leverx.ratingapp.unit;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.io.Encoders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
+import org.leverx.ratingapp.services.auth.jwt.JwtServiceImplementation;
+import org.leverx.ratingapp.services.auth.jwt.VerifiedToken;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link JwtServiceImplementation class}.
+ * This class tests the generation and the single-parse validation of JWT tokens.
+ */
+@DisplayName("JWT Service Unit Tests")
+class JwtServiceUnitTests {
+
+    private static final String SECRET_KEY =
+            Encoders.BASE64.encode("a-test-secret-key-of-at-least-32-bytes".getBytes(StandardCharsets.UTF_8));
+
+    private final JwtServiceImplementation jwtService = new JwtServiceImplementation(SECRET_KEY);
+
+    // Helper method for creating a seller
+    private User createUser(String email) {
+        return User.builder()
+                .email(email)
+                .role(Role.SELLER)
+                .build();
+    }
+
+    /**
+     * Test case for validating a generated token.
+     * Arrange: Generate a token for a seller
+     * Act: Parse the token once
+     * Assert: Verify the username and that the token is valid only for its owner
+     */
+    @Test
+    @DisplayName("Parse and validate a generated token")
+    void testParseToken() {
+        // Arrange
+        User user = createUser("seller@test.com");
+        String token = jwtService.generateToken(user);
+
+        // Act
+        VerifiedToken verifiedToken = jwtService.parseToken(token);
+
+        // Assert
+        assertEquals("seller@test.com", verifiedToken.username());
+        assertFalse(verifiedToken.isExpired());
+        assertTrue(verifiedToken.isValidFor(user));
+        assertFalse(verifiedToken.isValidFor(createUser("other@test.com")));
+        assertTrue(jwtService.isTokenValid(token, user));
+    }
+
+    /**
+     * Test case for a token signed with another key.
+     * Arrange: Generate a token with a service using another key
+     * Act & Assert: Verify parsing fails with JwtException
+     */
+    @Test
+    @DisplayName("Reject token signed with another key")
+    void testParseTokenWithOtherKey() {
+        // Arrange
+        String otherKey = Encoders.BASE64.encode(
+                "another-test-secret-key-of-32-bytes!".getBytes(StandardCharsets.UTF_8));
+        String token = new JwtServiceImplementation(otherKey).generateToken(createUser("seller@test.com"));
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtService.parseToken(token));
+    }
+
+    /**
+     * Test case for a missing secret key.
+     * Act & Assert: Verify the service fails on creation with IllegalStateException
+     */
+    @Test
+    @DisplayName("Fail fast without a secret key")
+    void testMissingSecretKey() {
+        assertThrows(IllegalStateException.class, () -> new JwtServiceImplementation(" "));
+    }
+}
@@ -0,0 +1,337 @@
+package org.leverx.ratingapp.unit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.leverx.ratingapp.dtos.pagination.CursorPageDTO;
+import org.leverx.ratingapp.dtos.pagination.CursorPageRequestDTO;
+import org.leverx.ratingapp.dtos.rating.LeaderboardEntryDTO;
+import org.leverx.ratingapp.dtos.user.UserRankingDTO;
+import org.leverx.ratingapp.exceptions.ConflictException;
+import org.leverx.ratingapp.models.entities.SellerRating;
+import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
+import org.leverx.ratingapp.repositories.SellerRatingRepository;
+import org.leverx.ratingapp.repositories.redis.GameLeaderboardRedisRepository;
+import org.leverx.ratingapp.repositories.redis.LeaderboardRedisRepository;
+import org.leverx.ratingapp.services.leaderboard.LeaderboardServiceImplementation;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link LeaderboardServiceImplementation class}.
+ * This class tests the ranking and pagination of the seller leaderboard.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Leaderboard Service Unit Tests")
+class LeaderboardServiceUnitTests {
+
+    @Mock private SellerRatingRepository sellerRatingRepository;
+    @Mock private LeaderboardRedisRepository leaderboardRedisRepository;
+    @Mock private GameLeaderboardRedisRepository gameLeaderboardRedisRepository;
+
+    @InjectMocks
+    private LeaderboardServiceImplementation leaderboardService;
+
+    // Helper method for creating leaderboard rows
+    private LeaderboardEntryDTO createEntry(long id, double averageRating, int totalComments) {
+        return new LeaderboardEntryDTO(id, "First", "Last", "seller" + id + "@test.com",
+                null, averageRating, totalComments);
+    }
+
+    /**
+     * Test case for ranking a page containing ties.
+     * Arrange: Mock a page starting after one better seller and one tied seller
+     * Act: Get the leaderboard page
+     * Assert: Verify competition and dense ranks and the next cursor
+     */
+    @Test
+    @DisplayName("Rank leaderboard page with ties")
+    void testGetLeaderboardRanksTies() {
+        // Arrange
+        List<LeaderboardEntryDTO> entries = List.of(
+                createEntry(3L, 4.5, 2),
+                createEntry(4L, 4.0, 7),
+                createEntry(5L, 4.0, 7),
+                createEntry(6L, 3.0, 1));
+        when(sellerRatingRepository.findLeaderboard(isNull(), any()))
+                .thenReturn(new SliceImpl<>(entries, PageRequest.of(1, 4), true));
+        when(sellerRatingRepository.countOrderedBefore(null, 4.5, 2, 3L)).thenReturn(2L);
+        when(sellerRatingRepository.countRankedAbove(null, 4.5, 2)).thenReturn(1L);
+        when(sellerRatingRepository.countDistinctScoresAbove(null, 4.5, 2)).thenReturn(1L);
+
+        // Act
+        CursorPageDTO<UserRankingDTO> page = leaderboardService.getLeaderboard(" ", 1, CursorPageRequestDTO.of(4L, null));
+
+        // Assert
+        assertEquals(List.of(2L, 4L, 4L, 6L), page.items().stream().map(UserRankingDTO::place).toList());
+        assertEquals(List.of(2L, 3L, 3L, 4L), page.items().stream().map(UserRankingDTO::densePlace).toList());
+        assertTrue(page.hasNext());
+        assertNotNull(page.nextCursor());
+    }
+
+    /**
+     * Test case for continuing the leaderboard from a cursor.
+     * Arrange: Get a first page and mock the page after its last row
+     * Act: Get the leaderboard page by the returned cursor
+     * Assert: Verify the keyset query receives the sort key of the last row
+     */
+    @Test
+    @DisplayName("Continue leaderboard from cursor")
+    void testGetLeaderboardByCursor() {
+        // Arrange
+        when(sellerRatingRepository.findLeaderboard(eq("dota"), any()))
+                .thenReturn(new SliceImpl<>(List.of(createEntry(1L, 4.25, 3)), PageRequest.of(0, 1), true));
+        String cursor = leaderboardService.getLeaderboard("dota", null, CursorPageRequestDTO.of(1L, null)).nextCursor();
+        when(sellerRatingRepository.findLeaderboardAfter(eq("dota"), eq(4.25), eq(3), eq(1L), any()))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 1), false));
+
+        // Act
+        CursorPageDTO<UserRankingDTO> page = leaderboardService.getLeaderboard("dota", null, CursorPageRequestDTO.of(1L, cursor));
+
+        // Assert
+        assertTrue(page.items().isEmpty());
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+    }
+
+    /**
+     * Test case for a malformed cursor.
+     * Arrange: Prepare a cursor which is not produced by the service
+     * Act & Assert: Verify that IllegalArgumentException is thrown
+     */
+    @Test
+    @DisplayName("Reject malformed cursor")
+    void testGetLeaderboardMalformedCursor() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> leaderboardService.getLeaderboard(null, null, CursorPageRequestDTO.of(null, "not-a-cursor")));
+        verifyNoInteractions(sellerRatingRepository);
+    }
+
+    /**
+     * Test case for serving the leaderboard from Redis.
+     * Arrange: Mock a ready Redis leaderboard holding a second page of two sellers and more
+     * Act: Get the second leaderboard page
+     * Assert: Verify ranks are computed from Redis and the database is not queried
+     */
+    @Test
+    @DisplayName("Serve leaderboard page from Redis")
+    void testGetLeaderboardFromRedis() {
+        // Arrange
+        LeaderboardEntryDTO first = createEntry(7L, 4.0, 3);
+        when(leaderboardRedisRepository.isReady()).thenReturn(true);
+        when(leaderboardRedisRepository.findRange(2, 4))
+                .thenReturn(List.of(first, createEntry(8L, 3.5, 3), createEntry(9L, 3.0, 1)));
+        when(leaderboardRedisRepository.countRankedAbove(first)).thenReturn(2L);
+        when(leaderboardRedisRepository.countDistinctScoresAbove(first)).thenReturn(1L);
+
+        // Act
+        CursorPageDTO<UserRankingDTO> page = leaderboardService.getLeaderboard(null, 1, CursorPageRequestDTO.of(2L, null));
+
+        // Assert
+        assertEquals(List.of(3L, 4L), page.items().stream().map(UserRankingDTO::place).toList());
+        assertEquals(List.of(2L, 3L), page.items().stream().map(UserRankingDTO::densePlace).toList());
+        assertTrue(page.hasNext());
+        verifyNoInteractions(sellerRatingRepository);
+    }
+
+    /**
+     * Test case for continuing the Redis leaderboard from a cursor.
+     * Arrange: Get a first page from Redis and mock the position after the sort key of its last row
+     * Act: Get the leaderboard page by the returned cursor
+     * Assert: Verify the page is read from the position after the sort key, not after the seller
+     */
+    @Test
+    @DisplayName("Continue Redis leaderboard from cursor by sort key")
+    void testGetLeaderboardFromRedisByCursor() {
+        // Arrange
+        LeaderboardEntryDTO first = createEntry(1L, 4.25, 3);
+        LeaderboardEntryDTO second = createEntry(2L, 4.0, 1);
+        when(leaderboardRedisRepository.isReady()).thenReturn(true);
+        when(leaderboardRedisRepository.findRange(0, 1)).thenReturn(List.of(first, second));
+        String cursor = leaderboardService.getLeaderboard(null, null, CursorPageRequestDTO.of(1L, null)).nextCursor();
+        when(leaderboardRedisRepository.findPositionAfter(4.25, 3, 1L)).thenReturn(1L);
+        when(leaderboardRedisRepository.findRange(1, 2)).thenReturn(List.of(second));
+        when(leaderboardRedisRepository.countRankedAbove(second)).thenReturn(1L);
+        when(leaderboardRedisRepository.countDistinctScoresAbove(second)).thenReturn(1L);
+
+        // Act
+        CursorPageDTO<UserRankingDTO> page = leaderboardService.getLeaderboard(null, null, CursorPageRequestDTO.of(1L, cursor));
+
+        // Assert
+        assertEquals(List.of(2L), page.items().stream().map(UserRankingDTO::id).toList());
+        assertEquals(List.of(2L), page.items().stream().map(UserRankingDTO::place).toList());
+        assertFalse(page.hasNext());
+        verifyNoInteractions(sellerRatingRepository);
+    }
+
+    /**
+     * Test case for falling back to the database when Redis is unavailable.
+     * Arrange: Mock Redis to fail and the database to return an empty page
+     * Act: Get the first leaderboard page
+     * Assert: Verify the database was queried
+     */
+    @Test
+    @DisplayName("Fall back to database when Redis is unavailable")
+    void testGetLeaderboardRedisUnavailable() {
+        // Arrange
+        when(leaderboardRedisRepository.isReady())
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+        when(sellerRatingRepository.findLeaderboard(isNull(), any()))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+
+        // Act
+        CursorPageDTO<UserRankingDTO> page = leaderboardService.getLeaderboard(null, null, CursorPageRequestDTO.of(null, null));
+
+        // Assert
+        assertTrue(page.items().isEmpty());
+        verify(sellerRatingRepository).findLeaderboard(null, PageRequest.of(0, 20));
+    }
+
+    /**
+     * Test case for moving sellers on the Redis leaderboard.
+     * Arrange: Create ratings of an active seller and of an admin
+     * Act: Update both seller scores outside a transaction
+     * Assert: Verify only the active seller is saved to Redis
+     */
+    @Test
+    @DisplayName("Update seller score in Redis")
+    void testUpdateSellerScore() {
+        // Arrange
+        User seller = User.builder().id(1L).role(Role.SELLER).isActivated(true).build();
+        User admin = User.builder().id(2L).role(Role.ADMIN).isActivated(true).build();
+        SellerRating sellerRating = SellerRating.builder().user(seller).averageRating(4.5).totalComments(2).build();
+        SellerRating adminRating = SellerRating.builder().user(admin).build();
+
+        // Act
+        leaderboardService.updateSellerScore(sellerRating);
+        leaderboardService.updateSellerScore(adminRating);
+
+        // Assert
+        verify(leaderboardRedisRepository).save(argThat(entry ->
+                entry.id().equals(1L) && entry.averageRating() == 4.5 && entry.totalComments() == 2));
+        verifyNoMoreInteractions(leaderboardRedisRepository);
+    }
+
+    /**
+     * Test case for removing sellers from the Redis leaderboard.
+     * Arrange: Nothing to arrange, the seller is removed outside a transaction
+     * Act: Remove the seller
+     * Assert: Verify the seller is removed from Redis
+     */
+    @Test
+    @DisplayName("Remove seller from Redis")
+    void testRemoveSeller() {
+        // Act
+        leaderboardService.removeSeller(1L);
+
+        // Assert
+        verify(leaderboardRedisRepository).remove(1L);
+    }
+
+    /**
+     * Test case for rebuilding the Redis leaderboard.
+     * Arrange: Mock an acquired rebuild lock and a database holding a single page of sellers
+     * Act: Rebuild the leaderboard
+     * Assert: Verify the sellers are staged and published under the ID of the rebuild
+     */
+    @Test
+    @DisplayName("Rebuild leaderboard into its own staging keys")
+    void testRebuildLeaderboard() {
+        // Arrange
+        List<LeaderboardEntryDTO> entries = List.of(createEntry(1L, 5.0, 2), createEntry(2L, 4.0, 1));
+        when(leaderboardRedisRepository.startRebuild(any())).thenReturn(Optional.of("rebuild"));
+        when(sellerRatingRepository.findLeaderboard(isNull(), any()))
+                .thenReturn(new SliceImpl<>(entries, PageRequest.of(0, 1000), false));
+        when(leaderboardRedisRepository.publishRebuild("rebuild")).thenReturn(true);
+
+        // Act
+        int total = leaderboardService.rebuildLeaderboard();
+
+        // Assert
+        assertEquals(2, total);
+        verify(leaderboardRedisRepository).addToRebuild(eq("rebuild"), eq(entries), any());
+        verify(leaderboardRedisRepository, never()).abortRebuild(any());
+    }
+
+    /**
+     * Test case for overlapping rebuilds.
+     * Arrange: Mock the rebuild lock to be held by another rebuild
+     * Act & Assert: Verify that ConflictException is thrown and the database is not read
+     */
+    @Test
+    @DisplayName("Reject rebuild while another one is running")
+    void testRebuildLeaderboardInProgress() {
+        // Arrange
+        when(leaderboardRedisRepository.startRebuild(any())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ConflictException.class, () -> leaderboardService.rebuildLeaderboard());
+        verifyNoInteractions(sellerRatingRepository);
+    }
+
+    /**
+     * Test case for a rebuild which outlived its lock.
+     * Arrange: Mock an acquired rebuild lock which has expired when the rebuild is published
+     * Act & Assert: Verify that ConflictException is thrown and the staging keys are dropped
+     */
+    @Test
+    @DisplayName("Discard rebuild which outlived its lock")
+    void testRebuildLeaderboardLockExpired() {
+        // Arrange
+        when(leaderboardRedisRepository.startRebuild(any())).thenReturn(Optional.of("rebuild"));
+        when(sellerRatingRepository.findLeaderboard(isNull(), any()))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 1000), false));
+        when(leaderboardRedisRepository.publishRebuild("rebuild")).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ConflictException.class, () -> leaderboardService.rebuildLeaderboard());
+        verify(leaderboardRedisRepository).abortRebuild("rebuild");
+    }
+
+    /**
+     * Test case for a per-game leaderboard.
+     * Arrange: Mock an empty page cache and a database page for the normalized game title
+     * Act: Get the leaderboard of a game title with different case and spacing, twice
+     * Assert: Verify the normalized title is queried and the cached page is served the second time
+     */
+    @Test
+    @DisplayName("Serve per-game leaderboard by normalized title")
+    void testGetGameLeaderboard() {
+        // Arrange
+        LeaderboardEntryDTO entry = createEntry(1L, 5.0, 1);
+        when(sellerRatingRepository.findLeaderboard(eq("dota two"), any()))
+                .thenReturn(new SliceImpl<>(List.of(entry), PageRequest.of(0, 20), false));
+        when(gameLeaderboardRedisRepository.findPage("dota two:20:page0"))
+                .thenReturn(Optional.empty());
+
+        // Act
+        CursorPageDTO<UserRankingDTO> page = leaderboardService.getLeaderboard("  Dota   TWO ", null, CursorPageRequestDTO.of(null, null));
+
+        // Assert
+        assertEquals(1, page.items().size());
+        verify(gameLeaderboardRedisRepository).savePage("dota two:20:page0", page);
+        verifyNoInteractions(leaderboardRedisRepository);
+
+        // Arrange
+        when(gameLeaderboardRedisRepository.findPage("dota two:20:page0"))
+                .thenReturn(Optional.of(page));
+
+        // Act & Assert
+        assertSame(page, leaderboardService.getLeaderboard("dota two", null, CursorPageRequestDTO.of(null, null)));
+        verify(sellerRatingRepository, times(1)).findLeaderboard(any(), any());
+    }
+}
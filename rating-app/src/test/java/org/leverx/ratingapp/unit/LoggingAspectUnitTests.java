@@ -0,0 +1,90 @@
+package org.leverx.ratingapp.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.leverx.ratingapp.config.aop.CommentLoggingAspect;
+import org.leverx.ratingapp.dtos.comments.CommentResponseDTO;
+import org.leverx.ratingapp.exceptions.ResourceNotFoundException;
+import org.leverx.ratingapp.services.comment.CommentService;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the logging aspects, through the {@link CommentLoggingAspect class}.
+ * This class tests the execution timers recorded around the intercepted methods.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Logging Aspect Unit Tests")
+class LoggingAspectUnitTests {
+
+    @Mock private CommentService commentService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CommentService proxy;
+
+    /**
+     * Sets up the comment service proxied by the aspect before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        CommentLoggingAspect aspect = new CommentLoggingAspect();
+        aspect.setMeterRegistry(meterRegistry);
+        aspect.setMaxLoggedLength(100);
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(commentService);
+        proxyFactory.addAspect(aspect);
+        proxy = proxyFactory.getProxy();
+    }
+
+    /**
+     * Test case for successful executions.
+     * Arrange: Mock the service to return a comment
+     * Act: Call the proxied method twice
+     * Assert: Verify the result is returned and both executions are recorded in the timer of the method
+     */
+    @Test
+    @DisplayName("Record successful executions per method")
+    void testRecordSuccessfulExecutions() {
+        // Arrange
+        CommentResponseDTO comment = CommentResponseDTO.builder().id(2L).build();
+        when(commentService.getComment(1L, 2L, false)).thenReturn(comment);
+
+        // Act
+        proxy.getComment(1L, 2L, false);
+        CommentResponseDTO result = proxy.getComment(1L, 2L, false);
+
+        // Assert
+        assertSame(comment, result);
+        assertEquals(2, meterRegistry.get("method.execution")
+                .tag("method", "getComment")
+                .tag("exception", "none")
+                .timer().count());
+    }
+
+    /**
+     * Test case for failed executions.
+     * Arrange: Mock the service to throw ResourceNotFoundException
+     * Act & Assert: Verify the exception is propagated and recorded in a timer tagged with its type
+     */
+    @Test
+    @DisplayName("Record failed executions tagged with the exception")
+    void testRecordFailedExecution() {
+        // Arrange
+        when(commentService.getComment(1L, 2L, false)).thenThrow(new ResourceNotFoundException("Comment not found"));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> proxy.getComment(1L, 2L, false));
+        assertEquals(1, meterRegistry.get("method.execution")
+                .tag("method", "getComment")
+                .tag("exception", "ResourceNotFoundException")
+                .timer().count());
+        assertNull(meterRegistry.find("method.execution").tag("exception", "none").timer());
+    }
+}
@@ -0,0 +1,101 @@
+package org.leverx.ratingapp.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.leverx.ratingapp.dtos.comments.CommentRequestDTO;
+import org.leverx.ratingapp.exceptions.ResourceNotFoundException;
+import org.leverx.ratingapp.repositories.redis.PendingCommentRedisRepository;
+import org.leverx.ratingapp.services.comment.CommentService;
+import org.leverx.ratingapp.services.pendingcomment.PendingCommentServiceImplementation;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link PendingCommentServiceImplementation class}.
+ * This class tests the processing of the comments left before the registration of their author.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Pending Comment Service Unit Tests")
+class PendingCommentServiceUnitTests {
+
+    private static final String EMAIL = "author@test.com";
+    private static final String PENDING_COMMENT = "{\"sellerId\":2,\"message\":\"Great seller\",\"grade\":5}";
+
+    @Mock private PendingCommentRedisRepository pendingCommentRedisRepository;
+    @Mock private CommentService commentService;
+
+    private PendingCommentServiceImplementation pendingCommentService;
+
+    @BeforeEach
+    void setUp() {
+        pendingCommentService = new PendingCommentServiceImplementation(
+                pendingCommentRedisRepository, commentService, new ObjectMapper());
+    }
+
+    /**
+     * Test case for processing a pending comment.
+     * Arrange: Mock a pending comment stored for the author
+     * Act: Process the pending comment
+     * Assert: Verify the comment is created from a single atomic read and removal
+     */
+    @Test
+    @DisplayName("Process pending comment in one round trip")
+    void testProcessPendingCommentConsumesIt() {
+        // Arrange
+        when(pendingCommentRedisRepository.getAndDelete(EMAIL)).thenReturn(PENDING_COMMENT);
+
+        // Act
+        pendingCommentService.processPendingComment(EMAIL);
+
+        // Assert
+        verify(commentService).create(2L, new CommentRequestDTO("Great seller", 5));
+        verify(pendingCommentRedisRepository).getAndDelete(EMAIL);
+        verifyNoMoreInteractions(pendingCommentRedisRepository);
+    }
+
+    /**
+     * Test case for a failure while creating the comment.
+     * Arrange: Mock a pending comment and a missing seller
+     * Act: Process the pending comment
+     * Assert: Verify the exception is propagated and the pending comment is saved back
+     */
+    @Test
+    @DisplayName("Restore pending comment when creation fails")
+    void testProcessPendingCommentRestoresOnFailure() {
+        // Arrange
+        when(pendingCommentRedisRepository.getAndDelete(EMAIL)).thenReturn(PENDING_COMMENT);
+        when(commentService.create(any(), any())).thenThrow(new ResourceNotFoundException("Seller not found"));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> pendingCommentService.processPendingComment(EMAIL));
+        verify(pendingCommentRedisRepository).save(EMAIL, PENDING_COMMENT);
+    }
+
+    /**
+     * Test case for an author without a pending comment.
+     * Arrange: Mock no pending comment stored for the author
+     * Act: Process the pending comment
+     * Assert: Verify no comment is created and nothing is saved back
+     */
+    @Test
+    @DisplayName("Ignore missing pending comment")
+    void testProcessPendingCommentWithoutComment() {
+        // Arrange
+        when(pendingCommentRedisRepository.getAndDelete(EMAIL)).thenReturn(null);
+
+        // Act
+        pendingCommentService.processPendingComment(EMAIL);
+
+        // Assert
+        verifyNoInteractions(commentService);
+        verify(pendingCommentRedisRepository, never()).save(anyString(), anyString());
+    }
+}
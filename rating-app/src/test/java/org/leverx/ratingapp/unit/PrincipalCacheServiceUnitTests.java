@@ -0,0 +1,210 @@
+package org.leverx.ratingapp.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.leverx.ratingapp.models.entities.User;
+import org.leverx.ratingapp.models.enums.Role;
+import org.leverx.ratingapp.repositories.UserRepository;
+import org.leverx.ratingapp.repositories.redis.PrincipalRedisRepository;
+import org.leverx.ratingapp.services.auth.principal.PrincipalCacheServiceImplementation;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link PrincipalCacheServiceImplementation class}.
+ * This class tests the caching and eviction of authenticated principals.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Principal Cache Service Unit Tests")
+class PrincipalCacheServiceUnitTests {
+
+    private static final String EMAIL = "seller@test.com";
+
+    @Mock private UserRepository userRepository;
+    @Mock private PrincipalRedisRepository principalRedisRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    // Helper method for creating the cache with or without the Redis tier
+    private PrincipalCacheServiceImplementation createCache(boolean redisEnabled) {
+        return new PrincipalCacheServiceImplementation(userRepository, principalRedisRepository, objectMapper,
+                100, Duration.ofMinutes(5), redisEnabled);
+    }
+
+    // Helper method for creating a seller stored in the database
+    private User createUser() {
+        return User.builder()
+                .id(1L)
+                .firstName("First")
+                .lastName("Last")
+                .email(EMAIL)
+                .password("hash")
+                .role(Role.SELLER)
+                .isActivated(true)
+                .build();
+    }
+
+    /**
+     * Test case for serving repeated requests from the local cache.
+     * Arrange: Mock the user in the database
+     * Act: Load the principal twice
+     * Assert: Verify a single database query, distinct instances and no cached password
+     */
+    @Test
+    @DisplayName("Load principal from the database once")
+    void testLoadPrincipalCachesLocally() {
+        // Arrange
+        PrincipalCacheServiceImplementation cache = createCache(false);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(createUser()));
+
+        // Act
+        UserDetails first = cache.loadPrincipal(EMAIL);
+        UserDetails second = cache.loadPrincipal(EMAIL);
+
+        // Assert
+        assertEquals(EMAIL, second.getUsername());
+        assertEquals(1L, ((User) second).getId());
+        assertNotSame(first, second);
+        assertNull(second.getPassword());
+        assertEquals(1, cache.getStatistics().hitCount());
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        verifyNoInteractions(principalRedisRepository);
+    }
+
+    /**
+     * Test case for publishing the cache statistics.
+     * Arrange: Bind the cache to a meter registry and mock the user in the database
+     * Act: Load the principal twice and evict it
+     * Assert: Verify the hit, miss and size meters of the principals cache
+     */
+    @Test
+    @DisplayName("Publish cache statistics as metrics")
+    void testBindTo() {
+        // Arrange
+        PrincipalCacheServiceImplementation cache = createCache(false);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cache.bindTo(meterRegistry);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(createUser()));
+
+        // Act
+        cache.loadPrincipal(EMAIL);
+        cache.loadPrincipal(EMAIL);
+        cache.evictPrincipal(EMAIL);
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "principals").tag("result", "miss")
+                .functionCounter().count());
+        assertEquals(0.0, meterRegistry.get("cache.size").tag("cache", "principals").gauge().value());
+        assertNotNull(meterRegistry.get("cache.evictions").tag("cache", "principals").functionCounter());
+    }
+
+    /**
+     * Test case for reloading a principal after eviction.
+     * Arrange: Load the principal, then deactivate the user in the database
+     * Act: Evict the principal and load it again
+     * Assert: Verify the changed user is loaded and removed from Redis
+     */
+    @Test
+    @DisplayName("Reload principal after eviction")
+    void testEvictPrincipal() {
+        // Arrange
+        PrincipalCacheServiceImplementation cache = createCache(true);
+        User changed = createUser();
+        changed.setIsActivated(false);
+        when(userRepository.findByEmail(EMAIL))
+                .thenReturn(Optional.of(createUser()))
+                .thenReturn(Optional.of(changed));
+        cache.loadPrincipal(EMAIL);
+
+        // Act
+        cache.evictPrincipal(EMAIL);
+        User reloaded = (User) cache.loadPrincipal(EMAIL);
+
+        // Assert
+        assertFalse(reloaded.getIsActivated());
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+        verify(principalRedisRepository).remove(EMAIL);
+    }
+
+    /**
+     * Test case for serving a local miss from the Redis tier.
+     * Arrange: Cache the principal in Redis through another instance
+     * Act: Load the principal on a fresh instance
+     * Assert: Verify the database is not queried
+     */
+    @Test
+    @DisplayName("Load principal from Redis on a local miss")
+    void testLoadPrincipalFromRedis() {
+        // Arrange
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(createUser()));
+        createCache(true).loadPrincipal(EMAIL);
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(principalRedisRepository).save(eq(EMAIL), json.capture());
+        when(principalRedisRepository.get(EMAIL)).thenReturn(json.getValue());
+
+        // Act
+        UserDetails principal = createCache(true).loadPrincipal(EMAIL);
+
+        // Assert
+        assertEquals(EMAIL, principal.getUsername());
+        assertEquals(Role.SELLER, ((User) principal).getRole());
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    /**
+     * Test case for falling back to the database when Redis is unavailable.
+     * Arrange: Mock Redis failures and the user in the database
+     * Act: Load the principal
+     * Assert: Verify the principal is loaded from the database
+     */
+    @Test
+    @DisplayName("Fall back to the database when Redis fails")
+    void testLoadPrincipalRedisFailure() {
+        // Arrange
+        PrincipalCacheServiceImplementation cache = createCache(true);
+        when(principalRedisRepository.get(EMAIL)).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down")).when(principalRedisRepository).save(eq(EMAIL), anyString());
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(createUser()));
+
+        // Act
+        UserDetails principal = cache.loadPrincipal(EMAIL);
+
+        // Assert
+        assertEquals(EMAIL, principal.getUsername());
+    }
+
+    /**
+     * Test case for an unknown user.
+     * Arrange: Mock no user in the database
+     * Act & Assert: Verify UsernameNotFoundException is thrown and nothing is cached
+     */
+    @Test
+    @DisplayName("Unknown user is not cached")
+    void testLoadPrincipalNotFound() {
+        // Arrange
+        PrincipalCacheServiceImplementation cache = createCache(false);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, () -> cache.loadPrincipal(EMAIL));
+        assertThrows(UsernameNotFoundException.class, () -> cache.loadPrincipal(EMAIL));
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.leverx.ratingapp.dtos.rating.SellerRatingAggregateDTO;
 import org.leverx.ratingapp.models.entities.Comment;
 import org.leverx.ratingapp.models.entities.SellerRating;
 import org.leverx.ratingapp.models.entities.User;
@@ -11,11 +12,17 @@ import org.leverx.ratingapp.exceptions.ResourceNotFoundException;
 import org.leverx.ratingapp.repositories.CommentRepository;
 import org.leverx.ratingapp.repositories.SellerRatingRepository;
 import org.leverx.ratingapp.repositories.UserRepository;
+import org.leverx.ratingapp.services.leaderboard.LeaderboardService;
 import org.leverx.ratingapp.services.rating.RatingCalculationServiceImplementation;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +39,8 @@ class RatingCalculationServiceUnitTests {
     @Mock private CommentRepository commentRepository;
     @Mock private SellerRatingRepository sellerRatingRepository;
     @Mock private UserRepository userRepository;
+    @Mock private LeaderboardService leaderboardService;
+    @Mock private TransactionTemplate transactionTemplate;
     @Mock private User seller;
 
     @InjectMocks
@@ -48,8 +57,10 @@ class RatingCalculationServiceUnitTests {
                 .build();
                 
         // Add common test data setup
-        when(sellerRatingRepository.findByUserId(seller.getId()))
+        lenient().when(sellerRatingRepository.findByUserId(seller.getId()))
                 .thenReturn(Optional.of(SellerRating.builder().user(seller).build()));
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
     // Helper method for creating test comments
@@ -60,6 +71,22 @@ class RatingCalculationServiceUnitTests {
                 .build();
     }
 
+    // Helper method for stubbing the database aggregate over the approved test comments
+    private void mockCommentAggregate(Comment... comments) {
+        List<Integer> grades = Arrays.stream(comments)
+                .filter(Comment::getIsApproved)
+                .map(Comment::getGrade)
+                .toList();
+        long[] histogram = new long[6];
+        grades.forEach(grade -> histogram[grade]++);
+        when(commentRepository.aggregateApprovedBySellerId(seller.getId()))
+                .thenReturn(new SellerRatingAggregateDTO(
+                        (long) grades.size(),
+                        grades.stream().mapToLong(Integer::longValue).sum(),
+                        grades.stream().mapToInt(Integer::intValue).average().orElse(0.0),
+                        histogram[1], histogram[2], histogram[3], histogram[4], histogram[5]));
+    }
+
     // Helper method for verifying rating calculations
     private void verifyRatingCalculation(double expectedAverage, int expectedTotal) {
         verify(sellerRatingRepository).save(argThat(rating ->
@@ -90,10 +117,9 @@ class RatingCalculationServiceUnitTests {
                 .user(seller)
                 .build();
 
-        when(sellerRatingRepository.findByUserId(seller.getId()))
+        when(sellerRatingRepository.findByUserIdForUpdate(seller.getId()))
                 .thenReturn(Optional.of(sellerRating));
-        when(commentRepository.findAllBySellerId(seller.getId()))
-                .thenReturn(Arrays.asList(comment1, comment2, comment3));
+        mockCommentAggregate(comment1, comment2, comment3);
         when(sellerRatingRepository.save(any(SellerRating.class)))
                 .thenReturn(sellerRating);
 
@@ -163,10 +189,9 @@ class RatingCalculationServiceUnitTests {
         Comment comment2 = createTestComment(3, true);
         Comment comment3 = createTestComment(4, true);
 
-        when(sellerRatingRepository.findByUserId(seller.getId()))
+        when(sellerRatingRepository.findByUserIdForUpdate(seller.getId()))
                 .thenReturn(Optional.of(SellerRating.builder().user(seller).build()));
-        when(commentRepository.findAllBySellerId(seller.getId()))
-                .thenReturn(Arrays.asList(comment1, comment2, comment3));
+        mockCommentAggregate(comment1, comment2, comment3);
 
         // Act
         ratingService.updateSellerRating(seller.getId());
@@ -189,10 +214,9 @@ class RatingCalculationServiceUnitTests {
         Comment comment1 = createTestComment(5, false);
         Comment comment2 = createTestComment(4, false);
 
-        when(sellerRatingRepository.findByUserId(seller.getId()))
+        when(sellerRatingRepository.findByUserIdForUpdate(seller.getId()))
                 .thenReturn(Optional.of(SellerRating.builder().user(seller).build()));
-        when(commentRepository.findAllBySellerId(seller.getId()))
-                .thenReturn(Arrays.asList(comment1, comment2));
+        mockCommentAggregate(comment1, comment2);
         // Act
         ratingService.updateSellerRating(seller.getId());
 
@@ -220,10 +244,9 @@ class RatingCalculationServiceUnitTests {
 
         Comment newComment = createTestComment(5, true);
 
-        when(sellerRatingRepository.findByUserId(seller.getId()))
+        when(sellerRatingRepository.findByUserIdForUpdate(seller.getId()))
                 .thenReturn(Optional.of(existing));
-        when(commentRepository.findAllBySellerId(seller.getId()))
-                .thenReturn(Arrays.asList(newComment));
+        mockCommentAggregate(newComment);
         // Act
         ratingService.updateSellerRating(seller.getId());
 
@@ -241,10 +264,10 @@ class RatingCalculationServiceUnitTests {
     @DisplayName("Handle seller not found exception")
     void testSellerNotFound() {
         // Arrange
-        when(sellerRatingRepository.findByUserId(seller.getId()))
-                .thenReturn(Optional.empty());
-        when(userRepository.findById(seller.getId()))
+        when(sellerRatingRepository.findByUserIdForUpdate(seller.getId()))
                 .thenReturn(Optional.empty());
+        when(userRepository.existsById(seller.getId()))
+                .thenReturn(false);
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () ->
                 ratingService.updateSellerRating(seller.getId()));
@@ -288,10 +311,9 @@ class RatingCalculationServiceUnitTests {
         Comment comment1 = createTestComment(4, true);
         Comment comment2 = createTestComment(5, true);
 
-        when(sellerRatingRepository.findByUserId(seller.getId()))
+        when(sellerRatingRepository.findByUserIdForUpdate(seller.getId()))
                 .thenReturn(Optional.of(SellerRating.builder().user(seller).build()));
-        when(commentRepository.findAllBySellerId(seller.getId()))
-                .thenReturn(Arrays.asList(comment1, comment2));
+        mockCommentAggregate(comment1, comment2);
 
         // Act
         ratingService.updateSellerRating(seller.getId());
@@ -301,4 +323,184 @@ class RatingCalculationServiceUnitTests {
                 rating.getRating() == 5 // 4.5 rounded up to 5
         ));
     }
+
+    /**
+     * Test case for applying an approved grade incrementally.
+     * Arrange: Create existing rating holding grades 4 and 5
+     * Act: Apply a newly approved grade 3
+     * Assert: Verify the average (4.0), total (3) and histogram were updated
+     *        without loading the seller's comments
+     */
+    @Test
+    @DisplayName("Apply approved grade incrementally")
+    void testApplyApprovedGrade() {
+        // Arrange
+        SellerRating existing = SellerRating.builder().user(seller).build();
+        existing.addGrade(4);
+        existing.addGrade(5);
+        when(sellerRatingRepository.findByUserIdForUpdate(seller.getId()))
+                .thenReturn(Optional.of(existing));
+
+        // Act
+        ratingService.applyApprovedGrade(seller.getId(), 3);
+
+        // Assert
+        verifyRatingCalculation(4.0, 3);
+        assertEquals(12L, existing.getGradeSum());
+        assertEquals(1, existing.getGradeThreeCount());
+        verifyNoInteractions(commentRepository);
+        verify(leaderboardService).updateSellerScore(any());
+    }
+
+    /**
+     * Test case for removing and changing approved grades incrementally.
+     * Arrange: Create existing rating holding grades 2, 4 and 5
+     * Act: Remove grade 2, then change grade 4 to 1
+     * Assert: Verify the final aggregates reflect grades 1 and 5 only
+     */
+    @Test
+    @DisplayName("Remove and change approved grades incrementally")
+    void testRemoveAndChangeApprovedGrade() {
+        // Arrange
+        SellerRating existing = SellerRating.builder().user(seller).build();
+        existing.addGrade(2);
+        existing.addGrade(4);
+        existing.addGrade(5);
+        when(sellerRatingRepository.findByUserIdForUpdate(seller.getId()))
+                .thenReturn(Optional.of(existing));
+
+        // Act
+        ratingService.removeApprovedGrade(seller.getId(), 2);
+        ratingService.changeApprovedGrade(seller.getId(), 4, 1);
+
+        // Assert
+        assertEquals(3.0, existing.getAverageRating());
+        assertEquals(2, existing.getTotalComments());
+        assertEquals(0, existing.getGradeTwoCount());
+        assertEquals(0, existing.getGradeFourCount());
+        assertEquals(1, existing.getGradeOneCount());
+        assertEquals(1, existing.getGradeFiveCount());
+        verifyNoInteractions(commentRepository);
+    }
+
+    /**
+     * Test case for reconciling a drifted seller rating.
+     * Arrange: Create rating claiming 10 comments while only two approved comments exist
+     * Act: Reconcile all seller ratings
+     * Assert: Verify one rating was repaired to average 4.5 and 2 comments
+     */
+    @Test
+    @DisplayName("Reconcile drifted seller rating")
+    void testReconcileSellerRatings() {
+        // Arrange
+        SellerRating drifted = SellerRating.builder()
+                .user(seller)
+                .totalComments(10)
+                .gradeSum(50L)
+                .gradeFiveCount(10)
+                .averageRating(5.0)
+                .build();
+        when(sellerRatingRepository.findAllSellerIds()).thenReturn(List.of(seller.getId()));
+        when(sellerRatingRepository.findAllByUserIdIn(List.of(seller.getId()))).thenReturn(List.of(drifted));
+        mockCommentAggregate(createTestComment(4, true), createTestComment(5, true),
+                        createTestComment(1, false));
+
+        // Act
+        int repaired = ratingService.reconcileSellerRatings();
+
+        // Assert
+        assertEquals(1, repaired);
+        verifyRatingCalculation(4.5, 2);
+    }
+
+    /**
+     * Test case for reconciling ratings updated by concurrent moderations.
+     * Arrange: Mock two drifted sellers, the first one conflicting once, the second one conflicting on every attempt
+     * Act: Reconcile all seller ratings
+     * Assert: Verify the first rating is repaired on its second attempt, and the second one is skipped
+     *        after three attempts without aborting the reconciliation
+     */
+    @Test
+    @DisplayName("Retry reconciliation of concurrently updated seller ratings")
+    void testReconcileSellerRatingsConcurrentUpdate() {
+        // Arrange
+        User other = User.builder().id(2L).build();
+        when(sellerRatingRepository.findAllSellerIds()).thenReturn(List.of(seller.getId(), other.getId()));
+        when(sellerRatingRepository.findAllByUserIdIn(any())).thenAnswer(invocation -> {
+            Long sellerId = invocation.<List<Long>>getArgument(0).getFirst();
+            return List.of(SellerRating.builder()
+                    .user(sellerId.equals(seller.getId()) ? seller : other)
+                    .totalComments(10)
+                    .build());
+        });
+        when(commentRepository.aggregateApprovedBySellerId(any()))
+                .thenReturn(new SellerRatingAggregateDTO(1L, 5L, 5.0, 0L, 0L, 0L, 0L, 1L));
+        doThrow(new OptimisticLockingFailureException("conflict"))
+                .doAnswer(invocation -> invocation.getArgument(0))
+                .doThrow(new OptimisticLockingFailureException("conflict"))
+                .when(sellerRatingRepository).save(any(SellerRating.class));
+
+        // Act
+        int repaired = ratingService.reconcileSellerRatings();
+
+        // Assert
+        assertEquals(1, repaired);
+        verify(transactionTemplate, times(5)).execute(any());
+        verify(leaderboardService, times(1)).updateSellerScore(any());
+    }
+
+    /**
+     * Test case for recalculating the ratings of a batch of sellers.
+     * Arrange: Mock the existing rating of the seller and a second seller which was deleted
+     * Act: Update the ratings of both sellers
+     * Assert: Verify the existing rating is recalculated once and the deleted seller is skipped
+     */
+    @Test
+    @DisplayName("Update seller ratings in a batch, skipping deleted sellers")
+    void testUpdateSellerRatings() {
+        // Arrange
+        SellerRating sellerRating = SellerRating.builder().user(seller).build();
+        when(sellerRatingRepository.findAllByUserIdIn(List.of(seller.getId(), 2L)))
+                .thenReturn(List.of(sellerRating));
+        when(userRepository.existsById(2L)).thenReturn(false);
+        mockCommentAggregate(createTestComment(5, true), createTestComment(4, true));
+        when(sellerRatingRepository.save(any(SellerRating.class))).thenReturn(sellerRating);
+
+        // Act
+        ratingService.updateSellerRatings(List.of(seller.getId(), 2L));
+
+        // Assert
+        verifyRatingCalculation(4.5, 2);
+        verify(commentRepository, never()).aggregateApprovedBySellerId(2L);
+        verify(sellerRatingRepository, never()).findByUserId(any());
+        verify(sellerRatingRepository, never()).insertIfAbsent(any(), any());
+    }
+
+    /**
+     * Test case for the creation of a missing seller rating.
+     * Arrange: Mock the rating of the seller to be missing until it is inserted,
+     *         possibly by a concurrent transaction
+     * Act: Apply an approved grade
+     * Assert: Verify the rating is inserted if absent, re-read with a lock and updated, and never saved as new
+     */
+    @Test
+    @DisplayName("Create missing seller rating tolerating a concurrent creation")
+    void testCreateMissingSellerRating() {
+        // Arrange
+        SellerRating created = SellerRating.builder().user(seller).build();
+        when(sellerRatingRepository.findByUserIdForUpdate(seller.getId()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(created));
+        when(userRepository.existsById(seller.getId())).thenReturn(true);
+        when(sellerRatingRepository.insertIfAbsent(eq(seller.getId()), any())).thenReturn(0);
+
+        // Act
+        ratingService.applyApprovedGrade(seller.getId(), 4);
+
+        // Assert
+        verify(sellerRatingRepository).insertIfAbsent(eq(seller.getId()), any());
+        verify(sellerRatingRepository).save(created);
+        assertEquals(1, created.getTotalComments());
+        assertEquals(4L, created.getGradeSum());
+    }
 }
@@ -0,0 +1,199 @@
+package org.leverx.ratingapp.unit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.leverx.ratingapp.services.rating.RatingCalculationService;
+import org.leverx.ratingapp.services.rating.RatingUpdateServiceImplementation;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link RatingUpdateServiceImplementation class}.
+ * This class tests the coalescing of the moderation events per seller and their batched recalculation.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Rating Update Service Unit Tests")
+class RatingUpdateServiceUnitTests {
+
+    @Mock private RatingCalculationService ratingCalculationService;
+
+    private RatingUpdateServiceImplementation createService(boolean writeBehindEnabled, Duration window) {
+        return new RatingUpdateServiceImplementation(ratingCalculationService, writeBehindEnabled, window, 100, 3);
+    }
+
+    /**
+     * Test case for a burst of moderation events for the same seller.
+     * Arrange: Enable write-behind without a coalescing window
+     * Act: Record several approvals, a removal and a grade change for one seller, and apply the due updates
+     * Assert: Verify the seller rating is recalculated once and no delta is applied
+     */
+    @Test
+    @DisplayName("Coalesce moderation events into one recalculation")
+    void testCoalesceEvents() {
+        // Arrange
+        RatingUpdateServiceImplementation ratingUpdateService = createService(true, Duration.ZERO);
+
+        // Act
+        ratingUpdateService.gradeApproved(1L, 5);
+        ratingUpdateService.gradeApproved(1L, 4);
+        ratingUpdateService.gradeRemoved(1L, 5);
+        ratingUpdateService.gradeChanged(1L, 4, 3);
+        int applied = ratingUpdateService.applyDueUpdates();
+
+        // Assert
+        assertEquals(1, applied);
+        verify(ratingCalculationService).updateSellerRatings(List.of(1L));
+        verifyNoMoreInteractions(ratingCalculationService);
+        assertEquals(0, ratingUpdateService.applyDueUpdates());
+    }
+
+    /**
+     * Test case for the read-your-writes refresh.
+     * Arrange: Enable write-behind with a window which has not elapsed and record an approval
+     * Act: Apply the due updates, then refresh the rating of the seller
+     * Assert: Verify the rating is not recalculated before its window, but right away when refreshed,
+     *        and is no longer pending afterwards
+     */
+    @Test
+    @DisplayName("Refresh pending rating before its window elapses")
+    void testRefreshPendingRating() {
+        // Arrange
+        RatingUpdateServiceImplementation ratingUpdateService = createService(true, Duration.ofHours(1));
+        ratingUpdateService.gradeApproved(1L, 5);
+
+        // Act & Assert
+        assertEquals(0, ratingUpdateService.applyDueUpdates());
+        verifyNoInteractions(ratingCalculationService);
+
+        ratingUpdateService.refreshSellerRating(1L);
+        verify(ratingCalculationService, times(1)).updateSellerRatings(List.of(1L));
+        assertEquals(0, ratingUpdateService.applyAllUpdates());
+    }
+
+    /**
+     * Test case for a refresh racing with a batch which already polled the seller.
+     * Arrange: Enable write-behind without a coalescing window, record an approval and apply the due updates,
+     *         so that the seller is no longer pending
+     * Act: Refresh the rating of the seller
+     * Assert: Verify the rating is recalculated again, instead of relying on the batch having committed
+     */
+    @Test
+    @DisplayName("Refresh rating which is no longer pending")
+    void testRefreshPolledRating() {
+        // Arrange
+        RatingUpdateServiceImplementation ratingUpdateService = createService(true, Duration.ZERO);
+        ratingUpdateService.gradeApproved(1L, 5);
+        assertEquals(1, ratingUpdateService.applyDueUpdates());
+
+        // Act
+        ratingUpdateService.refreshSellerRating(1L);
+
+        // Assert
+        verify(ratingCalculationService, times(2)).updateSellerRatings(List.of(1L));
+    }
+
+    /**
+     * Test case for the refresh without write-behind.
+     * Arrange: Disable write-behind, so that events are applied within the moderation transaction
+     * Act: Refresh the rating of the seller
+     * Assert: Verify nothing is recalculated
+     */
+    @Test
+    @DisplayName("Skip refresh without write-behind")
+    void testRefreshWithoutWriteBehind() {
+        // Arrange
+        RatingUpdateServiceImplementation ratingUpdateService = createService(false, Duration.ZERO);
+
+        // Act
+        ratingUpdateService.refreshSellerRating(1L);
+
+        // Assert
+        verifyNoInteractions(ratingCalculationService);
+    }
+
+    /**
+     * Test case for a failing recalculation.
+     * Arrange: Enable write-behind and mock the first recalculation to fail
+     * Act: Record an approval and apply the due updates twice
+     * Assert: Verify the failure is propagated and the seller is recalculated again on the next run
+     */
+    @Test
+    @DisplayName("Retry pending rating after a failed recalculation")
+    void testRetryAfterFailure() {
+        // Arrange
+        RatingUpdateServiceImplementation ratingUpdateService = createService(true, Duration.ZERO);
+        doThrow(new QueryTimeoutException("timeout")).doNothing()
+                .when(ratingCalculationService).updateSellerRatings(any());
+        ratingUpdateService.gradeApproved(1L, 5);
+
+        // Act & Assert
+        assertThrows(QueryTimeoutException.class, ratingUpdateService::applyDueUpdates);
+        assertEquals(1, ratingUpdateService.applyDueUpdates());
+        verify(ratingCalculationService, times(2)).updateSellerRatings(List.of(1L));
+    }
+
+    /**
+     * Test case for a recalculation conflicting with concurrent updates of the rating.
+     * Arrange: Enable write-behind and mock the recalculation to fail on the version check twice, then always
+     * Act: Record approvals for two sellers and apply the due updates each time
+     * Assert: Verify the first batch succeeds on its third attempt, and the second one fails after three attempts
+     *        and stays pending
+     */
+    @Test
+    @DisplayName("Retry recalculation a bounded number of times on concurrent updates")
+    void testRetryOnConcurrentUpdate() {
+        // Arrange
+        RatingUpdateServiceImplementation ratingUpdateService = createService(true, Duration.ZERO);
+        OptimisticLockingFailureException conflict = new OptimisticLockingFailureException("conflict");
+        doThrow(conflict).doThrow(conflict).doNothing()
+                .when(ratingCalculationService).updateSellerRatings(List.of(1L));
+        doThrow(conflict).when(ratingCalculationService).updateSellerRatings(List.of(2L));
+
+        // Act & Assert
+        ratingUpdateService.gradeApproved(1L, 5);
+        assertEquals(1, ratingUpdateService.applyDueUpdates());
+        verify(ratingCalculationService, times(3)).updateSellerRatings(List.of(1L));
+
+        ratingUpdateService.gradeApproved(2L, 5);
+        assertThrows(OptimisticLockingFailureException.class, ratingUpdateService::applyDueUpdates);
+        verify(ratingCalculationService, times(3)).updateSellerRatings(List.of(2L));
+        assertThrows(OptimisticLockingFailureException.class, ratingUpdateService::applyDueUpdates);
+        verify(ratingCalculationService, times(6)).updateSellerRatings(List.of(2L));
+    }
+
+    /**
+     * Test case for the synchronous mode.
+     * Arrange: Disable write-behind
+     * Act: Record an approval, a removal and a grade change
+     * Assert: Verify each event is applied as a delta right away and nothing is left pending
+     */
+    @Test
+    @DisplayName("Apply events as deltas without write-behind")
+    void testSynchronousMode() {
+        // Arrange
+        RatingUpdateServiceImplementation ratingUpdateService = createService(false, Duration.ZERO);
+
+        // Act
+        ratingUpdateService.gradeApproved(1L, 5);
+        ratingUpdateService.gradeRemoved(1L, 4);
+        ratingUpdateService.gradeChanged(1L, 3, 2);
+
+        // Assert
+        verify(ratingCalculationService).applyApprovedGrade(1L, 5);
+        verify(ratingCalculationService).removeApprovedGrade(1L, 4);
+        verify(ratingCalculationService).changeApprovedGrade(1L, 3, 2);
+        assertEquals(0, ratingUpdateService.applyAllUpdates());
+        verifyNoMoreInteractions(ratingCalculationService);
+    }
+}
@@ -0,0 +1,102 @@
+package org.leverx.ratingapp.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.leverx.ratingapp.config.InstrumentedJedisConnectionFactory;
+import org.leverx.ratingapp.config.RedisConfig;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link RedisConfig} class.
+ * This class tests that the pooled connection factory is built from the Redis properties and exports its pool metrics.
+ */
+@DisplayName("Redis Config Unit Tests")
+class RedisConfigUnitTests {
+
+    private final RedisConfig redisConfig = new RedisConfig();
+    private InstrumentedJedisConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        RedisProperties redisProperties = new RedisProperties();
+        redisProperties.setHost("redis.test");
+        redisProperties.setPort(6380);
+        redisProperties.setConnectTimeout(Duration.ofSeconds(2));
+        redisProperties.setTimeout(Duration.ofSeconds(3));
+        RedisProperties.Pool pool = redisProperties.getJedis().getPool();
+        pool.setMaxActive(32);
+        pool.setMaxIdle(16);
+        pool.setMinIdle(0);
+        pool.setMaxWait(Duration.ofMillis(500));
+        pool.setTimeBetweenEvictionRuns(Duration.ofSeconds(30));
+
+        connectionFactory = redisConfig.jedisConnectionFactory(redisProperties, false, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    /**
+     * Test case for building the connection factory.
+     * Arrange: Set the host, timeouts and pool sizes in the Redis properties
+     * Act: Build the connection factory
+     * Assert: Verify the server, timeouts, pool sizes and validation policy are taken from the properties
+     */
+    @Test
+    @DisplayName("Build the pooled connection factory from the properties")
+    void testJedisConnectionFactory() {
+        // Act
+        GenericObjectPoolConfig<?> poolConfig = connectionFactory.getPoolConfig();
+
+        // Assert
+        assertEquals("redis.test", connectionFactory.getHostName());
+        assertEquals(6380, connectionFactory.getPort());
+        assertTrue(connectionFactory.getUsePool());
+        assertEquals(Duration.ofSeconds(2), connectionFactory.getClientConfiguration().getConnectTimeout());
+        assertEquals(Duration.ofSeconds(3), connectionFactory.getClientConfiguration().getReadTimeout());
+        assertNotNull(poolConfig);
+        assertEquals(32, poolConfig.getMaxTotal());
+        assertEquals(16, poolConfig.getMaxIdle());
+        assertEquals(0, poolConfig.getMinIdle());
+        assertEquals(Duration.ofMillis(500), poolConfig.getMaxWaitDuration());
+        assertEquals(Duration.ofSeconds(30), poolConfig.getDurationBetweenEvictionRuns());
+        assertFalse(poolConfig.getTestOnBorrow());
+        assertTrue(poolConfig.getTestWhileIdle());
+    }
+
+    /**
+     * Test case for exporting the pool metrics.
+     * Arrange: Bind the connection factory to a meter registry
+     * Act: Start the connection factory, which creates its pool without connecting
+     * Assert: Verify the pool gauges report no value before the pool exists, then the empty pool,
+     * and the borrow histogram is registered
+     */
+    @Test
+    @DisplayName("Export the pool state as metrics")
+    void testBindTo() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        connectionFactory.bindTo(meterRegistry);
+        assertTrue(Double.isNaN(meterRegistry.get("redis.pool.active").gauge().value()));
+
+        // Act
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        // Assert
+        assertEquals(0.0, meterRegistry.get("redis.pool.active").gauge().value());
+        assertEquals(0.0, meterRegistry.get("redis.pool.idle").gauge().value());
+        assertEquals(0.0, meterRegistry.get("redis.pool.waiters").gauge().value());
+        assertEquals(0, meterRegistry.get("redis.pool.borrow").timer().count());
+    }
+}
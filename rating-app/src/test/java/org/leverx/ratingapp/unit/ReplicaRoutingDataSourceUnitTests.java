@@ -0,0 +1,166 @@
+package org.leverx.ratingapp.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.leverx.ratingapp.config.ReplicaRoutingDataSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link ReplicaRoutingDataSource class}.
+ * This class tests the routing of the transactions between the primary and the replica, and the fallback
+ * to the primary when the replica lags behind or cannot be reached.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Replica Routing DataSource Unit Tests")
+class ReplicaRoutingDataSourceUnitTests {
+
+    @Mock private DataSource primary;
+    @Mock private DataSource replica;
+    @Mock private Connection primaryConnection;
+    @Mock private Connection replicaConnection;
+    @Mock private Statement statement;
+    @Mock private ResultSet resultSet;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    /**
+     * Sets up the routing data source with a maximum lag of 5 seconds before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, Duration.ofSeconds(5));
+    }
+
+    /**
+     * Clears the read-only flag of the simulated transaction after each test case.
+     */
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    /**
+     * Test case for read-write transactions.
+     * Arrange: Report a replica in sync, outside a read-only transaction
+     * Act: Request a connection
+     * Assert: Verify the connection comes from the primary
+     */
+    @Test
+    @DisplayName("Route read-write transactions to the primary")
+    void testRouteReadWriteToPrimary() throws SQLException {
+        // Arrange
+        mockReplicaLag(0.0);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        routingDataSource.checkReplicaLag();
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        verify(replica, times(1)).getConnection();
+    }
+
+    /**
+     * Test case for read-only transactions on a replica within the maximum lag.
+     * Arrange: Report a replication lag of 2 seconds, inside a read-only transaction
+     * Act: Request a connection
+     * Assert: Verify the connection comes from the replica
+     */
+    @Test
+    @DisplayName("Route read-only transactions to the replica")
+    void testRouteReadOnlyToReplica() throws SQLException {
+        // Arrange
+        mockReplicaLag(2.0);
+        routingDataSource.checkReplicaLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertTrue(routingDataSource.isReplicaAvailable());
+        assertSame(replicaConnection, connection);
+        verifyNoInteractions(primary);
+    }
+
+    /**
+     * Test case for a replica lagging behind.
+     * Arrange: Report a replication lag of 30 seconds, inside a read-only transaction
+     * Act: Request a connection
+     * Assert: Verify the connection comes from the primary and the fallback is counted
+     */
+    @Test
+    @DisplayName("Fall back to the primary when the replica lags behind")
+    void testFallBackWhenReplicaLags() throws SQLException {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        routingDataSource.bindTo(meterRegistry);
+        mockReplicaLag(30.0);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        routingDataSource.checkReplicaLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertFalse(routingDataSource.isReplicaAvailable());
+        assertSame(primaryConnection, connection);
+        assertEquals(30.0, meterRegistry.get("datasource.replica.lag").gauge().value());
+        assertEquals(1.0, meterRegistry.get("datasource.replica.fallbacks").functionCounter().count());
+    }
+
+    /**
+     * Test case for a replica which cannot be reached.
+     * Arrange: Report a replica in sync, then fail the next connection to it, inside a read-only transaction
+     * Act: Request two connections
+     * Assert: Verify both connections come from the primary and the replica is not retried before the next check
+     */
+    @Test
+    @DisplayName("Fall back to the primary when the replica cannot be reached")
+    void testFallBackWhenReplicaUnreachable() throws SQLException {
+        // Arrange
+        mockReplicaLag(0.0);
+        routingDataSource.checkReplicaLag();
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Connection first = routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, first);
+        assertSame(primaryConnection, second);
+        assertFalse(routingDataSource.isReplicaAvailable());
+        verify(replica, times(2)).getConnection();
+    }
+
+    private void mockReplicaLag(double lag) throws SQLException {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lag);
+        when(resultSet.wasNull()).thenReturn(false);
+    }
+}